@@ -0,0 +1,50 @@
+package org.example;
+
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.algorithm.VectorBellmanFord;
+import org.example.model.Graph;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Клас VectorBenchmark вимірює пропускну здатність ядра релаксації в ns/edge:
+ * векторне ядро проти скалярного над тими самими масивами та проти SequentialBellmanFord.
+ * Запуск: mvn -Pvector compile, далі
+ * java --add-modules jdk.incubator.vector -cp target/classes org.example.VectorBenchmark
+ */
+public class VectorBenchmark {
+    public static void main(String[] args) {
+        int n = 200_000;
+        int m = 2_000_000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(1);
+        for (int i = 0; i < m; i++) {
+            graph.addEdge(rnd.nextInt(n), rnd.nextInt(n), rnd.nextInt(100));
+        }
+        int source = 0;
+        System.out.println("Vector lanes (int): " + VectorBellmanFord.lanes());
+
+        int[] reference = new SequentialBellmanFord().findShortestPaths(graph, source);
+        for (int warmup = 0; warmup < 3; warmup++) {
+            new VectorBellmanFord(true).findShortestPaths(graph, source);
+            new VectorBellmanFord(false).findShortestPaths(graph, source);
+        }
+
+        long start = System.nanoTime();
+        new SequentialBellmanFord().findShortestPaths(graph, source);
+        long sequentialNs = System.nanoTime() - start;
+        System.out.printf("SequentialBellmanFord: %d ms%n", sequentialNs / 1_000_000);
+
+        for (boolean vectorized : new boolean[]{false, true}) {
+            VectorBellmanFord bf = new VectorBellmanFord(vectorized);
+            start = System.nanoTime();
+            int[] dist = bf.findShortestPaths(graph, source);
+            long elapsed = System.nanoTime() - start;
+            long relaxed = (long) bf.getLastPassCount() * m;
+            System.out.printf("%s kernel: %d ms, passes=%d, %.2f ns/edge, padding=%d edges, equal=%s%n",
+                    vectorized ? "Vector" : "Scalar", elapsed / 1_000_000, bf.getLastPassCount(),
+                    (double) elapsed / relaxed, bf.getLastPaddingCount(), Arrays.equals(reference, dist));
+        }
+    }
+}
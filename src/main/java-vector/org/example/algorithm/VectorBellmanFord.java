@@ -0,0 +1,152 @@
+package org.example.algorithm;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.example.model.CsrGraph;
+import org.example.model.Graph;
+
+import java.util.Arrays;
+
+/**
+ * Послідовний Bellman-Ford із SIMD-ядром релаксації на Java Vector API (jdk.incubator.vector).
+ * <p>
+ * Ребра зберігаються як структура масивів (src, dst, weight), розкладена по смугах: ребро з
+ * кінцем v іде в смугу v mod VLEN, і блок j складається з j-х ребер усіх смуг. Тож у блоці всі
+ * смуги пишуть у різні dist[dst], і замість скаттер-мінімуму (якого у Vector API немає) досить
+ * звичайного маскованого scatter: gather dist[src], додавання ваг, маска «не нескінченність»,
+ * gather dist[dst], порівняння і scatter покращень. Коротші смуги доповнено фіктивними
+ * ребрами з вершини-заглушки n (dist[n] – нескінченність), які маска завжди відкидає;
+ * на графах із перекосом кінців за модулем VLEN доповнення росте.
+ * Блок без жодної покращувальної смуги пропускається цілком.
+ * <p>
+ * Експериментальний: на випадкових графах gather-и dist упираються в пам’ять, і ядро поки
+ * повільніше за скалярне над тими самими масивами (див. VectorBenchmark), тож його не вибирає
+ * жоден інтерфейс чи бенчмарк основної збірки.
+ * Потребує JDK 17+ і збирається профілем {@code -Pvector}; для Java 11 лишаються
+ * {@link SequentialBellmanFord} і {@link ParallelBellmanFord}.
+ */
+public class VectorBellmanFord implements IShortestPaths {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private final boolean vectorized;
+    private volatile int lastPasses;
+    private volatile int lastPadding;
+
+    public VectorBellmanFord() {
+        this(true);
+    }
+
+    /**
+     * @param vectorized false – те саме ядро над тими самими масивами, але скалярне
+     *                   (для порівняння пропускної здатності ns/edge)
+     */
+    public VectorBellmanFord(boolean vectorized) {
+        this.vectorized = vectorized;
+    }
+
+    /** Кількість повних проходів по ребрах в останньому виклику (без фінальної перевірки) */
+    public int getLastPassCount() {
+        return lastPasses;
+    }
+
+    /** Скільки фіктивних ребер додано в останньому виклику, щоб вирівняти смуги */
+    public int getLastPaddingCount() {
+        return lastPadding;
+    }
+
+    /** Ширина вектора в int-ах на цій машині */
+    public static int lanes() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public int[] findShortestPaths(Graph graph, int source) {
+        CsrGraph csr = CsrGraph.fromGraphWithReverse(graph);
+        int n = csr.getVertexCount();
+        int m = csr.getEdgeCount();
+
+        // Структура масивів по смугах: смуга – кінець mod VLEN, усередині смуги ребра за кінцем
+        int lanes = SPECIES.length();
+        int[] laneSize = new int[lanes];
+        for (int v = 0; v < n; v++) {
+            laneSize[v % lanes] += csr.inOffset(v + 1) - csr.inOffset(v);
+        }
+        int blocks = 0;
+        for (int size : laneSize) {
+            blocks = Math.max(blocks, size);
+        }
+        int slots = blocks * lanes;
+        int[] src = new int[slots];
+        int[] dst = new int[slots];
+        int[] weight = new int[slots];
+        // Фіктивні ребра n -> n з вагою 0: dist[n] нескінченна, тож смуга ніколи не пише
+        Arrays.fill(src, n);
+        Arrays.fill(dst, n);
+        int[] laneFill = new int[lanes];
+        for (int v = 0; v < n; v++) {
+            int lane = v % lanes;
+            int end = csr.inOffset(v + 1);
+            for (int e = csr.inOffset(v); e < end; e++) {
+                int slot = laneFill[lane]++ * lanes + lane;
+                src[slot] = csr.source(e);
+                dst[slot] = v;
+                weight[slot] = csr.inWeight(e);
+            }
+        }
+        lastPadding = slots - m;
+
+        int[] dist = new int[n + 1];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[source] = 0;
+
+        for (int pass = 0; pass < n - 1; pass++) {
+            boolean updated = vectorized
+                    ? relaxVector(src, dst, weight, dist)
+                    : relaxScalar(src, dst, weight, dist);
+            if (!updated) {
+                lastPasses = pass + 1;
+                return Arrays.copyOf(dist, n);
+            }
+        }
+        lastPasses = Math.max(0, n - 1);
+
+        // Перевірка на від’ємні цикли: ще один прохід не має нічого покращити
+        boolean updated = vectorized
+                ? relaxVector(src, dst, weight, dist)
+                : relaxScalar(src, dst, weight, dist);
+        return updated ? null : Arrays.copyOf(dist, n);
+    }
+
+    /** Прохід по блоках: у блоці всі dst різні, тож покращення записуються одним scatter */
+    private static boolean relaxVector(int[] src, int[] dst, int[] weight, int[] dist) {
+        int m = src.length;
+        boolean updated = false;
+        for (int i = 0; i < m; i += SPECIES.length()) {
+            IntVector du = IntVector.fromArray(SPECIES, dist, 0, src, i);
+            VectorMask<Integer> finite = du.compare(VectorOperators.NE, Integer.MAX_VALUE);
+            IntVector candidate = du.add(IntVector.fromArray(SPECIES, weight, i));
+            IntVector dv = IntVector.fromArray(SPECIES, dist, 0, dst, i);
+            VectorMask<Integer> improving = candidate.lt(dv).and(finite);
+            if (improving.anyTrue()) {
+                candidate.intoArray(dist, 0, dst, i, improving);
+                updated = true;
+            }
+        }
+        return updated;
+    }
+
+    private static boolean relaxScalar(int[] src, int[] dst, int[] weight, int[] dist) {
+        boolean updated = false;
+        for (int i = 0; i < src.length; i++) {
+            int d = dist[src[i]];
+            if (d != Integer.MAX_VALUE && d + weight[i] < dist[dst[i]]) {
+                dist[dst[i]] = d + weight[i];
+                updated = true;
+            }
+        }
+        return updated;
+    }
+}
@@ -1,9 +1,48 @@
 package org.example;
 
+import org.example.algorithm.BatchShortestPaths;
+import org.example.algorithm.CheckpointedBellmanFord;
+import org.example.algorithm.CompressedBellmanFord;
+import org.example.algorithm.GoldbergRadzikShortestPaths;
+import org.example.algorithm.ILongShortestPaths;
+import org.example.algorithm.IShortestPaths;
+import org.example.algorithm.LabelPropagationPartitioner;
+import org.example.algorithm.LandmarkOracle;
+import org.example.algorithm.MinPlusSpmvBellmanFord;
 import org.example.algorithm.ParallelBellmanFord;
+import org.example.algorithm.PartitionedBellmanFord;
+import org.example.algorithm.ParallelBellmanFordLong;
+import org.example.algorithm.ParallelCalibration;
+import org.example.algorithm.PointToPointShortestPaths;
+import org.example.algorithm.PrunedShortestPaths;
+import org.example.algorithm.RandomizedBellmanFord;
+import org.example.algorithm.ReorderedShortestPaths;
+import org.example.algorithm.SaturatingBellmanFord;
+import org.example.algorithm.Semiring;
+import org.example.algorithm.SemiringBellmanFord;
 import org.example.algorithm.SequentialBellmanFord;
+import org.example.algorithm.SequentialBellmanFordLong;
+import org.example.algorithm.SpfaBellmanFord;
+import org.example.algorithm.StreamingBellmanFord;
+import org.example.algorithm.VertexReordering;
+import org.example.distributed.DistributedBellmanFord;
+import org.example.model.BlockedAdjacencyMatrix;
+import org.example.model.CompressedCsrGraph;
+import org.example.model.CsrGraph;
+import org.example.model.EdgeListFormat;
 import org.example.model.Graph;
+import org.example.model.GraphBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -66,5 +105,821 @@ public class BFBenchmark {
             }
         }
         System.out.println("Results equal: " + equal);
+
+        // Порівняння режимів ParallelBellmanFord: кількість ітерацій до збіжності і час
+        benchmarkParallelModes("random graph", graph, source);
+        benchmarkParallelModes("long chain", chainGraph(20_000), 0);
+
+        // Перенумерація вершин для локальності кешу: разова вартість проти виграшу на запит
+        benchmarkReordering(randomGraph(200_000, 1_600_000, 17), source);
+
+        // Рандомізований порядок Єна проти звичайного на графі з великим діаметром
+        benchmarkRandomized(longDiameterGraph(20_000, 17), source);
+
+        // Від’ємні ваги без від’ємних циклів: Goldberg–Radzik проти SPFA і послідовної версії
+        benchmarkNegativeWeights(potentialGraph(100_000, 500_000, 23), source);
+
+        // Вартість захисту від переповнення: long- і насичувані варіанти проти int
+        benchmarkOverflowSafe(randomGraph(200_000, 1_600_000, 29), source);
+
+        // Відсікання недосяжної частини графа перед релаксацією
+        benchmarkPruning(partlyReachableGraph(200_000, 1_600_000, 20_000, 31), 0);
+
+        // Розбиття за структурою графа проти статичних відрізків номерів
+        benchmarkPartitioning(shuffledGrid(400, 37), 0, 4);
+
+        // Розподілений режим: робітники – окремі JVM на loopback
+        benchmarkDistributed(shuffledGrid(200, 41), 0, 4);
+
+        // Вартість періодичних контрольних точок для довгих запусків
+        benchmarkCheckpointing(longDiameterGraph(20_000, 17), source);
+
+        // Запити «вершина – вершина» з ранньою зупинкою проти повного SSSP
+        benchmarkPointToPoint("non-negative", randomGraph(200_000, 1_600_000, 43), 200);
+        benchmarkPointToPoint("negative edges", potentialGraph(100_000, 500_000, 47), 200);
+
+        // Оракул ALT: час побудови, пам’ять і затримка запиту залежно від кількості орієнтирів
+        benchmarkLandmarkOracle(potentialGraph(100_000, 500_000, 47), new int[]{0, 1, 4, 8, 16}, 1000);
+
+        // Побудова графа: Graph.addEdge + CsrGraph проти GraphBuilder з сортуванням і згортанням
+        benchmarkGraphBuilding(200_000, 1_600_000, 61);
+
+        // Стиснений CSR: пам’ять і час проти owner-computes на звичайних масивах
+        benchmarkCompressed("random graph", randomGraph(200_000, 1_600_000, 67), 0);
+        benchmarkCompressed("RCM-ordered grid", VertexReordering.reorder(shuffledGrid(400, 71),
+                VertexReordering.Strategy.REVERSE_CUTHILL_MCKEE, 0).getGraph(), 0);
+
+        // Потокове завантаження з релаксацією під час читання проти «прочитати, потім рахувати»
+        benchmarkStreaming(randomGraph(200_000, 1_600_000, 73), source);
+
+        // Плиткове min-plus SpMV проти ParallelBellmanFord: масштабування й розмір плиток
+        benchmarkMinPlusSpmv("random graph", randomGraph(200_000, 1_600_000, 79), source, new int[]{1, 2, 4});
+        benchmarkMinPlusSpmv("RCM-ordered grid", VertexReordering.reorder(shuffledGrid(400, 83),
+                VertexReordering.Strategy.REVERSE_CUTHILL_MCKEE, 0).getGraph(), 0, new int[]{1, 2, 4});
+
+        // Напівкільця: узагальнений min-plus проти циклу, написаного вручну (грубо; заміри – профіль jmh)
+        benchmarkSemirings(randomGraph(200_000, 1_600_000, 89), source);
+
+        // ADAPTIVE: послідовний раунд або k потоків залежно від кількості активних ребер
+        benchmarkAdaptive("MainWindow-size graph", randomGraph(500, 2000, 97), source, 200);
+        benchmarkAdaptive("medium graph", randomGraph(20_000, 160_000, 101), source, 20);
+        benchmarkAdaptive("large graph", randomGraph(200_000, 1_600_000, 103), source, 3);
+        benchmarkAdaptive("long chain", chainGraph(20_000), 0, 3);
+
+        // Нічний пакет: багато малих запитів на тисячі графів плюс кілька великих
+        benchmarkBatch(1000, 50, 4, 107);
+    }
+
+    /**
+     * Пропускна здатність і затримки BatchShortestPaths у трьох порядках проти циклу з
+     * ParallelBellmanFord і SequentialBellmanFord на кожне завдання (ці – на префіксі пакета).
+     */
+    static void benchmarkBatch(int smallGraphs, int queriesPerGraph, int largeGraphs, long seed) {
+        Random rnd = new Random(seed);
+        List<BatchShortestPaths.Job> jobs = new ArrayList<>();
+        for (int g = 0; g < smallGraphs; g++) {
+            int n = 100 + rnd.nextInt(1900);
+            Graph graph = randomGraph(n, 4 * n, seed + g);
+            for (int q = 0; q < queriesPerGraph; q++) {
+                jobs.add(new BatchShortestPaths.Job(graph, rnd.nextInt(n)));
+            }
+        }
+        for (int g = 0; g < largeGraphs; g++) {
+            jobs.add(new BatchShortestPaths.Job(randomGraph(100_000, 800_000, seed - g), 0));
+        }
+        Collections.shuffle(jobs, rnd);
+        System.out.println("Batch of " + jobs.size() + " jobs (" + smallGraphs + " small graphs x " + queriesPerGraph
+                + " queries, " + largeGraphs + " graphs of 100k vertices), "
+                + Runtime.getRuntime().availableProcessors() + " processors:");
+
+        IShortestPaths[] loops = {new ParallelBellmanFord(), new SequentialBellmanFord()};
+        String[] names = {"loop ParallelBellmanFord", "loop SequentialBellmanFord"};
+        int[] prefixes = {500, 5000};
+        for (int i = 0; i < loops.length; i++) {
+            long start = System.nanoTime();
+            for (BatchShortestPaths.Job job : jobs.subList(0, prefixes[i])) {
+                loops[i].findShortestPaths(job.getGraph(), job.getSource());
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("  %-28s %9.0f jobs/s (first %d jobs)%n", names[i], prefixes[i] / seconds, prefixes[i]);
+        }
+
+        for (BatchShortestPaths.Order order : BatchShortestPaths.Order.values()) {
+            BatchShortestPaths batch = new BatchShortestPaths(Runtime.getRuntime().availableProcessors(), null, order);
+            batch.run(jobs.subList(0, 5000).iterator(), result -> { }); // прогрів
+            BatchShortestPaths.Statistics statistics = batch.run(jobs.iterator(), result -> { });
+            System.out.printf("  %-28s %9.0f jobs/s, p50=%.3f ms, p99=%.3f ms, max=%.1f ms, total=%.0f ms%n",
+                    "batch " + order, statistics.getJobsPerSecond(), statistics.getLatencyNanos(50) / 1e6,
+                    statistics.getLatencyNanos(99) / 1e6, statistics.getLatencyNanos(100) / 1e6,
+                    statistics.getElapsedNanos() / 1e6);
+        }
+    }
+
+    /**
+     * Середній час запиту SequentialBellmanFord, OWNER_COMPUTES, ASYNC_IN_PLACE і ADAPTIVE
+     * (після прогріву); для ADAPTIVE – скільки раундів пройшло без потоків.
+     */
+    static void benchmarkAdaptive(String label, Graph graph, int source, int queries) {
+        long start = System.nanoTime();
+        ParallelCalibration calibration = ParallelCalibration.get();
+        long calibrationMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Adaptive threads, " + label + " (n=" + graph.getVertexCount()
+                + ", m=" + graph.getEdges().size() + "):");
+        long breakEven = calibration.getBreakEvenEdges(Runtime.getRuntime().availableProcessors());
+        System.out.printf("  calibration: %s; parallel rounds %s (%s, %d ms)%n", calibration,
+                breakEven == Long.MAX_VALUE ? "never" : "from " + breakEven + " active edges",
+                ParallelCalibration.defaultFile(), calibrationMs);
+
+        ParallelBellmanFord adaptive = new ParallelBellmanFord(ParallelBellmanFord.Mode.ADAPTIVE);
+        IShortestPaths[] engines = {
+                new SequentialBellmanFord(),
+                new ParallelBellmanFord(ParallelBellmanFord.Mode.OWNER_COMPUTES),
+                new ParallelBellmanFord(ParallelBellmanFord.Mode.ASYNC_IN_PLACE),
+                adaptive};
+        String[] names = {"SequentialBellmanFord", "OWNER_COMPUTES", "ASYNC_IN_PLACE", "ADAPTIVE"};
+        int[] reference = engines[0].findShortestPaths(graph, source);
+        for (int i = 0; i < engines.length; i++) {
+            for (int q = 0; q < Math.max(queries, 20); q++) {
+                engines[i].findShortestPaths(graph, source); // прогрів
+            }
+            start = System.nanoTime();
+            int[] dist = null;
+            for (int q = 0; q < queries; q++) {
+                dist = engines[i].findShortestPaths(graph, source);
+            }
+            double ms = (System.nanoTime() - start) / 1e6 / queries;
+            String rounds = engines[i] == adaptive
+                    ? String.format("  rounds=%d (sequential %d)", adaptive.getLastIterationCount(),
+                    adaptive.getLastSequentialRoundCount())
+                    : "";
+            System.out.printf("  %-22s %8.3f ms/query  equal=%b%s%n", names[i], ms,
+                    Arrays.equals(reference, dist), rounds);
+        }
+    }
+
+    /**
+     * Драйвери SemiringBellmanFord для min-plus, max-min і max-times проти того самого min-plus,
+     * написаного вручну ({@link #handWrittenMinPlus}); найкращий з кількох запусків. Це лише грубий
+     * орієнтир: відношення між окремими запусками JVM стрибає, висновки – за SemiringKernelBenchmark.
+     */
+    static void benchmarkSemirings(Graph graph, int source) {
+        System.out.println("Semiring kernels (n=" + graph.getVertexCount() + ", m=" + graph.getEdges().size() + "):");
+        CsrGraph csr = CsrGraph.fromGraphWithReverse(graph);
+        int[] expected = handWrittenMinPlus(csr, source);
+        int runs = 5;
+        long handWritten = Long.MAX_VALUE;
+        for (int run = 0; run < runs; run++) {
+            long start = System.nanoTime();
+            handWrittenMinPlus(csr, source);
+            handWritten = Math.min(handWritten, System.nanoTime() - start);
+        }
+        System.out.printf("  %-28s %6.1f ms%n", "hand-written min-plus", handWritten / 1e6);
+
+        List<SemiringBellmanFord<?>> drivers = List.of(
+                SemiringBellmanFord.sequential(Semiring.MIN_PLUS),
+                SemiringBellmanFord.parallel(Semiring.MIN_PLUS),
+                SemiringBellmanFord.sequential(Semiring.MAX_MIN),
+                SemiringBellmanFord.sequential(Semiring.maxTimes(100)));
+        String[] labels = {"min-plus, sequential", "min-plus, parallel", "max-min, sequential", "max-times, sequential"};
+        for (int i = 0; i < drivers.size(); i++) {
+            SemiringBellmanFord<?> driver = drivers.get(i);
+            Object result = driver.findPaths(csr, source);
+            long best = Long.MAX_VALUE;
+            for (int run = 0; run < runs; run++) {
+                long start = System.nanoTime();
+                driver.findPaths(csr, source);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            String check = result instanceof int[] && driver.getSemiring() == Semiring.MIN_PLUS
+                    ? "  equal=" + Arrays.equals(expected, (int[]) result) : "";
+            System.out.printf("  %-28s %6.1f ms  iterations=%d  vs hand-written %.2fx%s%n", labels[i], best / 1e6,
+                    driver.getLastIterations(), (double) best / handWritten, check);
+        }
+    }
+
+    /**
+     * Еталон для напівкілець: min-plus «тягненням» у стилі Якобі, написаний вручну –
+     * той самий алгоритм, що й SemiringBellmanFord із Semiring.MIN_PLUS.
+     */
+    static int[] handWrittenMinPlus(CsrGraph graph, int source) {
+        int n = graph.getVertexCount();
+        int[] x = new int[n];
+        int[] y = new int[n];
+        Arrays.fill(x, Integer.MAX_VALUE);
+        x[source] = 0;
+        for (int iter = 0; iter < n; iter++) {
+            int changed = 0;
+            for (int v = 0; v < n; v++) {
+                int best = x[v];
+                for (int e = graph.inOffset(v), end = graph.inOffset(v + 1); e < end; e++) {
+                    int du = x[graph.source(e)];
+                    if (du != Integer.MAX_VALUE && du + graph.inWeight(e) < best) {
+                        best = du + graph.inWeight(e);
+                    }
+                }
+                if (best != x[v]) {
+                    changed++;
+                }
+                y[v] = best;
+            }
+            int[] swap = x;
+            x = y;
+            y = swap;
+            if (changed == 0) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * MinPlusSpmvBellmanFord проти OWNER_COMPUTES і ASYNC_IN_PLACE для різної кількості потоків,
+     * далі – вплив розміру сегмента: робочий набір плитки (відрізки x і y плюс ребра),
+     * частка пропущених плиток і скільки ребер релаксовано відносно iterations * m.
+     */
+    static void benchmarkMinPlusSpmv(String label, Graph graph, int source, int[] threadCounts) {
+        int m = graph.getEdges().size();
+        System.out.println("Min-plus SpMV, " + label + " (n=" + graph.getVertexCount() + ", m=" + m + "):");
+        int[] reference = new SequentialBellmanFord().findShortestPaths(graph, source);
+        for (int threads : threadCounts) {
+            IShortestPaths[] engines = {
+                    new ParallelBellmanFord(ParallelBellmanFord.Mode.OWNER_COMPUTES, threads),
+                    new ParallelBellmanFord(ParallelBellmanFord.Mode.ASYNC_IN_PLACE, threads),
+                    new MinPlusSpmvBellmanFord(threads)};
+            String[] names = {"OWNER_COMPUTES", "ASYNC_IN_PLACE", "SPMV"};
+            StringBuilder line = new StringBuilder(String.format("  threads=%d ", threads));
+            for (int i = 0; i < engines.length; i++) {
+                engines[i].findShortestPaths(graph, source); // прогрів (і побудова кешованого подання)
+                long start = System.nanoTime();
+                int[] dist = engines[i].findShortestPaths(graph, source);
+                long elapsed = System.nanoTime() - start;
+                line.append(String.format(" %s=%d ms%s", names[i], elapsed / 1_000_000,
+                        Arrays.equals(reference, dist) ? "" : " (MISMATCH)"));
+            }
+            System.out.println(line);
+        }
+        int threads = threadCounts[threadCounts.length - 1];
+        for (int segment : new int[]{1 << 10, 1 << 12, 1 << 14, 1 << 16}) {
+            MinPlusSpmvBellmanFord engine = new MinPlusSpmvBellmanFord(threads, segment);
+            BlockedAdjacencyMatrix matrix = engine.matrix(graph);
+            engine.findShortestPaths(graph, source);
+            long start = System.nanoTime();
+            int[] dist = engine.findShortestPaths(graph, source);
+            long elapsed = System.nanoTime() - start;
+            long tiles = engine.getLastTilesMultiplied() + engine.getLastTilesSkipped();
+            System.out.printf("  segment=%-6d tiles=%-6d tile working set=%5.0f KB  time=%5d ms  iterations=%-4d"
+                            + " skipped=%4.1f%%  relaxed=%4.1f%% of iterations*m  equal=%s%n",
+                    segment, matrix.getTileCount(), (8.0 * segment + 8.0 * m / Math.max(1, matrix.getTileCount())) / 1024,
+                    elapsed / 1_000_000, engine.getLastIterations(), 100.0 * engine.getLastTilesSkipped() / Math.max(1, tiles),
+                    100.0 * engine.getLastEdgesRelaxed() / ((double) engine.getLastIterations() * m),
+                    Arrays.equals(reference, dist));
+        }
+    }
+
+    /**
+     * Файл ребер: пакетне читання (EdgeListFormat.read) + ASYNC_IN_PLACE проти StreamingBellmanFord,
+     * що релаксує блоки, поки файл ще читається; плюс метрики стадій конвеєра.
+     */
+    static void benchmarkStreaming(Graph graph, int source) {
+        System.out.println("Streaming ingestion (n=" + graph.getVertexCount() + ", m=" + graph.getEdges().size() + "):");
+        try {
+            Path file = Files.createTempFile("bf-benchmark", ".edges");
+            try {
+                try (OutputStream out = Files.newOutputStream(file)) {
+                    EdgeListFormat.write(graph, out);
+                }
+                System.out.printf("  file: %.1f MB%n", Files.size(file) / 1e6);
+                IShortestPaths batch = new ParallelBellmanFord(ParallelBellmanFord.Mode.ASYNC_IN_PLACE);
+                StreamingBellmanFord streaming = new StreamingBellmanFord();
+                for (int round = 0; round < 2; round++) {
+                    boolean report = round == 1; // перший прохід – прогрів
+                    long start = System.nanoTime();
+                    int[] expected;
+                    long loadMs;
+                    try (InputStream in = Files.newInputStream(file)) {
+                        Graph loaded = EdgeListFormat.read(in);
+                        loadMs = (System.nanoTime() - start) / 1_000_000;
+                        expected = batch.findShortestPaths(loaded, source);
+                    }
+                    long batchMs = (System.nanoTime() - start) / 1_000_000;
+
+                    start = System.nanoTime();
+                    int[] dist;
+                    try (InputStream in = Files.newInputStream(file)) {
+                        dist = streaming.findShortestPaths(in, source);
+                    }
+                    long streamingMs = (System.nanoTime() - start) / 1_000_000;
+                    if (report) {
+                        System.out.printf("  load + ASYNC_IN_PLACE  %5d ms (load %d ms)%n", batchMs, loadMs);
+                        System.out.printf("  StreamingBellmanFord   %5d ms  equal=%b%n", streamingMs, Arrays.equals(expected, dist));
+                        System.out.println("  stages: " + streaming.getLastStats());
+                    }
+                }
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Розмір CompressedCsrGraph проти CsrGraph і int-трійок; час CompressedBellmanFord проти OWNER_COMPUTES */
+    static void benchmarkCompressed(String label, Graph graph, int source) {
+        int n = graph.getVertexCount();
+        int m = graph.getEdges().size();
+        System.out.println("Compressed CSR, " + label + " (n=" + n + ", m=" + m + "):");
+        CompressedBellmanFord compressedEngine = new CompressedBellmanFord();
+        CompressedCsrGraph compressed = compressedEngine.compressed(graph);
+        long csrBytes = 4L * (n + 1) + 8L * m;
+        System.out.printf("  memory: triples=%.1f MB  CSR=%.1f MB  compressed=%.1f MB (%.2f bytes/edge, %.1fx vs CSR)%n",
+                12.0 * m / 1e6, csrBytes / 1e6, compressed.getMemoryBytes() / 1e6,
+                (double) compressed.getMemoryBytes() / m, (double) csrBytes / compressed.getMemoryBytes());
+
+        IShortestPaths owner = new ParallelBellmanFord(ParallelBellmanFord.Mode.OWNER_COMPUTES);
+        int[] reference = null;
+        for (IShortestPaths engine : new IShortestPaths[]{owner, compressedEngine}) {
+            engine.findShortestPaths(graph, source); // прогрів (і побудова кешованого подання)
+            long start = System.nanoTime();
+            int[] dist = engine.findShortestPaths(graph, source);
+            long elapsed = System.nanoTime() - start;
+            if (reference == null) {
+                reference = dist;
+            }
+            System.out.printf("  %-22s time=%5d ms  equal=%s%n", engine.getClass().getSimpleName(),
+                    elapsed / 1_000_000, Arrays.equals(reference, dist));
+        }
+    }
+
+    /**
+     * Побудова графа з m випадкових ребер (із дублікатами): Graph.addEdge і CsrGraph.fromGraph
+     * проти GraphBuilder (масове додавання, паралельне сортування, згортання паралельних ребер).
+     */
+    static void benchmarkGraphBuilding(int n, int m, long seed) {
+        Random rnd = new Random(seed);
+        int[] u = new int[m];
+        int[] v = new int[m];
+        int[] w = new int[m];
+        for (int i = 0; i < m; i++) {
+            u[i] = rnd.nextInt(n);
+            // Кінці з вузького околу, тож частина ребер повторюється
+            v[i] = (u[i] + rnd.nextInt(16)) % n;
+            w[i] = rnd.nextInt(100);
+        }
+        System.out.println("Graph building (n=" + n + ", m=" + m + " with duplicates):");
+        for (int round = 0; round < 2; round++) {
+            boolean report = round == 1; // перший прохід – прогрів
+            long start = System.nanoTime();
+            Graph graph = new Graph(n);
+            for (int i = 0; i < m; i++) {
+                graph.addEdge(u[i], v[i], w[i]);
+            }
+            long addMs = (System.nanoTime() - start) / 1_000_000;
+            CsrGraph.fromGraph(graph);
+            long plainMs = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            CsrGraph csr = new GraphBuilder(n, m).addEdges(u, v, w).buildCsr();
+            long builderMs = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            Graph built = new GraphBuilder(n, m).addEdges(u, v, w).build();
+            long builtGraphMs = (System.nanoTime() - start) / 1_000_000;
+            if (report) {
+                System.out.printf("  Graph.addEdge + CsrGraph   %5d ms (addEdge %d ms)  m=%d%n", plainMs, addMs, m);
+                System.out.printf("  GraphBuilder.buildCsr      %5d ms  m=%d%n", builderMs, csr.getEdgeCount());
+                System.out.printf("  GraphBuilder.build         %5d ms  m=%d%n", builtGraphMs, built.getEdges().size());
+            }
+        }
+    }
+
+    /** Побудова LandmarkOracle для різних k: час, розмір, середня затримка й закриті вершини */
+    static void benchmarkLandmarkOracle(Graph graph, int[] landmarkCounts, int queries) {
+        System.out.println("Landmark oracle (n=" + graph.getVertexCount() + ", m=" + graph.getEdges().size() + "):");
+        int n = graph.getVertexCount();
+        for (int k : landmarkCounts) {
+            long start = System.nanoTime();
+            LandmarkOracle oracle = LandmarkOracle.build(graph, k);
+            double buildMs = (System.nanoTime() - start) / 1e6;
+
+            Random rnd = new Random(59);
+            long settled = 0;
+            start = System.nanoTime();
+            for (int q = 0; q < queries; q++) {
+                oracle.distance(rnd.nextInt(n), rnd.nextInt(n));
+                settled += oracle.getLastSettledCount();
+            }
+            double queryMs = (System.nanoTime() - start) / 1e6 / queries;
+            System.out.printf("  k=%-3d build=%7.1f ms  memory=%6.1f MB  query=%6.3f ms  settled=%d%n",
+                    k, buildMs, oracle.getMemoryBytes() / 1e6, queryMs, settled / queries);
+        }
+    }
+
+    /**
+     * Середня затримка distance(s, t) у PointToPointShortestPaths проти повного SSSP
+     * (SequentialBellmanFord, SPFA) для випадкових пар; перший запит окремо, бо він будує кеш.
+     */
+    static void benchmarkPointToPoint(String label, Graph graph, int queries) {
+        System.out.println("Point-to-point, " + label + " (n=" + graph.getVertexCount()
+                + ", m=" + graph.getEdges().size() + "):");
+        int n = graph.getVertexCount();
+        Random rnd = new Random(53);
+        int[] sources = new int[queries];
+        int[] targets = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            sources[q] = rnd.nextInt(n);
+            targets[q] = rnd.nextInt(n);
+        }
+
+        PointToPointShortestPaths engine = new PointToPointShortestPaths();
+        long start = System.nanoTime();
+        engine.distance(graph, sources[0], targets[0]);
+        System.out.printf("  first query (CSR + potentials)  %7.1f ms%n", (System.nanoTime() - start) / 1e6);
+
+        long settled = 0;
+        start = System.nanoTime();
+        for (int q = 0; q < queries; q++) {
+            engine.distance(graph, sources[q], targets[q]);
+            settled += engine.getLastSettledCount();
+        }
+        double queryMs = (System.nanoTime() - start) / 1e6 / queries;
+        System.out.printf("  distance(s, t)                  %7.3f ms/query  settled=%d%n", queryMs, settled / queries);
+
+        // Повний SSSP дорогий, тож для нього вистачає кількох запитів
+        int fullQueries = 5;
+        boolean equal = true;
+        for (IShortestPaths full : new IShortestPaths[]{new SequentialBellmanFord(), new SpfaBellmanFord()}) {
+            full.findShortestPaths(graph, sources[0]); // прогрів
+            start = System.nanoTime();
+            for (int q = 0; q < fullQueries; q++) {
+                int[] dist = full.findShortestPaths(graph, sources[q]);
+                equal &= dist[targets[q]] == engine.distance(graph, sources[q], targets[q]);
+            }
+            double fullMs = (System.nanoTime() - start) / 1e6 / fullQueries;
+            System.out.printf("  %-31s %7.1f ms/query  speedup=%.0fx%n",
+                    full.getClass().getSimpleName(), fullMs, fullMs / queryMs);
+        }
+        System.out.println("  equal=" + equal);
+    }
+
+    /** Час owner-computes без контрольних точок і з ними (кожні 100 раундів, фоновий запис) */
+    static void benchmarkCheckpointing(Graph graph, int source) {
+        System.out.println("Checkpointing (n=" + graph.getVertexCount() + ", m=" + graph.getEdges().size() + "):");
+        try {
+            Path file = Files.createTempFile("bf-benchmark", ".ckpt");
+            try {
+                ParallelBellmanFord plain = new ParallelBellmanFord(ParallelBellmanFord.Mode.OWNER_COMPUTES);
+                CheckpointedBellmanFord checkpointed = new CheckpointedBellmanFord(file, 100);
+                for (int round = 0; round < 2; round++) {
+                    boolean report = round == 1; // перший прохід – прогрів
+                    long start = System.nanoTime();
+                    int[] expected = plain.findShortestPaths(graph, source);
+                    long plainMs = (System.nanoTime() - start) / 1_000_000;
+                    start = System.nanoTime();
+                    int[] dist = checkpointed.findShortestPaths(graph, source);
+                    long checkpointedMs = (System.nanoTime() - start) / 1_000_000;
+                    if (report) {
+                        System.out.printf("  plain=%d ms  checkpointed=%d ms  last checkpoint at round %d"
+                                        + "  skipped=%d  equal=%b%n", plainMs, checkpointedMs,
+                                checkpointed.getLastCheckpointIteration(), checkpointed.getSkippedCheckpoints(),
+                                Arrays.equals(expected, dist));
+                    }
+                }
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Час і трафік розподіленого режиму з робітниками-процесами (за раундами) */
+    static void benchmarkDistributed(Graph graph, int source, int workers) {
+        System.out.println("Distributed over loopback (n=" + graph.getVertexCount()
+                + ", m=" + graph.getEdges().size() + ", workers=" + workers + " processes):");
+        DistributedBellmanFord bf = new DistributedBellmanFord(
+                workers, DistributedBellmanFord.Launch.PROCESSES, SequentialBellmanFord.class);
+        long start = System.nanoTime();
+        int[] dist = bf.findShortestPaths(graph, source);
+        long ms = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("  time=%d ms (incl. JVM start)  equal=%b  setup=%d bytes%n", ms,
+                Arrays.equals(dist, new SequentialBellmanFord().findShortestPaths(graph, source)),
+                bf.getLastSetupBytes());
+        List<Long> wire = bf.getLastRoundBytes();
+        List<Long> raw = bf.getLastRoundRawBytes();
+        for (int round = 0; round < wire.size(); round++) {
+            System.out.printf("  round %-3d wire=%7d bytes  uncompressed=%7d bytes%n",
+                    round, wire.get(round), raw.get(round));
+        }
+    }
+
+    /**
+     * Частка розрізаних ребер і час PartitionedBellmanFord проти режимів ParallelBellmanFord.
+     * Промахи кешу цей бенчмарк не рахує – для них запускати під perf stat -e cache-misses.
+     */
+    static void benchmarkPartitioning(Graph graph, int source, int threads) {
+        int n = graph.getVertexCount();
+        System.out.println("Partition-aware engine (n=" + n + ", m=" + graph.getEdges().size()
+                + ", threads=" + threads + "):");
+        int[] chunks = new int[n];
+        for (int v = 0; v < n; v++) {
+            chunks[v] = (int) ((long) v * threads / n);
+        }
+        long start = System.nanoTime();
+        int[] part = new LabelPropagationPartitioner(threads, LabelPropagationPartitioner.DEFAULT_ITERATIONS,
+                LabelPropagationPartitioner.DEFAULT_IMBALANCE).partition(graph, threads);
+        long partitionMs = (System.nanoTime() - start) / 1_000_000;
+        double m = graph.getEdges().size();
+        System.out.printf("  cut fraction: index chunks=%.3f  label propagation=%.3f (%d ms)%n",
+                LabelPropagationPartitioner.cutEdges(graph, chunks) / m,
+                LabelPropagationPartitioner.cutEdges(graph, part) / m, partitionMs);
+
+        // EDGE_CHUNKED не беремо: глобальний замок на ребро робить його непридатним для великих графів
+        ParallelBellmanFord.Mode[] modes = {
+                ParallelBellmanFord.Mode.OWNER_COMPUTES, ParallelBellmanFord.Mode.ASYNC_IN_PLACE
+        };
+        PartitionedBellmanFord partitioned = new PartitionedBellmanFord(threads);
+        int[] reference = null;
+        for (int round = 0; round < 2; round++) {
+            boolean report = round == 1; // перший прохід – прогрів (і побудова розбиття)
+            for (ParallelBellmanFord.Mode mode : modes) {
+                ParallelBellmanFord bf = new ParallelBellmanFord(mode, threads);
+                start = System.nanoTime();
+                reference = bf.findShortestPaths(graph, source);
+                if (report) {
+                    System.out.printf("  %-15s time=%5d ms  rounds=%d%n", mode,
+                            (System.nanoTime() - start) / 1_000_000, bf.getLastIterationCount());
+                }
+            }
+            start = System.nanoTime();
+            int[] dist = partitioned.findShortestPaths(graph, source);
+            if (report) {
+                System.out.printf("  %-15s time=%5d ms  rounds=%d  equal=%b%n", "PARTITIONED",
+                        (System.nanoTime() - start) / 1_000_000, partitioned.getLastRoundCount(),
+                        Arrays.equals(reference, dist));
+            }
+        }
+    }
+
+    /** Решітка side × side з двонапрямленими ребрами і випадково переставленими номерами вершин */
+    static Graph shuffledGrid(int side, long seed) {
+        int n = side * side;
+        Random rnd = new Random(seed);
+        int[] id = new int[n];
+        for (int i = 0; i < n; i++) {
+            id[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int tmp = id[i];
+            id[i] = id[j];
+            id[j] = tmp;
+        }
+        Graph graph = new Graph(n);
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c;
+                if (c + 1 < side) {
+                    graph.addEdge(id[v], id[v + 1], 1 + rnd.nextInt(20));
+                    graph.addEdge(id[v + 1], id[v], 1 + rnd.nextInt(20));
+                }
+                if (r + 1 < side) {
+                    graph.addEdge(id[v], id[v + side], 1 + rnd.nextInt(20));
+                    graph.addEdge(id[v + side], id[v], 1 + rnd.nextInt(20));
+                }
+            }
+        }
+        return graph;
+    }
+
+    /** Час рушіїв на повному графі і з попереднім відсіканням недосяжних вершин */
+    static void benchmarkPruning(Graph graph, int source) {
+        System.out.println("Reachability pruning (n=" + graph.getVertexCount()
+                + ", m=" + graph.getEdges().size() + "):");
+        IShortestPaths[] engines = {
+                new SequentialBellmanFord(), new ParallelBellmanFord(ParallelBellmanFord.Mode.OWNER_COMPUTES)
+        };
+        for (int round = 0; round < 2; round++) {
+            boolean report = round == 1; // перший прохід – прогрів
+            for (IShortestPaths engine : engines) {
+                String name = engine.getClass().getSimpleName();
+                long start = System.nanoTime();
+                int[] full = engine.findShortestPaths(graph, source);
+                long fullMs = (System.nanoTime() - start) / 1_000_000;
+                start = System.nanoTime();
+                int[] pruned = new PrunedShortestPaths(engine).findShortestPaths(graph, source);
+                long prunedMs = (System.nanoTime() - start) / 1_000_000;
+                if (report) {
+                    System.out.printf("  %-22s full=%5d ms  pruned=%5d ms  equal=%b%n",
+                            name, fullMs, prunedMs, Arrays.equals(full, pruned));
+                }
+            }
+        }
+    }
+
+    /**
+     * Граф, у якому з вершини 0 досяжні лише перші reachable вершин:
+     * ребра всередині [0, reachable) і з решти графа в будь-яку вершину, але не навпаки.
+     */
+    static Graph partlyReachableGraph(int n, int m, int reachable, long seed) {
+        Random rnd = new Random(seed);
+        Graph graph = new Graph(n);
+        int inner = (int) ((long) m * reachable / n);
+        for (int i = 0; i < inner; i++) {
+            graph.addEdge(rnd.nextInt(reachable), rnd.nextInt(reachable), rnd.nextInt(100));
+        }
+        for (int i = inner; i < m; i++) {
+            graph.addEdge(reachable + rnd.nextInt(n - reachable), rnd.nextInt(n), rnd.nextInt(100));
+        }
+        return graph;
+    }
+
+    /** Час int-, насичуваного і long-варіантів (послідовних і паралельних) */
+    static void benchmarkOverflowSafe(Graph graph, int source) {
+        System.out.println("Overflow-safe variants (n=" + graph.getVertexCount()
+                + ", m=" + graph.getEdges().size() + "):");
+        IShortestPaths[] intEngines = {
+                new SequentialBellmanFord(), new SaturatingBellmanFord(),
+                new ParallelBellmanFord(ParallelBellmanFord.Mode.OWNER_COMPUTES)
+        };
+        ILongShortestPaths[] longEngines = {new SequentialBellmanFordLong(), new ParallelBellmanFordLong()};
+        for (int round = 0; round < 2; round++) {
+            boolean report = round == 1; // перший прохід – прогрів
+            for (IShortestPaths engine : intEngines) {
+                long start = System.nanoTime();
+                engine.findShortestPaths(graph, source);
+                if (report) {
+                    System.out.printf("  %-28s time=%5d ms%n", engine.getClass().getSimpleName()
+                            + (engine instanceof ParallelBellmanFord ? " (owner)" : ""),
+                            (System.nanoTime() - start) / 1_000_000);
+                }
+            }
+            for (ILongShortestPaths engine : longEngines) {
+                long start = System.nanoTime();
+                engine.findShortestPaths(graph, source);
+                if (report) {
+                    System.out.printf("  %-28s time=%5d ms%n", engine.getClass().getSimpleName(),
+                            (System.nanoTime() - start) / 1_000_000);
+                }
+            }
+        }
+    }
+
+    /**
+     * Граф із великою часткою від’ємних ребер, але без від’ємних циклів:
+     * w(u, v) = c + p[u] - p[v], де c >= 0, а p – випадкові потенціали.
+     */
+    static Graph potentialGraph(int n, int m, long seed) {
+        Random rnd = new Random(seed);
+        int[] potential = new int[n];
+        for (int v = 0; v < n; v++) {
+            potential[v] = rnd.nextInt(10_000);
+        }
+        Graph graph = new Graph(n);
+        for (int i = 0; i < m; i++) {
+            int u = rnd.nextInt(n);
+            int v = rnd.nextInt(n);
+            graph.addEdge(u, v, rnd.nextInt(100) + potential[u] - potential[v]);
+        }
+        return graph;
+    }
+
+    /** Час SequentialBellmanFord, SPFA і Goldberg–Radzik на графі з від’ємними вагами */
+    static void benchmarkNegativeWeights(Graph graph, int source) {
+        System.out.println("Negative weights, no negative cycles (n=" + graph.getVertexCount()
+                + ", m=" + graph.getEdges().size() + "):");
+        IShortestPaths[] engines = {
+                new SequentialBellmanFord(), new SpfaBellmanFord(), new GoldbergRadzikShortestPaths()
+        };
+        int[] reference = null;
+        for (IShortestPaths engine : engines) {
+            engine.findShortestPaths(graph, source); // прогрів
+            long start = System.nanoTime();
+            int[] dist = engine.findShortestPaths(graph, source);
+            long elapsed = System.nanoTime() - start;
+            if (reference == null) {
+                reference = dist;
+            }
+            System.out.printf("  %-28s time=%5d ms  equal=%s%n", engine.getClass().getSimpleName(),
+                    elapsed / 1_000_000, Arrays.equals(reference, dist));
+        }
+    }
+
+    /**
+     * Граф із великим діаметром: шлях довжини n через випадково перенумеровані вершини
+     * плюс «довгі» ребра, що не скорочують шлях; ребра додаються у випадковому порядку.
+     */
+    static Graph longDiameterGraph(int n, long seed) {
+        Random rnd = new Random(seed);
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i;
+        }
+        for (int i = n - 1; i > 1; i--) {
+            int j = 1 + rnd.nextInt(i);
+            int tmp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = tmp;
+        }
+        List<int[]> edges = new ArrayList<>();
+        for (int i = 0; i + 1 < n; i++) {
+            edges.add(new int[]{ids[i], ids[i + 1], 1 + rnd.nextInt(10)});
+        }
+        for (int i = 0; i < 2 * n; i++) {
+            int a = rnd.nextInt(n);
+            int b = rnd.nextInt(n);
+            edges.add(new int[]{ids[a], ids[b], 10 * Math.abs(b - a) + 10});
+        }
+        Collections.shuffle(edges, rnd);
+
+        Graph graph = new Graph(n);
+        for (int[] e : edges) {
+            graph.addEdge(e[0], e[1], e[2]);
+        }
+        return graph;
+    }
+
+    /** Кількість проходів і час: SequentialBellmanFord проти RandomizedBellmanFord */
+    static void benchmarkRandomized(Graph graph, int source) {
+        System.out.println("Randomized (Yen / Bannister-Eppstein) ordering, n=" + graph.getVertexCount() + ":");
+        SequentialBellmanFord seq = new SequentialBellmanFord();
+        long start = System.nanoTime();
+        int[] reference = seq.findShortestPaths(graph, source);
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("  %-12s passes=%-6d time=%5d ms%n", "sequential", seq.getLastPassCount(), elapsed / 1_000_000);
+
+        for (long seed = 1; seed <= 3; seed++) {
+            RandomizedBellmanFord rbf = new RandomizedBellmanFord(seed);
+            start = System.nanoTime();
+            int[] dist = rbf.findShortestPaths(graph, source);
+            elapsed = System.nanoTime() - start;
+            System.out.printf("  %-12s passes=%-6d time=%5d ms  equal=%s%n", "seed " + seed,
+                    rbf.getLastPassCount(), elapsed / 1_000_000, Arrays.equals(reference, dist));
+        }
+    }
+
+    /** Випадковий граф із невід’ємними вагами 0..99 */
+    static Graph randomGraph(int n, int m, long seed) {
+        Graph graph = new Graph(n);
+        Random rnd = new Random(seed);
+        for (int i = 0; i < m; i++) {
+            graph.addEdge(rnd.nextInt(n), rnd.nextInt(n), rnd.nextInt(100));
+        }
+        return graph;
+    }
+
+    /** Друкує вартість перенумерації та час запиту SequentialBellmanFord до і після неї */
+    static void benchmarkReordering(Graph graph, int source) {
+        System.out.println("Vertex reordering (n=" + graph.getVertexCount()
+                + ", m=" + graph.getEdges().size() + "):");
+        SequentialBellmanFord seq = new SequentialBellmanFord();
+        seq.findShortestPaths(graph, source); // прогрів
+        long start = System.nanoTime();
+        int[] reference = seq.findShortestPaths(graph, source);
+        long baseline = System.nanoTime() - start;
+        System.out.printf("  %-22s query=%5d ms%n", "original order", baseline / 1_000_000);
+
+        for (VertexReordering.Strategy strategy : VertexReordering.Strategy.values()) {
+            ReorderedShortestPaths reordered = new ReorderedShortestPaths(seq, strategy);
+            reordered.findShortestPaths(graph, source);
+            long preprocessing = reordered.getLastPreprocessingNanos();
+            start = System.nanoTime();
+            int[] dist = reordered.findShortestPaths(graph, source);
+            long query = System.nanoTime() - start;
+            System.out.printf("  %-22s preprocessing=%5d ms  query=%5d ms  saved/query=%5d ms  equal=%s%n",
+                    strategy, preprocessing / 1_000_000, query / 1_000_000,
+                    (baseline - query) / 1_000_000, Arrays.equals(reference, dist));
+        }
+    }
+
+    /** Ланцюжок 0 → 1 → … → n-1: Якобі потребує n - 1 ітерацій, релаксація на місці – значно менше */
+    static Graph chainGraph(int n) {
+        Graph graph = new Graph(n);
+        for (int v = 0; v + 1 < n; v++) {
+            graph.addEdge(v, v + 1, 1);
+        }
+        return graph;
+    }
+
+    /** Для кожного режиму друкує ітерації до збіжності та час виконання */
+    static void benchmarkParallelModes(String label, Graph graph, int source) {
+        System.out.println("Parallel modes on " + label + ":");
+        int[] reference = null;
+        for (ParallelBellmanFord.Mode mode : ParallelBellmanFord.Mode.values()) {
+            if (mode == ParallelBellmanFord.Mode.EDGE_CHUNKED && graph.getVertexCount() > 10_000) {
+                // Глобальний замок на кожне ребро робить цей режим непридатним для великих графів
+                System.out.printf("  %-15s skipped%n", mode);
+                continue;
+            }
+            ParallelBellmanFord bf = new ParallelBellmanFord(mode);
+            long start = System.nanoTime();
+            int[] dist = bf.findShortestPaths(graph, source);
+            long elapsed = System.nanoTime() - start;
+            if (reference == null) {
+                reference = dist;
+            }
+            System.out.printf("  %-15s iterations=%-7d time=%6d ms  equal=%s%n",
+                    mode, bf.getLastIterationCount(), elapsed / 1_000_000,
+                    Arrays.equals(reference, dist));
+        }
     }
 }
@@ -0,0 +1,514 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+import org.example.model.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Пакетне виконання багатьох незалежних запитів SSSP (граф, джерело) на ForkJoinPool
+ * з крадіжкою роботи.
+ * <p>
+ * Кожне завдання – одна задача пулу, яка рахує запит у своєму потоці: раунди релаксації фронту
+ * на місці (ядро {@link ParallelBellmanFord.Mode#ADAPTIVE}), без запуску потоків і бар’єрів.
+ * Раунд великого запиту, якому за моделлю {@link ParallelCalibration} вигідно кілька потоків,
+ * ділиться на підзадачі того ж пулу (invokeAll): вільні потоки їх крадуть, а потоки, зайняті
+ * малими завданнями, нікого не затримують – шматки фронту розбираються динамічно, і власник
+ * запиту доробляє все, що ніхто не вкрав. Модель рахує бар’єр як запуск потоків, тож для
+ * fork/join пулу вона консервативна: раунд ділиться лише там, де це вигідно з запасом.
+ * <p>
+ * Завдання читаються з потоку вікнами по {@link #WINDOW} і в межах вікна впорядковуються за
+ * оцінкою вартості n + m ({@link Order}). Одночасно в роботі не більше двох вікон, тож пам’ять
+ * не залежить від довжини потоку. CSR графа будується один раз і живе, доки на цьому графі є
+ * незавершені завдання (графи не повинні змінюватися під час пакета).
+ * <p>
+ * Результати віддаються в порядку завершення: через callback ({@link #run(Iterator, Consumer)})
+ * або через ітератор ({@link #results(Iterator)}).
+ */
+public class BatchShortestPaths {
+
+    /** Порядок запуску завдань у межах вікна */
+    public enum Order {
+        /** У порядку надходження */
+        SUBMISSION,
+        /**
+         * Спершу дешеві: малі завдання не чекають за великими, тож менші середня затримка і p99
+         * (дорогі завдання – це і є останні відсотки)
+         */
+        SHORTEST_FIRST,
+        /** Спершу дорогі: у кінці вікна лишаються дрібні завдання, що рівно розходяться по потоках */
+        LONGEST_FIRST
+    }
+
+    /** Скільки завдань читається з потоку й упорядковується разом (степінь двійки) */
+    public static final int WINDOW = 4096;
+
+    private static final int WINDOW_BITS = Integer.numberOfTrailingZeros(WINDOW);
+
+    /** Найбільше завдань у роботі одночасно (разом із невибраними з ітератора результатами) */
+    private static final int MAX_IN_FLIGHT = 2 * WINDOW;
+
+    /** Маркер кінця черги результатів ітератора */
+    private static final Result END = new Result(null, -1, null, 0, false);
+
+    private final int parallelism;
+    private final ParallelCalibration calibration;
+    private final Order order;
+    private volatile Statistics lastStatistics;
+
+    public BatchShortestPaths() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchShortestPaths(int parallelism) {
+        this(parallelism, null, Order.SHORTEST_FIRST);
+    }
+
+    /**
+     * @param calibration модель вартості раунду; null – {@link ParallelCalibration#get()}
+     */
+    public BatchShortestPaths(int parallelism, ParallelCalibration calibration, Order order) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.calibration = calibration;
+        this.order = order;
+    }
+
+    /** Статистика останнього завершеного пакета (у тому числі запущеного через ітератор) */
+    public Statistics getLastStatistics() {
+        return lastStatistics;
+    }
+
+    /** Те саме, що {@link #run(Iterator, Consumer)} для Stream */
+    public Statistics run(Stream<Job> jobs, Consumer<Result> callback) {
+        return run(jobs.iterator(), callback);
+    }
+
+    /**
+     * Виконує всі завдання і повертається, коли всі результати передано в callback.
+     * callback викликається з потоків пулу, можливо одночасно, тож має бути потокобезпечним.
+     * Якщо callback чи розрахунок кидає виняток, нові завдання не запускаються, а виняток
+     * кидається з run після завершення вже запущених.
+     *
+     * @throws CancellationException якщо потік, що викликав метод, перервано
+     *                               (прапорець переривання зберігається)
+     */
+    public Statistics run(Iterator<Job> jobs, Consumer<Result> callback) {
+        return execute(jobs, callback, new Semaphore(MAX_IN_FLIGHT), true);
+    }
+
+    /**
+     * Запускає пакет в окремому потоці й повертає результати в порядку завершення.
+     * Ітератор блокується до наступного результату; якщо розрахунок кинув виняток, його
+     * кидає hasNext після останнього отриманого результату. Невибрані результати тримають
+     * пакет (не більше {@link #WINDOW} · 2 завдань у роботі), тож ітератор треба пройти до кінця.
+     */
+    public Iterator<Result> results(Iterator<Job> jobs) {
+        BlockingQueue<Result> queue = new LinkedBlockingQueue<>();
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread feeder = new Thread(() -> {
+            try {
+                execute(jobs, queue::add, inFlight, false);
+            } catch (RuntimeException | Error e) {
+                error.set(e);
+            } finally {
+                queue.add(END);
+            }
+        }, "batch-shortest-paths");
+        feeder.setDaemon(true);
+        feeder.start();
+
+        return new Iterator<Result>() {
+            private Result next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = queue.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new CancellationException("Interrupted while waiting for batch results");
+                    }
+                }
+                if (next == END) {
+                    Throwable e = error.get();
+                    if (e instanceof Error) {
+                        throw (Error) e;
+                    }
+                    if (e != null) {
+                        throw (RuntimeException) e;
+                    }
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public Result next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Result result = next;
+                next = null;
+                inFlight.release();
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Спільна частина обох режимів: читає вікна, впорядковує і віддає пулу. Кожне завдання
+     * займає дозвіл inFlight; його повертає задача після sink (releaseAfterSink) або споживач.
+     */
+    private Statistics execute(Iterator<Job> jobs, Consumer<Result> sink, Semaphore inFlight, boolean releaseAfterSink) {
+        ParallelCalibration model = calibration != null ? calibration : ParallelCalibration.get();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Map<Graph, GraphEntry> graphs = new ConcurrentHashMap<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicInteger parallelJobs = new AtomicInteger();
+        List<long[]> latencies = new ArrayList<>();
+        Job[] window = new Job[WINDOW];
+        long index = 0;
+        boolean interrupted = false;
+        long start = System.nanoTime();
+        try {
+            while (failure.get() == null && jobs.hasNext()) {
+                int size = 0;
+                while (size < WINDOW && jobs.hasNext()) {
+                    window[size++] = jobs.next();
+                }
+                long accepted = System.nanoTime();
+                long[] windowLatencies = new long[size];
+                latencies.add(windowLatencies);
+                for (int slot : schedule(window, size)) {
+                    if (failure.get() != null) {
+                        break;
+                    }
+                    inFlight.acquire();
+                    Job job = window[slot];
+                    GraphEntry entry = graphs.compute(job.graph, (g, e) -> {
+                        GraphEntry held = e != null ? e : new GraphEntry(g);
+                        held.pending++;
+                        return held;
+                    });
+                    long jobIndex = index + slot;
+                    pool.execute(() -> {
+                        boolean delivered = false;
+                        try {
+                            if (failure.get() != null) {
+                                return; // пакет уже зірвано
+                            }
+                            JobRun run = new JobRun(entry.csr(), model, failure);
+                            int[] dist = run.solve(job.source);
+                            if (failure.get() != null) {
+                                return;
+                            }
+                            if (run.parallelRounds > 0) {
+                                parallelJobs.incrementAndGet();
+                            }
+                            long latency = System.nanoTime() - accepted;
+                            windowLatencies[slot] = latency;
+                            sink.accept(new Result(job, jobIndex, dist, latency, run.parallelRounds > 0));
+                            delivered = true;
+                        } catch (RuntimeException | Error e) {
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            graphs.computeIfPresent(job.graph, (g, e) -> --e.pending == 0 ? null : e);
+                            if (!delivered || releaseAfterSink) {
+                                inFlight.release();
+                            }
+                        }
+                    });
+                }
+                index += size;
+                Arrays.fill(window, 0, size, null);
+            }
+        } catch (InterruptedException e) {
+            interrupted = true;
+            failure.compareAndSet(null, new CancellationException("Batch interrupted"));
+        } catch (RuntimeException | Error e) {
+            // Виняток ітератора завдань: дочекатися запущених і кинути його
+            failure.compareAndSet(null, e);
+        } finally {
+            // Усі дозволи повернуто – усі запущені завдання завершені й передані
+            inFlight.acquireUninterruptibly(MAX_IN_FLIGHT);
+            inFlight.release(MAX_IN_FLIGHT);
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Throwable error = failure.get();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        if (error != null) {
+            throw new CompletionException(error);
+        }
+        long[] all = new long[(int) index];
+        int offset = 0;
+        for (long[] part : latencies) {
+            System.arraycopy(part, 0, all, offset, part.length);
+            offset += part.length;
+        }
+        Statistics statistics = new Statistics(all, elapsed, parallelJobs.get());
+        lastStatistics = statistics;
+        return statistics;
+    }
+
+    /** Порядок слотів вікна: ключ «вартість, слот» в одному long, тож рівні за вартістю лишаються поруч */
+    private int[] schedule(Job[] window, int size) {
+        int[] slots = new int[size];
+        if (order == Order.SUBMISSION) {
+            for (int i = 0; i < size; i++) {
+                slots[i] = i;
+            }
+            return slots;
+        }
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            Graph graph = window[i].graph;
+            long cost = (long) graph.getVertexCount() + graph.getEdges().size();
+            keys[i] = cost << WINDOW_BITS | i;
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < size; i++) {
+            slots[order == Order.LONGEST_FIRST ? size - 1 - i : i] = (int) (keys[i] & (WINDOW - 1));
+        }
+        return slots;
+    }
+
+    /** Один запит: раунди фронту на місці, як у ADAPTIVE, але паралельні раунди – підзадачі пулу */
+    private final class JobRun {
+        private final CsrGraph csr;
+        private final ParallelCalibration model;
+        private final AtomicReference<Throwable> failure;
+        private ParallelBellmanFord.FrontierBuffer[] next = {new ParallelBellmanFord.FrontierBuffer(16)};
+        private int parallelRounds;
+
+        JobRun(CsrGraph csr, ParallelCalibration model, AtomicReference<Throwable> failure) {
+            this.csr = csr;
+            this.model = model;
+            this.failure = failure;
+        }
+
+        /** Відстані від source або null, якщо з нього досяжний від’ємний цикл (чи пакет зірвано) */
+        int[] solve(int source) {
+            int n = csr.getVertexCount();
+            AtomicIntegerArray dist = new AtomicIntegerArray(n);
+            for (int v = 0; v < n; v++) {
+                dist.setPlain(v, Integer.MAX_VALUE);
+            }
+            dist.setPlain(source, 0);
+            byte[] queued = new byte[n];
+            ParallelBellmanFord.FrontierBuffer frontier = new ParallelBellmanFord.FrontierBuffer(16);
+            frontier.add(source, csr.outDegree(source));
+
+            for (int iter = 0; frontier.size > 0; iter++) {
+                if (iter == n || failure.get() != null) {
+                    // Раунд на місці не гірший за раунд Якобі: зміни в n-му раунді – від’ємний цикл
+                    return null;
+                }
+                int pieces = model.chooseThreads(frontier.edges, parallelism);
+                if (pieces == 1) {
+                    ParallelBellmanFord.pushPlain(csr, dist, frontier.vertices, 0, frontier.size, queued, next[0]);
+                } else {
+                    pushForked(dist, frontier, queued, pieces);
+                    parallelRounds++;
+                }
+                ParallelBellmanFord.mergeFrontier(csr, next, pieces, queued, frontier);
+            }
+            return ParallelBellmanFord.toArray(dist);
+        }
+
+        /** Раунд на pieces підзадачах, що розбирають шматки фронту з одного лічильника */
+        private void pushForked(AtomicIntegerArray dist, ParallelBellmanFord.FrontierBuffer frontier, byte[] queued,
+                                int pieces) {
+            if (next.length < pieces) {
+                int old = next.length;
+                next = Arrays.copyOf(next, pieces);
+                for (int t = old; t < pieces; t++) {
+                    next[t] = new ParallelBellmanFord.FrontierBuffer(16);
+                }
+            }
+            int[] vertices = frontier.vertices;
+            int size = frontier.size;
+            AtomicInteger nextChunk = new AtomicInteger();
+            ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[pieces];
+            for (int t = 0; t < pieces; t++) {
+                ParallelBellmanFord.FrontierBuffer buffer = next[t];
+                tasks[t] = ForkJoinTask.adapt(() -> {
+                    int chunk;
+                    while ((chunk = nextChunk.getAndIncrement()) * ParallelBellmanFord.FRONTIER_CHUNK < size) {
+                        int from = chunk * ParallelBellmanFord.FRONTIER_CHUNK;
+                        ParallelBellmanFord.pushAtomic(csr, dist, vertices, from,
+                                Math.min(size, from + ParallelBellmanFord.FRONTIER_CHUNK), queued, buffer);
+                    }
+                });
+            }
+            ForkJoinTask.invokeAll(tasks);
+        }
+    }
+
+    /** CSR графа, спільний для його завдань; pending змінюється лише всередині compute мапи */
+    private static final class GraphEntry {
+        private final Graph graph;
+        private CsrGraph csr;
+        int pending;
+
+        GraphEntry(Graph graph) {
+            this.graph = graph;
+        }
+
+        synchronized CsrGraph csr() {
+            if (csr == null) {
+                csr = CsrGraph.fromGraph(graph);
+            }
+            return csr;
+        }
+    }
+
+    /** Завдання пакета: один запит SSSP */
+    public static final class Job {
+        private final Graph graph;
+        private final int source;
+
+        /**
+         * @throws IllegalArgumentException якщо source не є вершиною graph
+         */
+        public Job(Graph graph, int source) {
+            if (source < 0 || source >= graph.getVertexCount()) {
+                throw new IllegalArgumentException("source " + source + " is not a vertex of a graph with "
+                        + graph.getVertexCount() + " vertices");
+            }
+            this.graph = graph;
+            this.source = source;
+        }
+
+        public Graph getGraph() {
+            return graph;
+        }
+
+        public int getSource() {
+            return source;
+        }
+    }
+
+    /** Результат одного завдання */
+    public static final class Result {
+        private final Job job;
+        private final long index;
+        private final int[] distances;
+        private final long latencyNanos;
+        private final boolean parallel;
+
+        Result(Job job, long index, int[] distances, long latencyNanos, boolean parallel) {
+            this.job = job;
+            this.index = index;
+            this.distances = distances;
+            this.latencyNanos = latencyNanos;
+            this.parallel = parallel;
+        }
+
+        public Job getJob() {
+            return job;
+        }
+
+        /** Номер завдання у вхідному потоці (з нуля) */
+        public long getIndex() {
+            return index;
+        }
+
+        /** Відстані, як у {@link IShortestPaths#findShortestPaths}; null – від’ємний цикл */
+        public int[] getDistances() {
+            return distances;
+        }
+
+        /** Від моменту, коли планувальник прочитав завдання з потоку, до передачі результату, нс */
+        public long getLatencyNanos() {
+            return latencyNanos;
+        }
+
+        /** Чи ділився хоч один раунд запиту на підзадачі */
+        public boolean isParallel() {
+            return parallel;
+        }
+    }
+
+    /** Пропускна здатність і затримки пакета */
+    public static final class Statistics {
+        private final long[] latencies; // відсортовані
+        private final long elapsedNanos;
+        private final int parallelJobs;
+
+        Statistics(long[] latencies, long elapsedNanos, int parallelJobs) {
+            this.latencies = latencies;
+            Arrays.sort(this.latencies);
+            this.elapsedNanos = elapsedNanos;
+            this.parallelJobs = parallelJobs;
+        }
+
+        public int getJobCount() {
+            return latencies.length;
+        }
+
+        /** Скільки завдань мали хоч один раунд на підзадачах */
+        public int getParallelJobCount() {
+            return parallelJobs;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getJobsPerSecond() {
+            return elapsedNanos == 0 ? 0 : latencies.length * 1e9 / elapsedNanos;
+        }
+
+        /** Затримка, якої не перевищують percentile відсотків завдань (0 < percentile <= 100), нс */
+        public long getLatencyNanos(double percentile) {
+            if (!(percentile > 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("percentile must be in (0, 100]: " + percentile);
+            }
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * latencies.length);
+            return latencies[Math.max(0, rank - 1)];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d jobs in %.1f ms: %.0f jobs/s, latency p50=%.3f ms p99=%.3f ms, parallel jobs=%d",
+                    latencies.length, elapsedNanos / 1e6, getJobsPerSecond(), getLatencyNanos(50) / 1e6,
+                    getLatencyNanos(99) / 1e6, parallelJobs);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.algorithm;
+
+/**
+ * Прапорець скасування запиту: інший потік викликає {@link #cancel()}, а рушій
+ * перевіряє {@link #isCancelled()} на межах шматків роботи і повертає частковий результат.
+ */
+public final class CancellationToken {
+
+    private volatile boolean cancelled;
+
+    /** Просить зупинити всі запити, що використовують цей токен */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
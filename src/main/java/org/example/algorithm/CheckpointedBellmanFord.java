@@ -0,0 +1,462 @@
+package org.example.algorithm;
+
+import org.example.model.Edge;
+import org.example.model.Graph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * Паралельний Bellman-Ford (раунди Якобі ядром OWNER_COMPUTES з активною множиною)
+ * з періодичним збереженням стану у файл і відновленням після перезапуску JVM.
+ * <p>
+ * Стан між раундами – номер раунду, відстані, попередники й активна множина (вершини,
+ * змінені в останньому раунді). Кожні checkpointInterval раундів знімок копіюється
+ * і передається фоновому потоку, який потоково пише його через FileChannel у тимчасовий файл,
+ * робить force (fsync) лише в точці фіксації і атомарно перейменовує у файл контрольної точки.
+ * Якщо попередній запис ще триває, черговий знімок пропускається – цикл раундів не чекає на диск.
+ * При дострокові зупинці ({@link ExecutionControl}) стан останнього завершеного раунду
+ * фіксується до повернення з методу. Файл перевіряється за контрольною сумою CRC32 і відбитком графа.
+ * <p>
+ * Раунди детерміновані: кожен діапазон вершин обробляє один потік у фіксованому порядку ребер,
+ * попередник змінюється лише при строгому покращенні, тож {@link #resume} дає ті самі
+ * відстані й попередників, що й неперервний запуск.
+ */
+public class CheckpointedBellmanFord implements IControllableShortestPaths {
+
+    private static final int MAGIC = 0x42464350; // "BFCP"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * 4 + 8 + 4 + 4;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private final Path checkpointFile;
+    private final int checkpointInterval;
+    private final int threads;
+
+    private volatile int[] lastPredecessors;
+    private volatile int lastCheckpointIteration = -1;
+    private volatile int skippedCheckpoints;
+
+    public CheckpointedBellmanFord(Path checkpointFile, int checkpointInterval) {
+        this(checkpointFile, checkpointInterval, Runtime.getRuntime().availableProcessors());
+    }
+
+    public CheckpointedBellmanFord(Path checkpointFile, int checkpointInterval, int threads) {
+        if (checkpointInterval < 1 || threads < 1) {
+            throw new IllegalArgumentException("checkpointInterval and threads must be positive");
+        }
+        this.checkpointFile = checkpointFile;
+        this.checkpointInterval = checkpointInterval;
+        this.threads = threads;
+    }
+
+    /** Попередники з останнього завершеного виклику (-1 – немає; для джерела теж -1) */
+    public int[] getLastPredecessors() {
+        return lastPredecessors;
+    }
+
+    /** Номер раунду останньої зафіксованої контрольної точки (-1, якщо її ще не було) */
+    public int getLastCheckpointIteration() {
+        return lastCheckpointIteration;
+    }
+
+    /** Скільки знімків пропущено, бо попередній запис ще не закінчився */
+    public int getSkippedCheckpoints() {
+        return skippedCheckpoints;
+    }
+
+    @Override
+    public int[] findShortestPaths(Graph graph, int source) {
+        ShortestPathsResult result = findShortestPaths(graph, source, ExecutionControl.none());
+        if (result.getStatus() == ShortestPathsResult.Status.CANCELLED) {
+            throw new CancellationException("Shortest paths query interrupted");
+        }
+        return result.getDistances();
+    }
+
+    /** Запуск з нуля; попередня контрольна точка у файлі перезаписується */
+    @Override
+    public ShortestPathsResult findShortestPaths(Graph graph, int source, ExecutionControl control) {
+        int n = graph.getVertexCount();
+        State state = new State(fingerprint(graph), n, graph.getEdges().size(), source, 0,
+                new int[n], new int[n], new byte[n]);
+        Arrays.fill(state.dist, Integer.MAX_VALUE);
+        Arrays.fill(state.pred, -1);
+        state.dist[source] = 0;
+        state.active[source] = 1;
+        return run(graph, state, control);
+    }
+
+    /**
+     * Продовжує обчислення з останньої зафіксованої контрольної точки.
+     *
+     * @throws IOException якщо файла немає, він пошкоджений або записаний для іншого графа
+     */
+    public ShortestPathsResult resume(Graph graph, ExecutionControl control) throws IOException {
+        State state = read(checkpointFile);
+        if (state.vertexCount != graph.getVertexCount() || state.edgeCount != graph.getEdges().size()
+                || state.fingerprint != fingerprint(graph)) {
+            throw new IOException("Checkpoint " + checkpointFile + " belongs to a different graph");
+        }
+        return run(graph, state, control);
+    }
+
+    private ShortestPathsResult run(Graph graph, State state, ExecutionControl control) {
+        int n = state.vertexCount;
+        DestinationPartitionedEdges buckets = DestinationPartitionedEdges.build(graph, threads);
+        int[] dist = state.dist;
+        int[] pred = state.pred;
+        byte[] active = state.active;
+        int[] distNext = new int[n];
+        int[] predNext = new int[n];
+        byte[] activeNext = new byte[n];
+        int[] counts = new int[threads * WorkerThreads.FLAG_STRIDE];
+        long previousUpdates = 0;
+
+        ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "bf-checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<?> pending = null;
+        skippedCheckpoints = 0;
+        // Після першого раунду активна множина порожня рівно тоді, коли раунд нічого не змінив
+        boolean anyActive = hasActive(active);
+        try {
+            for (int iter = state.iteration; ; iter++) {
+                if (!anyActive) {
+                    lastPredecessors = pred;
+                    return new ShortestPathsResult(ShortestPathsResult.Status.COMPLETED, dist, iter);
+                }
+                // Без від’ємних циклів n-й раунд Якобі вже нічого не змінює
+                if (iter >= n) {
+                    lastPredecessors = null;
+                    return new ShortestPathsResult(ShortestPathsResult.Status.NEGATIVE_CYCLE, null, iter);
+                }
+                if (iter > state.iteration && (iter - state.iteration) % checkpointInterval == 0) {
+                    if (pending != null && !pending.isDone()) {
+                        skippedCheckpoints++;
+                    } else {
+                        await(pending);
+                        State snapshot = state.snapshot(iter, dist, pred, active);
+                        pending = writer.submit(() -> commit(snapshot));
+                    }
+                }
+
+                ShortestPathsResult.Status reason = iter - state.iteration >= control.getIterationBudget()
+                        ? ShortestPathsResult.Status.ITERATION_BUDGET_EXHAUSTED
+                        : null;
+                if (reason == null) {
+                    try {
+                        previousUpdates = round(buckets, dist, pred, distNext, predNext, activeNext,
+                                counts, control, iter, previousUpdates, n);
+                        anyActive = previousUpdates > 0;
+                    } catch (CancellationException e) {
+                        reason = ShortestPathsResult.Status.CANCELLED;
+                    }
+                    if (reason == null) {
+                        reason = control.stopReason();
+                    }
+                }
+                if (reason != null) {
+                    // Фіксуємо стан останнього завершеного раунду, щоб продовжити з нього. Пише фоновий
+                    // потік: FileChannel у перерваному потоці закрився б (ClosedByInterruptException)
+                    await(pending);
+                    State snapshot = state.snapshot(iter, dist, pred, active);
+                    pending = writer.submit(() -> commit(snapshot));
+                    return new ShortestPathsResult(reason, dist, iter);
+                }
+
+                int[] tmp = dist;
+                dist = distNext;
+                distNext = tmp;
+                tmp = pred;
+                pred = predNext;
+                predNext = tmp;
+                byte[] tmpActive = active;
+                active = activeNext;
+                activeNext = tmpActive;
+            }
+        } finally {
+            await(pending);
+            writer.shutdown();
+        }
+    }
+
+    /** Один раунд Якобі; повертає кількість покращень (через reportProgress – і слухачу) */
+    private long round(DestinationPartitionedEdges buckets, int[] dist, int[] pred,
+                       int[] distNext, int[] predNext, byte[] activeNext, int[] counts,
+                       ExecutionControl control, int iter, long previousUpdates, int n) {
+        AtomicInteger nextPartition = new AtomicInteger();
+        WorkerThreads.run(threads, t -> {
+            int changed = 0;
+            int p;
+            while (!control.isStopRequested() && (p = nextPartition.getAndIncrement()) < buckets.partitionCount) {
+                changed += relaxPartition(buckets, p, dist, pred, distNext, predNext, activeNext);
+            }
+            counts[t * WorkerThreads.FLAG_STRIDE] = changed;
+        });
+        long updates = 0;
+        for (int t = 0; t < threads; t++) {
+            updates += counts[t * WorkerThreads.FLAG_STRIDE];
+        }
+        if (!control.isStopRequested()) {
+            control.reportProgress(iter + 1, updates, previousUpdates, n);
+        }
+        return updates;
+    }
+
+    /**
+     * Релаксує ребра, що входять у діапазон p; пише лише свій відрізок і позначає змінені вершини
+     * як активні. Ребро з неактивної вершини не може дати строгого покращення (його вже враховано
+     * в попередньому раунді), але фільтр за active[u] виявився повільнішим за перевірку на
+     * нескінченність, тож активна множина слугує лише станом і ознакою завершення.
+     */
+    private static int relaxPartition(DestinationPartitionedEdges buckets, int p, int[] dist, int[] pred,
+                                      int[] distNext, int[] predNext, byte[] activeNext) {
+        int lo = buckets.firstVertex(p);
+        int hi = buckets.endVertex(p);
+        System.arraycopy(dist, lo, distNext, lo, hi - lo);
+        System.arraycopy(pred, lo, predNext, lo, hi - lo);
+        Arrays.fill(activeNext, lo, hi, (byte) 0);
+
+        int[] src = buckets.src;
+        int[] dst = buckets.dst;
+        int[] weight = buckets.weight;
+        int changed = 0;
+        int end = buckets.partitionStarts[p + 1];
+        for (int i = buckets.partitionStarts[p]; i < end; i++) {
+            int u = src[i];
+            int du = dist[u];
+            if (du != Integer.MAX_VALUE) {
+                int newDist = du + weight[i];
+                int v = dst[i];
+                if (newDist < distNext[v]) {
+                    distNext[v] = newDist;
+                    predNext[v] = u;
+                    activeNext[v] = 1;
+                    changed++;
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static boolean hasActive(byte[] active) {
+        for (byte a : active) {
+            if (a != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Чекає завершення запису, не реагуючи на переривання (прапорець відновлюється) */
+    private static void await(Future<?> pending) {
+        if (pending == null) {
+            return;
+        }
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    pending.get();
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    throw cause instanceof UncheckedIOException
+                            ? (UncheckedIOException) cause
+                            : new IllegalStateException("Checkpoint write failed", cause);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** Потоковий запис у тимчасовий файл, fsync і атомарна заміна контрольної точки */
+    private void commit(State state) {
+        Path tmp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+            CRC32 crc = new CRC32();
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(state.vertexCount).putInt(state.edgeCount)
+                    .putLong(state.fingerprint).putInt(state.source).putInt(state.iteration);
+            for (int d : state.dist) {
+                buffer = ensure(channel, buffer, crc, 4).putInt(d);
+            }
+            for (int p : state.pred) {
+                buffer = ensure(channel, buffer, crc, 4).putInt(p);
+            }
+            for (byte a : state.active) {
+                buffer = ensure(channel, buffer, crc, 1).put(a);
+            }
+            drain(channel, buffer, crc);
+            buffer.putLong(crc.getValue());
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            // Точка фіксації: дані на диску до того, як файл стане видимим під основним ім’ям
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            Files.move(tmp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lastCheckpointIteration = state.iteration;
+    }
+
+    private static ByteBuffer ensure(FileChannel channel, ByteBuffer buffer, CRC32 crc, int bytes)
+            throws IOException {
+        if (buffer.remaining() < bytes + 8) {
+            drain(channel, buffer, crc);
+        }
+        return buffer;
+    }
+
+    /** Дописує вміст буфера у файл, враховуючи його в контрольній сумі, і очищає буфер */
+    private static void drain(FileChannel channel, ByteBuffer buffer, CRC32 crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /** Потокове читання з перевіркою CRC32; файл може бути більшим за 2 ГБ */
+    private static State read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+            buffer.limit(0);
+            CRC32 crc = new CRC32();
+            fill(channel, buffer, crc, HEADER_BYTES, file);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a checkpoint file: " + file);
+            }
+            int n = buffer.getInt();
+            int m = buffer.getInt();
+            long fingerprint = buffer.getLong();
+            int source = buffer.getInt();
+            int iteration = buffer.getInt();
+            if (channel.size() != HEADER_BYTES + 9L * n + 8) {
+                throw new IOException("Checkpoint " + file + " has unexpected size");
+            }
+            int[] dist = new int[n];
+            int[] pred = new int[n];
+            byte[] active = new byte[n];
+            for (int v = 0; v < n; v++) {
+                dist[v] = fill(channel, buffer, crc, 4, file).getInt();
+            }
+            for (int v = 0; v < n; v++) {
+                pred[v] = fill(channel, buffer, crc, 4, file).getInt();
+            }
+            for (int v = 0; v < n; v++) {
+                active[v] = fill(channel, buffer, crc, 1, file).get();
+            }
+            long expected = crc.getValue();
+            ByteBuffer trailer = ByteBuffer.allocate(8);
+            trailer.put(buffer);
+            while (trailer.hasRemaining() && channel.read(trailer) >= 0) {
+                // дочитуємо контрольну суму
+            }
+            if (trailer.hasRemaining() || trailer.getLong(0) != expected) {
+                throw new IOException("Checkpoint " + file + " is corrupted (CRC mismatch)");
+            }
+            return new State(fingerprint, n, m, source, iteration, dist, pred, active);
+        }
+    }
+
+    /**
+     * Гарантує, що в буфері є щонайменше bytes непрочитаних байтів, і повертає його.
+     * Байти, що потрапляють у буфер, враховуються в CRC32, крім останніх 8 байтів файла (самої суми).
+     */
+    private static ByteBuffer fill(FileChannel channel, ByteBuffer buffer, CRC32 crc, int bytes, Path file)
+            throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return buffer;
+        }
+        buffer.compact();
+        long dataEnd = channel.size() - 8;
+        while (buffer.position() < bytes) {
+            long left = dataEnd - channel.position();
+            if (left <= 0) {
+                throw new IOException("Checkpoint " + file + " is truncated");
+            }
+            int start = buffer.position();
+            buffer.limit((int) Math.min(buffer.capacity(), start + left));
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Checkpoint " + file + " is truncated");
+            }
+            ByteBuffer read = buffer.duplicate();
+            read.flip().position(start);
+            crc.update(read);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /** Відбиток графа (кількість вершин і ребра в порядку додавання) для перевірки при відновленні */
+    private static long fingerprint(Graph graph) {
+        long hash = graph.getVertexCount();
+        for (Edge e : graph.getEdges()) {
+            hash = hash * 1_000_003L + e.getU();
+            hash = hash * 1_000_003L + e.getV();
+            hash = hash * 1_000_003L + e.getWeight();
+        }
+        return hash;
+    }
+
+    /** Стан між раундами – те, що зберігається в контрольній точці */
+    private static final class State {
+        final long fingerprint;
+        final int vertexCount;
+        final int edgeCount;
+        final int source;
+        final int iteration;
+        final int[] dist;
+        final int[] pred;
+        final byte[] active;
+
+        State(long fingerprint, int vertexCount, int edgeCount, int source, int iteration,
+              int[] dist, int[] pred, byte[] active) {
+            this.fingerprint = fingerprint;
+            this.vertexCount = vertexCount;
+            this.edgeCount = edgeCount;
+            this.source = source;
+            this.iteration = iteration;
+            this.dist = dist;
+            this.pred = pred;
+            this.active = active;
+        }
+
+        /** Копія поточних масивів для фонового запису */
+        State snapshot(int iteration, int[] dist, int[] pred, byte[] active) {
+            return new State(fingerprint, vertexCount, edgeCount, source, iteration,
+                    dist.clone(), pred.clone(), active.clone());
+        }
+    }
+}
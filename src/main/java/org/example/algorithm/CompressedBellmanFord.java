@@ -0,0 +1,165 @@
+package org.example.algorithm;
+
+import org.example.model.CompressedCsrGraph;
+import org.example.model.Graph;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Bellman-Ford над стисненими вихідними списками ({@link CompressedCsrGraph}), що декодуються на льоту.
+ * <p>
+ * Кожен раунд штовхає відстані лише від вершин, що покращились у попередньому раунді:
+ * неактивні блоки пропускаються цілком, неактивні вершини активного блоку – без розпаковки
+ * (лише підрахунком кінців varint-ів). Потоки беруть пачки блоків; релаксація – на місці, як
+ * в ASYNC_IN_PLACE, з атомарним мінімумом (CAS лише при покращенні). За декодування платимо
+ * процесором, натомість у 2–4 рази менше пам’яті й трафіку до неї. Раунд на місці не гірший
+ * за раунд Якобі, тож діє правило n-го раунду з опису пакета; стиснене подання кешується на граф.
+ */
+public class CompressedBellmanFord implements IShortestPaths {
+
+    /** Скільки блоків вершин потік бере за раз */
+    private static final int BLOCKS_PER_TASK = 16;
+
+    private final int threads;
+
+    private final GraphCache<CompressedCsrGraph> compressed = new GraphCache<>(CompressedCsrGraph::fromGraph);
+    private volatile int lastIterations;
+
+    public CompressedBellmanFord() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public CompressedBellmanFord(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be >= 1");
+        }
+        this.threads = threads;
+    }
+
+    /** Кількість раундів останнього запуску */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+    /** Стиснене подання графа (з кешу або щойно побудоване) */
+    public CompressedCsrGraph compressed(Graph graph) {
+        return compressed.get(graph);
+    }
+
+    @Override
+    public int[] findShortestPaths(Graph graph, int source) {
+        return findShortestPaths(compressed(graph), source);
+    }
+
+    /**
+     * Запуск на вже стисненому поданні вихідних списків.
+     *
+     * @return відстані або null, якщо з source досяжний від’ємний цикл
+     */
+    public int[] findShortestPaths(CompressedCsrGraph graph, int source) {
+        int n = graph.getVertexCount();
+        int blockCount = graph.getBlockCount();
+        int workers = Math.max(1, Math.min(threads, (blockCount + BLOCKS_PER_TASK - 1) / BLOCKS_PER_TASK));
+
+        AtomicIntegerArray dist = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            dist.set(v, Integer.MAX_VALUE);
+        }
+        dist.set(source, 0);
+        // Активні вершини й блоки поточного раунду та наступного; записи «1» з різних потоків нешкідливі
+        byte[] active = new byte[n];
+        byte[] activeNext = new byte[n];
+        byte[] blockActive = new byte[blockCount];
+        byte[] blockActiveNext = new byte[blockCount];
+        active[source] = 1;
+        blockActive[source / CompressedCsrGraph.BLOCK_SIZE] = 1;
+        int[] counts = new int[workers * WorkerThreads.FLAG_STRIDE];
+
+        for (int iter = 0; iter < n; iter++) {
+            byte[] cur = active;
+            byte[] next = activeNext;
+            byte[] curBlocks = blockActive;
+            byte[] nextBlocks = blockActiveNext;
+            AtomicInteger nextTask = new AtomicInteger();
+            WorkerThreads.run(workers, t -> {
+                CompressedCsrGraph.Decoder decoder = graph.decoder();
+                int[] targets = new int[graph.getMaxDegree()];
+                int[] weights = new int[graph.getMaxDegree()];
+                int changed = 0;
+                int task;
+                while ((task = nextTask.getAndIncrement()) * BLOCKS_PER_TASK < blockCount) {
+                    int end = Math.min(blockCount, (task + 1) * BLOCKS_PER_TASK);
+                    for (int b = task * BLOCKS_PER_TASK; b < end; b++) {
+                        if (curBlocks[b] != 0) {
+                            // Позначки поточного раунду знімає власник блоку, тож після раунду масиви чисті
+                            curBlocks[b] = 0;
+                            changed += relaxBlock(decoder, b, n, dist, cur, next, nextBlocks, targets, weights);
+                        }
+                    }
+                }
+                counts[t * WorkerThreads.FLAG_STRIDE] = changed;
+            });
+
+            long updates = 0;
+            for (int t = 0; t < workers; t++) {
+                updates += counts[t * WorkerThreads.FLAG_STRIDE];
+            }
+            if (updates == 0) {
+                lastIterations = iter + 1;
+                return toArray(dist);
+            }
+            active = next;
+            activeNext = cur;
+            blockActive = nextBlocks;
+            blockActiveNext = curBlocks;
+        }
+        lastIterations = n;
+        return null;
+    }
+
+    /**
+     * Штовхає відстані від активних вершин блоку b (знімаючи з них позначку);
+     * повертає кількість покращень.
+     */
+    private static int relaxBlock(CompressedCsrGraph.Decoder decoder, int b, int n, AtomicIntegerArray dist,
+                                  byte[] active, byte[] activeNext, byte[] blockActiveNext,
+                                  int[] targets, int[] weights) {
+        decoder.seekBlock(b);
+        int first = b * CompressedCsrGraph.BLOCK_SIZE;
+        int last = Math.min(n, first + CompressedCsrGraph.BLOCK_SIZE);
+        int changed = 0;
+        for (int u = first; u < last; u++) {
+            if (active[u] == 0) {
+                decoder.skipVertex();
+                continue;
+            }
+            active[u] = 0;
+            int degree = decoder.nextVertex(targets, weights);
+            int du = dist.get(u);
+            for (int i = 0; i < degree; i++) {
+                int v = targets[i];
+                int newDist = du + weights[i];
+                int old = dist.get(v);
+                while (newDist < old) {
+                    if (dist.compareAndSet(v, old, newDist)) {
+                        activeNext[v] = 1;
+                        blockActiveNext[v / CompressedCsrGraph.BLOCK_SIZE] = 1;
+                        changed++;
+                        break;
+                    }
+                    old = dist.get(v);
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static int[] toArray(AtomicIntegerArray array) {
+        int[] result = new int[array.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = array.get(i);
+        }
+        return result;
+    }
+}
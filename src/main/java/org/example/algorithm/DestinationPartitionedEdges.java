@@ -0,0 +1,92 @@
+package org.example.algorithm;
+
+import org.example.model.Edge;
+import org.example.model.Graph;
+
+import java.util.List;
+
+/**
+ * Ребра графа, згруповані («розкладені по кошиках») за діапазоном вершини-кінця.
+ * Вершини 0..n-1 поділено на послідовні діапазони однакового розміру; усі ребра,
+ * що входять у діапазон p, лежать у масивах src/dst/weight на позиціях
+ * [partitionStart(p), partitionStart(p + 1)). Потік, який обробляє кошик p,
+ * є єдиним, хто пише у відповідний відрізок масиву відстаней.
+ */
+final class DestinationPartitionedEdges {
+
+    /** Розмір кеш-лінії в int-ах: межі діапазонів вирівнюються на неї, щоб уникнути false sharing */
+    static final int CACHE_LINE_INTS = 16;
+
+    /** Діапазон за замовчуванням – 32K вершин (128 КБ int-ів), вміщується в L2 */
+    static final int DEFAULT_PARTITION_VERTICES = 1 << 15;
+
+    final int vertexCount;
+    final int partitionSize;
+    final int partitionCount;
+    final int[] partitionStarts;
+    final int[] src;
+    final int[] dst;
+    final int[] weight;
+
+    private DestinationPartitionedEdges(int vertexCount, int partitionSize, int[] partitionStarts,
+                                        int[] src, int[] dst, int[] weight) {
+        this.vertexCount = vertexCount;
+        this.partitionSize = partitionSize;
+        this.partitionCount = partitionStarts.length - 1;
+        this.partitionStarts = partitionStarts;
+        this.src = src;
+        this.dst = dst;
+        this.weight = weight;
+    }
+
+    /**
+     * Будує розкладку з розміром діапазону, підібраним під кількість потоків:
+     * не більше DEFAULT_PARTITION_VERTICES і так, щоб на кожен потік припадало
+     * кілька діапазонів (для динамічного балансування).
+     */
+    static DestinationPartitionedEdges build(Graph graph, int threads) {
+        int n = graph.getVertexCount();
+        int perThread = (n + threads * 4 - 1) / Math.max(1, threads * 4);
+        return build(graph.getEdges(), n, Math.min(DEFAULT_PARTITION_VERTICES, perThread));
+    }
+
+    /** Будує розкладку із заданим розміром діапазону (округлюється вгору до кеш-лінії) */
+    static DestinationPartitionedEdges build(List<Edge> edges, int n, int partitionSize) {
+        int size = Math.max(CACHE_LINE_INTS,
+                (partitionSize + CACHE_LINE_INTS - 1) / CACHE_LINE_INTS * CACHE_LINE_INTS);
+        int partitions = Math.max(1, (n + size - 1) / size);
+        int m = edges.size();
+
+        // Сортування підрахунком за номером діапазону кінця ребра
+        int[] starts = new int[partitions + 1];
+        for (Edge e : edges) {
+            starts[e.getV() / size + 1]++;
+        }
+        for (int p = 0; p < partitions; p++) {
+            starts[p + 1] += starts[p];
+        }
+
+        int[] src = new int[m];
+        int[] dst = new int[m];
+        int[] weight = new int[m];
+        int[] cursor = new int[partitions];
+        System.arraycopy(starts, 0, cursor, 0, partitions);
+        for (Edge e : edges) {
+            int pos = cursor[e.getV() / size]++;
+            src[pos] = e.getU();
+            dst[pos] = e.getV();
+            weight[pos] = e.getWeight();
+        }
+        return new DestinationPartitionedEdges(n, size, starts, src, dst, weight);
+    }
+
+    /** Перша вершина діапазону p */
+    int firstVertex(int p) {
+        return p * partitionSize;
+    }
+
+    /** Вершина, що йде одразу за останньою вершиною діапазону p */
+    int endVertex(int p) {
+        return Math.min(vertexCount, (p + 1) * partitionSize);
+    }
+}
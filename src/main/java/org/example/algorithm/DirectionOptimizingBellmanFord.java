@@ -0,0 +1,219 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+import org.example.model.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bellman-Ford з перемиканням напрямку (push/pull) на кожному раунді, як у direction-optimizing BFS.
+ * <p>
+ * Активні вершини – ті, чия відстань змінилась у попередньому раунді.
+ * PUSH: послідовно релаксуємо вихідні ребра фронту на місці (дешево, коли фронт малий).
+ * PULL: кожна вершина паралельно переглядає свої вхідні ребра від активних вершин
+ * і записує лише власну відстань, тож синхронізація не потрібна (вигідно, коли фронт великий).
+ * Раунд виконується як PULL, якщо сумарний вихідний степінь фронту × alpha перевищує m.
+ */
+public class DirectionOptimizingBellmanFord implements IShortestPaths {
+
+    /** Напрямок обходу в раунді */
+    public enum Direction { PUSH, PULL }
+
+    /**
+     * Статистика останнього запуску: напрямок, розмір фронту і кількість його вихідних ребер для кожного раунду.
+     */
+    public static final class Metrics {
+        private final List<Direction> directions;
+        private final List<Integer> frontierSizes;
+        private final List<Long> frontierEdges;
+
+        private Metrics(List<Direction> directions, List<Integer> frontierSizes, List<Long> frontierEdges) {
+            this.directions = Collections.unmodifiableList(directions);
+            this.frontierSizes = Collections.unmodifiableList(frontierSizes);
+            this.frontierEdges = Collections.unmodifiableList(frontierEdges);
+        }
+
+        /** Кількість виконаних раундів */
+        public int getRounds() {
+            return directions.size();
+        }
+
+        /** Рішення push/pull для кожного раунду */
+        public List<Direction> getDirections() {
+            return directions;
+        }
+
+        /** Кількість активних вершин на початку кожного раунду */
+        public List<Integer> getFrontierSizes() {
+            return frontierSizes;
+        }
+
+        /** Сумарний вихідний степінь фронту на початку кожного раунду */
+        public List<Long> getFrontierEdges() {
+            return frontierEdges;
+        }
+
+        /** Скільки раундів пройшло в заданому напрямку */
+        public int count(Direction direction) {
+            return Collections.frequency(directions, direction);
+        }
+    }
+
+    /** Поріг перемикання за замовчуванням (той самий порядок, що й у direction-optimizing BFS) */
+    public static final int DEFAULT_ALPHA = 14;
+
+    /** Менше вершин на потік не варте запуску окремих потоків у PULL-раунді */
+    private static final int MIN_VERTICES_PER_THREAD = 4096;
+
+    private final int threads;
+    private final int alpha;
+    private volatile Metrics lastMetrics;
+
+    public DirectionOptimizingBellmanFord() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_ALPHA);
+    }
+
+    public DirectionOptimizingBellmanFord(int threads, int alpha) {
+        if (threads < 1 || alpha < 1) {
+            throw new IllegalArgumentException("threads and alpha must be positive");
+        }
+        this.threads = threads;
+        this.alpha = alpha;
+    }
+
+    /** Статистика останнього виклику findShortestPaths (null, якщо викликів ще не було) */
+    public Metrics getLastMetrics() {
+        return lastMetrics;
+    }
+
+    @Override
+    public int[] findShortestPaths(Graph graph, int source) {
+        CsrGraph csr = CsrGraph.fromGraphWithReverse(graph);
+        int n = csr.getVertexCount();
+        long m = csr.getEdgeCount();
+
+        int[] dist = new int[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[source] = 0;
+        int[] distNext = new int[n];
+
+        byte[] active = new byte[n];
+        byte[] activeNext = new byte[n];
+        int[] frontier = new int[n];
+        int[] frontierNext = new int[n];
+        frontier[0] = source;
+        active[source] = 1;
+        int frontierSize = 1;
+
+        List<Direction> directions = new ArrayList<>();
+        List<Integer> frontierSizes = new ArrayList<>();
+        List<Long> frontierEdges = new ArrayList<>();
+
+        // Без від’ємних циклів фронт спорожніє не пізніше ніж за n раундів
+        for (int round = 0; round < n && frontierSize > 0; round++) {
+            long edges = 0;
+            for (int i = 0; i < frontierSize; i++) {
+                edges += csr.outDegree(frontier[i]);
+            }
+            Direction direction = edges * alpha > m ? Direction.PULL : Direction.PUSH;
+            directions.add(direction);
+            frontierSizes.add(frontierSize);
+            frontierEdges.add(edges);
+
+            int nextSize;
+            if (direction == Direction.PUSH) {
+                nextSize = push(csr, dist, frontier, frontierSize, activeNext, frontierNext);
+                for (int i = 0; i < frontierSize; i++) {
+                    active[frontier[i]] = 0;
+                }
+            } else {
+                pull(csr, dist, distNext, active, activeNext);
+                int[] tmp = dist;
+                dist = distNext;
+                distNext = tmp;
+                Arrays.fill(active, (byte) 0);
+                nextSize = 0;
+                for (int v = 0; v < n; v++) {
+                    if (activeNext[v] != 0) {
+                        frontierNext[nextSize++] = v;
+                    }
+                }
+            }
+
+            byte[] tmpActive = active;
+            active = activeNext;
+            activeNext = tmpActive;
+            int[] tmpFrontier = frontier;
+            frontier = frontierNext;
+            frontierNext = tmpFrontier;
+            frontierSize = nextSize;
+        }
+
+        lastMetrics = new Metrics(directions, frontierSizes, frontierEdges);
+        // Якщо і після n раундів є зміни – від’ємний цикл
+        return frontierSize > 0 ? null : dist;
+    }
+
+    /** PUSH-раунд: релаксація вихідних ребер фронту на місці; повертає розмір нового фронту */
+    private static int push(CsrGraph csr, int[] dist, int[] frontier, int frontierSize,
+                            byte[] activeNext, int[] frontierNext) {
+        int nextSize = 0;
+        for (int i = 0; i < frontierSize; i++) {
+            int u = frontier[i];
+            int du = dist[u];
+            int end = csr.outOffset(u + 1);
+            for (int e = csr.outOffset(u); e < end; e++) {
+                int v = csr.target(e);
+                int newDist = du + csr.weight(e);
+                if (newDist < dist[v]) {
+                    dist[v] = newDist;
+                    if (activeNext[v] == 0) {
+                        activeNext[v] = 1;
+                        frontierNext[nextSize++] = v;
+                    }
+                }
+            }
+        }
+        return nextSize;
+    }
+
+    /**
+     * PULL-раунд: next[v] = min(dist[v], dist[u] + w) по вхідних ребрах від активних u.
+     * Кожен потік пише лише у свій діапазон next і activeNext.
+     */
+    private void pull(CsrGraph csr, int[] dist, int[] next, byte[] active, byte[] activeNext) {
+        int n = csr.getVertexCount();
+        int workers = Math.max(1, Math.min(threads, n / MIN_VERTICES_PER_THREAD));
+        if (workers == 1) {
+            pullRange(csr, dist, next, active, activeNext, 0, n);
+            return;
+        }
+        int chunkSize = (n + workers - 1) / workers;
+        WorkerThreads.run(workers, t -> {
+            int from = t * chunkSize;
+            pullRange(csr, dist, next, active, activeNext, from, Math.min(n, from + chunkSize));
+        });
+    }
+
+    private static void pullRange(CsrGraph csr, int[] dist, int[] next, byte[] active, byte[] activeNext,
+                                  int from, int to) {
+        for (int v = from; v < to; v++) {
+            int best = dist[v];
+            int end = csr.inOffset(v + 1);
+            for (int e = csr.inOffset(v); e < end; e++) {
+                int u = csr.source(e);
+                if (active[u] != 0) {
+                    int candidate = dist[u] + csr.inWeight(e);
+                    if (candidate < best) {
+                        best = candidate;
+                    }
+                }
+            }
+            next[v] = best;
+            activeNext[v] = best < dist[v] ? (byte) 1 : (byte) 0;
+        }
+    }
+}
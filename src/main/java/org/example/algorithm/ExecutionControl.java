@@ -0,0 +1,100 @@
+package org.example.algorithm;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Параметри виконання запиту: токен скасування, дедлайн, бюджет раундів і слухач прогресу.
+ * Незмінний; кожен метод with… повертає нову копію. Рушії перевіряють токен і дедлайн
+ * на межах шматків роботи (діапазонів вершин або блоків ребер), а бюджет – між раундами.
+ */
+public final class ExecutionControl {
+
+    private static final ExecutionControl NONE = new ExecutionControl(null, false, 0, Integer.MAX_VALUE, null);
+
+    private final CancellationToken token;
+    private final boolean hasDeadline;
+    private final long deadlineNanos;
+    private final int iterationBudget;
+    private final ProgressListener listener;
+
+    private ExecutionControl(CancellationToken token, boolean hasDeadline, long deadlineNanos,
+                             int iterationBudget, ProgressListener listener) {
+        this.token = token;
+        this.hasDeadline = hasDeadline;
+        this.deadlineNanos = deadlineNanos;
+        this.iterationBudget = iterationBudget;
+        this.listener = listener;
+    }
+
+    /** Без обмежень і без слухача */
+    public static ExecutionControl none() {
+        return NONE;
+    }
+
+    public ExecutionControl withCancellation(CancellationToken token) {
+        return new ExecutionControl(token, hasDeadline, deadlineNanos, iterationBudget, listener);
+    }
+
+    /** Дедлайн через timeout від цього моменту */
+    public ExecutionControl withTimeout(long timeout, TimeUnit unit) {
+        return new ExecutionControl(token, true, System.nanoTime() + unit.toNanos(timeout), iterationBudget, listener);
+    }
+
+    /** Не більше iterations раундів релаксації */
+    public ExecutionControl withIterationBudget(int iterations) {
+        if (iterations < 0) {
+            throw new IllegalArgumentException("iterations must be non-negative: " + iterations);
+        }
+        return new ExecutionControl(token, hasDeadline, deadlineNanos, iterations, listener);
+    }
+
+    public ExecutionControl withProgressListener(ProgressListener listener) {
+        return new ExecutionControl(token, hasDeadline, deadlineNanos, iterationBudget, listener);
+    }
+
+    /** Бюджет раундів (Integer.MAX_VALUE – без обмеження) */
+    public int getIterationBudget() {
+        return iterationBudget;
+    }
+
+    /**
+     * Дешева перевірка на межі шматка роботи: скасування, дедлайн або переривання поточного потоку
+     * (робочі потоки перериває {@link WorkerThreads}, коли переривають потік, що їх чекає).
+     */
+    boolean isStopRequested() {
+        return (token != null && token.isCancelled())
+                || (hasDeadline && System.nanoTime() - deadlineNanos >= 0)
+                || Thread.currentThread().isInterrupted();
+    }
+
+    /** Причина зупинки (без урахування бюджету) або null, якщо можна продовжувати */
+    ShortestPathsResult.Status stopReason() {
+        if ((token != null && token.isCancelled()) || Thread.currentThread().isInterrupted()) {
+            return ShortestPathsResult.Status.CANCELLED;
+        }
+        if (hasDeadline && System.nanoTime() - deadlineNanos >= 0) {
+            return ShortestPathsResult.Status.DEADLINE_EXCEEDED;
+        }
+        return null;
+    }
+
+    /**
+     * Повідомляє слухача про завершений раунд. Оцінка залишку: якщо кількість оновлень
+     * спадає геометрично з коефіцієнтом q = updates / previousUpdates, до нуля лишається
+     * близько ln(updates) / ln(1 / q) раундів; інакше – верхня межа maxIterations - iteration.
+     */
+    void reportProgress(int iteration, long updates, long previousUpdates, int maxIterations) {
+        if (listener == null) {
+            return;
+        }
+        int bound = Math.max(0, Math.min(maxIterations, iterationBudget) - iteration);
+        int estimate = bound;
+        if (updates == 0) {
+            estimate = 0;
+        } else if (previousUpdates > updates) {
+            double rounds = Math.log(updates) / Math.log((double) previousUpdates / updates);
+            estimate = (int) Math.min(bound, Math.max(1, Math.ceil(rounds)));
+        }
+        listener.onProgress(iteration, updates, estimate);
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+import org.example.model.Graph;
+
+import java.util.Arrays;
+
+/**
+ * Алгоритм Голдберга–Радзіка для графів із від’ємними вагами.
+ * <p>
+ * Кожен прохід бере множину B вершин, чиї мітки змінились, лишає ті з них, що мають вихідне
+ * ребро з від’ємною зведеною вартістю d(u) + w - d(v), і обходом у глибину по таких ребрах
+ * будує топологічний порядок допустимого підграфа. Вершини сканують у цьому порядку, тож
+ * покращення за один прохід поширюється вздовж усього ланцюжка допустимих ребер.
+ * <p>
+ * Обхід у глибину ітеративний (власний стек), тому глибокі графи не переповнюють стек потоку.
+ * Зворотне ребро в допустимому підграфі означає цикл із від’ємною вагою – тоді, як і інші
+ * реалізації {@link IShortestPaths}, повертаємо null.
+ */
+public class GoldbergRadzikShortestPaths implements IShortestPaths {
+
+    private static final byte WHITE = 0;
+    private static final byte GRAY = 1;
+    private static final byte BLACK = 2;
+
+    private volatile int lastPasses;
+
+    /** Кількість проходів в останньому виклику */
+    public int getLastPassCount() {
+        return lastPasses;
+    }
+
+    @Override
+    public int[] findShortestPaths(Graph graph, int source) {
+        CsrGraph csr = CsrGraph.fromGraph(graph);
+        int n = csr.getVertexCount();
+
+        int[] dist = new int[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[source] = 0;
+
+        // B – вершини, мітки яких змінились із попереднього проходу
+        int[] labeled = new int[n];
+        boolean[] inLabeled = new boolean[n];
+        int labeledCount = 1;
+        labeled[0] = source;
+        inLabeled[source] = true;
+
+        byte[] color = new byte[n];
+        int[] order = new int[n];        // постпорядок DFS
+        int[] stack = new int[n];        // вершини на стеку DFS
+        int[] cursor = new int[n];       // наступне ребро для кожної вершини на стеку
+        int[] nextLabeled = new int[n];
+
+        int pass = 0;
+        while (labeledCount > 0) {
+            if (pass++ > n) {
+                // Без від’ємних циклів вистачає n проходів
+                lastPasses = pass;
+                return null;
+            }
+
+            // Крок 1–2: DFS по ребрах із від’ємною зведеною вартістю з коренів у B
+            int orderSize = 0;
+            for (int i = 0; i < labeledCount; i++) {
+                int root = labeled[i];
+                inLabeled[root] = false;
+                if (color[root] != WHITE || !hasNegativeReducedEdge(csr, dist, root)) {
+                    continue;
+                }
+                int top = 0;
+                stack[0] = root;
+                cursor[root] = csr.outOffset(root);
+                color[root] = GRAY;
+                while (top >= 0) {
+                    int u = stack[top];
+                    int end = csr.outOffset(u + 1);
+                    int e = cursor[u];
+                    boolean descended = false;
+                    while (e < end) {
+                        int v = csr.target(e);
+                        long reduced = (long) dist[u] + csr.weight(e) - dist[v];
+                        e++;
+                        if (reduced >= 0) {
+                            continue;
+                        }
+                        if (color[v] == GRAY) {
+                            // Цикл з ребер від’ємної зведеної вартості – від’ємний цикл
+                            lastPasses = pass;
+                            return null;
+                        }
+                        if (color[v] == WHITE) {
+                            cursor[u] = e;
+                            color[v] = GRAY;
+                            // Із вершин без мітки релаксувати нічого
+                            cursor[v] = dist[v] == Integer.MAX_VALUE ? csr.outOffset(v + 1) : csr.outOffset(v);
+                            stack[++top] = v;
+                            descended = true;
+                            break;
+                        }
+                    }
+                    if (!descended) {
+                        color[u] = BLACK;
+                        order[orderSize++] = u;
+                        top--;
+                    }
+                }
+            }
+
+            // Крок 3: сканування у топологічному порядку (зворотний постпорядок)
+            int nextCount = 0;
+            for (int i = orderSize - 1; i >= 0; i--) {
+                int u = order[i];
+                color[u] = WHITE;
+                int du = dist[u];
+                if (du == Integer.MAX_VALUE) {
+                    continue;
+                }
+                int end = csr.outOffset(u + 1);
+                for (int e = csr.outOffset(u); e < end; e++) {
+                    int v = csr.target(e);
+                    int newDist = du + csr.weight(e);
+                    if (newDist < dist[v]) {
+                        dist[v] = newDist;
+                        if (!inLabeled[v]) {
+                            inLabeled[v] = true;
+                            nextLabeled[nextCount++] = v;
+                        }
+                    }
+                }
+            }
+
+            int[] tmp = labeled;
+            labeled = nextLabeled;
+            nextLabeled = tmp;
+            labeledCount = nextCount;
+        }
+
+        lastPasses = pass;
+        return dist;
+    }
+
+    private static boolean hasNegativeReducedEdge(CsrGraph csr, int[] dist, int u) {
+        int du = dist[u];
+        if (du == Integer.MAX_VALUE) {
+            return false;
+        }
+        int end = csr.outOffset(u + 1);
+        for (int e = csr.outOffset(u); e < end; e++) {
+            if ((long) du + csr.weight(e) < dist[csr.target(e)]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
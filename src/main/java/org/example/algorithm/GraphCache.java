@@ -0,0 +1,37 @@
+package org.example.algorithm;
+
+import org.example.model.Graph;
+
+import java.util.function.Function;
+
+/**
+ * Похідна структура останнього графа (CSR, розклад ребер, стиснене подання …) для рушія,
+ * якого викликають багато разів на тому самому графі. Ключ – тотожність графа і кількість ребер:
+ * Graph лише додає ребра, тож будь-яка зміна графа змінює m і скидає кеш.
+ */
+final class GraphCache<T> {
+
+    private final Function<Graph, T> builder;
+    private Graph graph;
+    private int edgeCount;
+    private T value;
+
+    GraphCache(Function<Graph, T> builder) {
+        this.builder = builder;
+    }
+
+    /** Структура для graph: з кешу або щойно побудована */
+    synchronized T get(Graph graph) {
+        if (this.graph != graph || edgeCount != graph.getEdges().size()) {
+            value = builder.apply(graph);
+            this.graph = graph;
+            edgeCount = graph.getEdges().size();
+        }
+        return value;
+    }
+
+    /** Остання побудована структура або null, якщо викликів ще не було */
+    synchronized T last() {
+        return value;
+    }
+}
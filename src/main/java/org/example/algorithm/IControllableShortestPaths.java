@@ -0,0 +1,18 @@
+package org.example.algorithm;
+
+import org.example.model.Graph;
+
+/**
+ * Рушій найкоротших шляхів, запит до якого можна скасувати, обмежити дедлайном
+ * чи кількістю раундів і відстежувати через зворотний виклик прогресу.
+ */
+public interface IControllableShortestPaths extends IShortestPaths {
+    /**
+     * Те саме, що {@link #findShortestPaths(Graph, int)}, але під керуванням control.
+     * Переривання потоку, що викликав метод, трактується як скасування
+     * (прапорець переривання зберігається).
+     *
+     * @return стан завершення разом із остаточними або частковими відстанями
+     */
+    ShortestPathsResult findShortestPaths(Graph graph, int source, ExecutionControl control);
+}
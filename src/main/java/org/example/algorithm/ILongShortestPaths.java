@@ -0,0 +1,21 @@
+package org.example.algorithm;
+
+import org.example.model.Graph;
+
+/**
+ * Варіант {@link IShortestPaths} із 64-бітними відстанями: сума ваг довгого шляху
+ * не переповнюється навіть за великих int-ваг. Недосяжні вершини – Long.MAX_VALUE.
+ * Якщо знайдений від’ємний цикл, повертає null.
+ */
+public interface ILongShortestPaths {
+    /**
+     * Обчислити найкоротші відстані у графі graph від вершини source до всіх інших.
+     *
+     * @param graph  екземпляр Graph
+     * @param source номер початкової вершини (0..n-1)
+     * @return масив dist[], де dist[v] – мінімальна відстань від source до v,
+     *         або Long.MAX_VALUE, якщо v недосяжна. Якщо в графі є від’ємний цикл,
+     *         повертає null.
+     */
+    long[] findShortestPaths(Graph graph, int source);
+}
@@ -19,4 +19,16 @@ public interface IShortestPaths {
      *         повертає null.
      */
     int[] findShortestPaths(Graph graph, int source);
+
+    /**
+     * Найкоротша відстань від source до target. Реалізація за замовчуванням рахує
+     * відстані до всіх вершин; алгоритми, що вміють зупинятися раніше, її перевизначають.
+     *
+     * @return відстань, Integer.MAX_VALUE, якщо target недосяжна, або null, якщо знайдений
+     *         від’ємний цикл
+     */
+    default Integer distance(Graph graph, int source, int target) {
+        int[] dist = findShortestPaths(graph, source);
+        return dist == null ? null : dist[target];
+    }
 }
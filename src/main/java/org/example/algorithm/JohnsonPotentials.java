@@ -0,0 +1,64 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+
+/**
+ * Потенціали Джонсона: p(v) – найкоротша відстань до v від віртуального джерела,
+ * з’єднаного з усіма вершинами ребрами ваги 0. Тоді зведені ваги
+ * w'(u, v) = w(u, v) + p(u) - p(v) невід’ємні, а для будь-якого шляху s → t
+ * w'(P) = w(P) + p(s) - p(t), тож найкоротші шляхи зберігаються.
+ */
+final class JohnsonPotentials {
+
+    private JohnsonPotentials() {
+    }
+
+    /**
+     * Обчислює потенціали SPFA-обходом (усі вершини стартують у черзі з відстанню 0).
+     *
+     * @return p[v] (усі ≤ 0) або null, якщо в графі є від’ємний цикл
+     */
+    static long[] compute(CsrGraph csr) {
+        int n = csr.getVertexCount();
+        long[] potential = new long[n];
+        int[] hops = new int[n];
+        boolean[] inQueue = new boolean[n];
+
+        // Кільцевий буфер: у черзі одночасно не більше n вершин
+        int[] queue = new int[n];
+        for (int v = 0; v < n; v++) {
+            queue[v] = v;
+            inQueue[v] = true;
+        }
+        int head = 0;
+        int size = n;
+        while (size > 0) {
+            int u = queue[head];
+            head = head + 1 == n ? 0 : head + 1;
+            size--;
+            inQueue[u] = false;
+
+            long pu = potential[u];
+            int end = csr.outOffset(u + 1);
+            for (int e = csr.outOffset(u); e < end; e++) {
+                int v = csr.target(e);
+                long candidate = pu + csr.weight(e);
+                if (candidate < potential[v]) {
+                    potential[v] = candidate;
+                    hops[v] = hops[u] + 1;
+                    if (hops[v] >= n) {
+                        // Шлях з n і більше реальних ребер містить від’ємний цикл
+                        return null;
+                    }
+                    if (!inQueue[v]) {
+                        inQueue[v] = true;
+                        int tail = head + size;
+                        queue[tail >= n ? tail - n : tail] = v;
+                        size++;
+                    }
+                }
+            }
+        }
+        return potential;
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Розбиття вершин графа на p частин із мінімізацією розрізаних ребер
+ * методом паралельного поширення міток (label propagation) з обмеженням розміру частин.
+ * <p>
+ * Початкове розбиття – послідовні відрізки порядку зворотного Cuthill–McKee
+ * (сусідні вершини вже мають близькі номери). Далі кожна вершина на кожній ітерації
+ * переходить у частину, до якої веде найбільше її ребер (в обидва боки), якщо
+ * та частина не перевищить ліміт n / p · (1 + imbalance).
+ */
+public final class LabelPropagationPartitioner {
+
+    /** Кількість ітерацій поширення за замовчуванням (зупиняється раніше, якщо переходів немає) */
+    public static final int DEFAULT_ITERATIONS = 10;
+
+    /** Допустимий дисбаланс розмірів частин */
+    public static final double DEFAULT_IMBALANCE = 0.05;
+
+    private final int threads;
+    private final int iterations;
+    private final double imbalance;
+
+    public LabelPropagationPartitioner() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_ITERATIONS, DEFAULT_IMBALANCE);
+    }
+
+    public LabelPropagationPartitioner(int threads, int iterations, double imbalance) {
+        if (threads < 1 || iterations < 0 || imbalance < 0) {
+            throw new IllegalArgumentException("threads must be positive, iterations and imbalance non-negative");
+        }
+        this.threads = threads;
+        this.iterations = iterations;
+        this.imbalance = imbalance;
+    }
+
+    /**
+     * Розбиває вершини на parts частин.
+     *
+     * @return part[v] – номер частини (0..parts-1) вершини v
+     */
+    public int[] partition(Graph graph, int parts) {
+        if (parts < 1) {
+            throw new IllegalArgumentException("parts must be positive: " + parts);
+        }
+        int n = graph.getVertexCount();
+        int[] label = new int[n];
+        AtomicIntegerArray sizes = new AtomicIntegerArray(parts);
+        int[] order = VertexReordering.reverseCuthillMcKeeOrder(graph);
+        for (int i = 0; i < n; i++) {
+            int p = (int) ((long) i * parts / n);
+            label[order[i]] = p;
+            sizes.incrementAndGet(p);
+        }
+        if (parts == 1) {
+            return label;
+        }
+
+        CsrGraph csr = CsrGraph.fromGraphWithReverse(graph);
+        int maxSize = (int) Math.ceil((double) n / parts * (1 + imbalance));
+        int workers = Math.max(1, Math.min(threads, n / 1024));
+        int chunk = (n + workers - 1) / workers;
+        AtomicInteger moves = new AtomicInteger();
+        for (int iter = 0; iter < iterations; iter++) {
+            moves.set(0);
+            // Мітки сусідів з інших діапазонів читаються без синхронізації: застаріле значення
+            // лише трохи погіршує евристику, а кожну label[v] пише тільки власник діапазону
+            WorkerThreads.run(workers, t -> {
+                int from = t * chunk;
+                moves.addAndGet(propagate(csr, label, sizes, maxSize, parts, from, Math.min(n, from + chunk)));
+            });
+            if (moves.get() == 0) {
+                break;
+            }
+        }
+        return label;
+    }
+
+    private static int propagate(CsrGraph csr, int[] label, AtomicIntegerArray sizes, int maxSize, int parts,
+                                 int from, int to) {
+        int[] counts = new int[parts];
+        int[] touched = new int[parts];
+        int moved = 0;
+        for (int v = from; v < to; v++) {
+            int touchedCount = 0;
+            int outEnd = csr.outOffset(v + 1);
+            for (int e = csr.outOffset(v); e < outEnd; e++) {
+                int p = label[csr.target(e)];
+                if (counts[p]++ == 0) {
+                    touched[touchedCount++] = p;
+                }
+            }
+            int inEnd = csr.inOffset(v + 1);
+            for (int e = csr.inOffset(v); e < inEnd; e++) {
+                int p = label[csr.source(e)];
+                if (counts[p]++ == 0) {
+                    touched[touchedCount++] = p;
+                }
+            }
+
+            int current = label[v];
+            int best = current;
+            for (int i = 0; i < touchedCount; i++) {
+                int p = touched[i];
+                if (counts[p] > counts[best]) {
+                    best = p;
+                }
+            }
+            for (int i = 0; i < touchedCount; i++) {
+                counts[touched[i]] = 0;
+            }
+
+            if (best != current && tryReserve(sizes, best, maxSize)) {
+                sizes.decrementAndGet(current);
+                label[v] = best;
+                moved++;
+            }
+        }
+        return moved;
+    }
+
+    /** Займає місце в частині p, якщо її розмір ще менший за maxSize */
+    private static boolean tryReserve(AtomicIntegerArray sizes, int p, int maxSize) {
+        while (true) {
+            int size = sizes.get(p);
+            if (size >= maxSize) {
+                return false;
+            }
+            if (sizes.compareAndSet(p, size, size + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** Кількість ребер, кінці яких лежать у різних частинах */
+    public static long cutEdges(Graph graph, int[] part) {
+        long cut = 0;
+        for (Edge e : graph.getEdges()) {
+            if (part[e.getU()] != part[e.getV()]) {
+                cut++;
+            }
+        }
+        return cut;
+    }
+}
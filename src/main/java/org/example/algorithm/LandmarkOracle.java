@@ -0,0 +1,397 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+import org.example.model.Graph;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Оракул відстаней ALT (A*, Landmarks, Triangle inequality) для багатьох запитів
+ * «вершина – вершина» на незмінному графі, зокрема з від’ємними ребрами.
+ * <p>
+ * Передобчислення в три етапи:
+ * <ol>
+ *     <li>один прогін Bellman-Ford (SPFA від віртуального джерела) дає потенціали Джонсона p,
+ *     зведені ваги w'(u, v) = w(u, v) + p(u) - p(v) невід’ємні;</li>
+ *     <li>для k орієнтирів L (вибір «найдальшої точки» за кількістю ребер) рахуються d'(L, v)
+ *     і d'(v, L) – 2k незалежних Дейкстр, що розподіляються між потоками;</li>
+ *     <li>зведений CSR, потенціали й таблиця відстаней до орієнтирів (по k чисел на вершину поспіль)
+ *     складаються в компактний {@link Serializable} об’єкт.</li>
+ * </ol>
+ * Запит виконує A* за зведеними вагами з нижньою оцінкою
+ * h(v) = max по L (d'(L, t) - d'(L, v), d'(v, L) - d'(t, L), 0) – вона узгоджена, тож перша
+ * вийнята з черги t вже має остаточну відстань. Якщо оцінка доводить, що t недосяжна з v,
+ * вершина v відкидається одразу. Робочі масиви запиту свої для кожного потоку, тож
+ * {@link #distance(int, int)} можна викликати паралельно.
+ */
+public class LandmarkOracle implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long INF = Long.MAX_VALUE;
+    /** Позначка «недосяжно» в таблиці відстаней до орієнтирів */
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int n;
+    private final int[] offsets;
+    private final int[] targets;
+    /** Зведені (невід’ємні) ваги ребер у порядку CSR */
+    private final int[] reducedWeights;
+    private final long[] potential;
+    private final int[] landmarks;
+    /** d'(L_i, v) у комірці v * k + i */
+    private final int[] fromLandmark;
+    /** d'(v, L_i) у комірці v * k + i */
+    private final int[] toLandmark;
+
+    private transient ThreadLocal<Workspace> workspaces;
+    private transient volatile int lastSettledCount;
+
+    private LandmarkOracle(int n, int[] offsets, int[] targets, int[] reducedWeights, long[] potential,
+                           int[] landmarks, int[] fromLandmark, int[] toLandmark) {
+        this.n = n;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.reducedWeights = reducedWeights;
+        this.potential = potential;
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    /** Будує оракул з k орієнтирами, використовуючи всі доступні процесори */
+    public static LandmarkOracle build(Graph graph, int landmarkCount) {
+        return build(graph, landmarkCount, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Будує оракул.
+     *
+     * @param landmarkCount кількість орієнтирів k (0 – звичайний Дейкстра за зведеними вагами)
+     * @param threads       скільки потоків рахують Дейкстри від орієнтирів
+     * @return оракул або null, якщо в графі є від’ємний цикл (потенціалів не існує)
+     * @throws ArithmeticException якщо зведена вага чи відстань не вміщується в int
+     */
+    public static LandmarkOracle build(Graph graph, int landmarkCount, int threads) {
+        if (landmarkCount < 0 || threads < 1) {
+            throw new IllegalArgumentException("landmarkCount must be >= 0 and threads >= 1");
+        }
+        CsrGraph csr = CsrGraph.fromGraphWithReverse(graph);
+        int n = csr.getVertexCount();
+        int m = csr.getEdgeCount();
+
+        // 1. Потенціали Джонсона
+        long[] potential = JohnsonPotentials.compute(csr);
+        if (potential == null) {
+            return null;
+        }
+
+        // Зведений граф у прямому й оберненому напрямку
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[m];
+        int[] weights = new int[m];
+        int[] inOffsets = new int[n + 1];
+        int[] sources = new int[m];
+        int[] inWeights = new int[m];
+        for (int u = 0; u < n; u++) {
+            offsets[u + 1] = csr.outOffset(u + 1);
+            inOffsets[u + 1] = csr.inOffset(u + 1);
+            for (int e = csr.outOffset(u); e < offsets[u + 1]; e++) {
+                int v = csr.target(e);
+                targets[e] = v;
+                weights[e] = Math.toIntExact(csr.weight(e) + potential[u] - potential[v]);
+            }
+            for (int e = csr.inOffset(u); e < inOffsets[u + 1]; e++) {
+                int from = csr.source(e);
+                sources[e] = from;
+                inWeights[e] = Math.toIntExact(csr.inWeight(e) + potential[from] - potential[u]);
+            }
+        }
+
+        // 2. Орієнтири й відстані до/від них
+        int[] landmarks = chooseLandmarks(offsets, targets, inOffsets, sources, n, Math.min(landmarkCount, n));
+        int k = landmarks.length;
+        int[] fromLandmark = new int[n * k];
+        int[] toLandmark = new int[n * k];
+        AtomicInteger nextTask = new AtomicInteger();
+        WorkerThreads.run(Math.max(1, Math.min(threads, 2 * k)), id -> {
+            long[] dist = new long[n];
+            VertexHeap heap = new VertexHeap();
+            for (int task = nextTask.getAndIncrement(); task < 2 * k; task = nextTask.getAndIncrement()) {
+                int i = task >> 1;
+                boolean forward = (task & 1) == 0;
+                if (forward) {
+                    dijkstra(offsets, targets, weights, landmarks[i], dist, heap);
+                } else {
+                    dijkstra(inOffsets, sources, inWeights, landmarks[i], dist, heap);
+                }
+                // Кожне завдання пише свій стовпець i, тож записи потоків не перетинаються
+                int[] table = forward ? fromLandmark : toLandmark;
+                for (int v = 0; v < n; v++) {
+                    table[v * k + i] = dist[v] == INF ? UNREACHABLE : Math.toIntExact(dist[v]);
+                }
+            }
+        });
+
+        // 3. Компактний оракул (обернений граф потрібен лише під час побудови)
+        return new LandmarkOracle(n, offsets, targets, weights, potential, landmarks, fromLandmark, toLandmark);
+    }
+
+    /**
+     * Вибір «найдальшої точки»: перший орієнтир – найдальша за кількістю ребер (без урахування
+     * напрямку) вершина від випадкової, кожен наступний максимізує відстань до вже вибраних.
+     * Вершини інших компонент мають нескінченну відстань, тож кожна неодновершинна компонента
+     * отримує орієнтир.
+     */
+    private static int[] chooseLandmarks(int[] offsets, int[] targets, int[] inOffsets, int[] sources,
+                                         int n, int k) {
+        int[] landmarks = new int[k];
+        if (k == 0) {
+            return landmarks;
+        }
+        int[] nearest = new int[n];
+        Arrays.fill(nearest, Integer.MAX_VALUE);
+        int[] hops = new int[n];
+        int[] queue = new int[n];
+
+        int start = new Random(n).nextInt(n);
+        for (int step = 0; step < n && isolated(offsets, inOffsets, start); step++) {
+            start = start + 1 == n ? 0 : start + 1;
+        }
+        undirectedBfs(offsets, targets, inOffsets, sources, start, hops, queue);
+        int candidate = start;
+        for (int v = 0; v < n; v++) {
+            if (hops[v] != Integer.MAX_VALUE && hops[v] > hops[candidate]) {
+                candidate = v;
+            }
+        }
+        for (int i = 0; i < k; i++) {
+            landmarks[i] = candidate;
+            undirectedBfs(offsets, targets, inOffsets, sources, candidate, hops, queue);
+            int farthest = -1;
+            for (int v = 0; v < n; v++) {
+                nearest[v] = Math.min(nearest[v], hops[v]);
+                if (nearest[v] != 0 && !isolated(offsets, inOffsets, v)
+                        && (farthest < 0 || nearest[v] > nearest[farthest])) {
+                    farthest = v;
+                }
+            }
+            if (farthest < 0) {
+                // Орієнтирів більше, ніж вершин поза ними – решта не потрібна
+                return Arrays.copyOf(landmarks, i + 1);
+            }
+            candidate = farthest;
+        }
+        return landmarks;
+    }
+
+    /** Ізольована вершина не дає жодної оцінки, тож орієнтиром її не вибираємо */
+    private static boolean isolated(int[] offsets, int[] inOffsets, int v) {
+        return offsets[v] == offsets[v + 1] && inOffsets[v] == inOffsets[v + 1];
+    }
+
+    private static void undirectedBfs(int[] offsets, int[] targets, int[] inOffsets, int[] sources,
+                                      int start, int[] hops, int[] queue) {
+        Arrays.fill(hops, Integer.MAX_VALUE);
+        hops[start] = 0;
+        queue[0] = start;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int u = queue[head++];
+            int next = hops[u] + 1;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (hops[v] == Integer.MAX_VALUE) {
+                    hops[v] = next;
+                    queue[tail++] = v;
+                }
+            }
+            for (int e = inOffsets[u]; e < inOffsets[u + 1]; e++) {
+                int v = sources[e];
+                if (hops[v] == Integer.MAX_VALUE) {
+                    hops[v] = next;
+                    queue[tail++] = v;
+                }
+            }
+        }
+    }
+
+    private static void dijkstra(int[] offsets, int[] adjacent, int[] weights, int source,
+                                 long[] dist, VertexHeap heap) {
+        Arrays.fill(dist, INF);
+        heap.clear();
+        dist[source] = 0;
+        heap.push(0, source);
+        while (!heap.isEmpty()) {
+            long du = heap.peekKey();
+            int u = heap.peekVertex();
+            heap.pop();
+            if (du != dist[u]) {
+                continue;
+            }
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = adjacent[e];
+                long candidate = du + weights[e];
+                if (candidate < dist[v]) {
+                    dist[v] = candidate;
+                    heap.push(candidate, v);
+                }
+            }
+        }
+    }
+
+    /**
+     * Найкоротша відстань від source до target у початковому графі.
+     *
+     * @return відстань або Integer.MAX_VALUE, якщо target недосяжна
+     */
+    public int distance(int source, int target) {
+        Workspace ws = workspace();
+        int k = landmarks.length;
+        int targetBase = target * k;
+        int settled = 0;
+        long result = INF;
+        long sourceEstimate = estimate(source, targetBase);
+        if (sourceEstimate == INF) {
+            lastSettledCount = 0;
+            return Integer.MAX_VALUE;
+        }
+        try {
+            ws.touch(source, sourceEstimate);
+            ws.heap.push(sourceEstimate, source);
+            while (!ws.heap.isEmpty()) {
+                int u = ws.heap.peekVertex();
+                long key = ws.heap.peekKey();
+                ws.heap.pop();
+                long gu = ws.dist[u];
+                if (key != gu + ws.estimate[u]) {
+                    continue;
+                }
+                settled++;
+                if (u == target) {
+                    result = gu;
+                    break;
+                }
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long candidate = gu + reducedWeights[e];
+                    if (candidate < ws.dist[v]) {
+                        if (ws.dist[v] == INF) {
+                            long h = estimate(v, targetBase);
+                            if (h == INF) {
+                                // Оцінка довела, що з v до target шляху немає
+                                continue;
+                            }
+                            ws.touch(v, h);
+                        }
+                        ws.dist[v] = candidate;
+                        ws.heap.push(candidate + ws.estimate[v], v);
+                    }
+                }
+            }
+        } finally {
+            ws.reset();
+            lastSettledCount = settled;
+        }
+        if (result == INF) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) (result - potential[source] + potential[target]);
+    }
+
+    /** Нижня оцінка d'(v, target) за нерівністю трикутника; INF, якщо target недосяжна з v */
+    private long estimate(int v, int targetBase) {
+        int k = landmarks.length;
+        int base = v * k;
+        long best = 0;
+        for (int i = 0; i < k; i++) {
+            int fromV = fromLandmark[base + i];
+            int fromT = fromLandmark[targetBase + i];
+            if (fromV != UNREACHABLE) {
+                if (fromT == UNREACHABLE) {
+                    // L досягає v, але не t – отже, з v до t шляху немає
+                    return INF;
+                }
+                best = Math.max(best, (long) fromT - fromV);
+            }
+            int vTo = toLandmark[base + i];
+            int tTo = toLandmark[targetBase + i];
+            if (tTo != UNREACHABLE) {
+                if (vTo == UNREACHABLE) {
+                    // t досягає L, а v – ні, отже, v не досягає і t
+                    return INF;
+                }
+                best = Math.max(best, (long) vTo - tTo);
+            }
+        }
+        return best;
+    }
+
+    private Workspace workspace() {
+        ThreadLocal<Workspace> local = workspaces;
+        if (local == null) {
+            synchronized (this) {
+                if (workspaces == null) {
+                    workspaces = ThreadLocal.withInitial(() -> new Workspace(n));
+                }
+                local = workspaces;
+            }
+        }
+        return local.get();
+    }
+
+    /** Кількість вершин графа */
+    public int getVertexCount() {
+        return n;
+    }
+
+    /** Вибрані орієнтири (копія) */
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    /** Скільки вершин закрив останній запит (у будь-якому потоці) */
+    public int getLastSettledCount() {
+        return lastSettledCount;
+    }
+
+    /** Приблизний обсяг даних оракула в пам’яті, байт (без заголовків об’єктів) */
+    public long getMemoryBytes() {
+        return 4L * (offsets.length + targets.length + reducedWeights.length + landmarks.length
+                + fromLandmark.length + toLandmark.length) + 8L * potential.length;
+    }
+
+    /** Робочі масиви одного потоку: скидаються за списком торкнутих вершин */
+    private static final class Workspace {
+        final long[] dist;
+        final long[] estimate;
+        final int[] touched;
+        int touchedCount;
+        final VertexHeap heap = new VertexHeap();
+
+        Workspace(int n) {
+            dist = new long[n];
+            estimate = new long[n];
+            touched = new int[n];
+            Arrays.fill(dist, INF);
+        }
+
+        void touch(int v, long h) {
+            dist[v] = 0;
+            estimate[v] = h;
+            touched[touchedCount++] = v;
+        }
+
+        void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                dist[touched[i]] = INF;
+            }
+            touchedCount = 0;
+            heap.clear();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.algorithm;
+
+import org.example.model.BlockedAdjacencyMatrix;
+import org.example.model.Graph;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bellman-Ford як послідовність min-plus множень матриці на вектор: x' = min(x, Aᵀ ⊗ x),
+ * де (Aᵀ ⊗ x)[v] = min по ребрах u → v від x[u] + w(u, v).
+ * <p>
+ * Матриця зберігається плитками ({@link BlockedAdjacencyMatrix}). Рядок плиток (сегмент кінців)
+ * обробляє рівно один потік, тож свій відрізок x' він пише звичайними store, а x лише читається.
+ * Плитка, у стовпці якої (сегменті початків) у попередньому раунді нічого не змінилось,
+ * пропускається: її внесок той самий, що й раунд тому, і вже врахований у x. Тому після кількох
+ * раундів працюють лише плитки навколо фронту змін.
+ * <p>
+ * Раунди – у стилі Якобі (окремий вектор x'), тож діє правило n-го раунду з опису пакета;
+ * плиткове подання кешується на граф.
+ */
+public class MinPlusSpmvBellmanFord implements IShortestPaths {
+
+    private final int threads;
+    private final int segmentSize;
+
+    private final GraphCache<BlockedAdjacencyMatrix> matrices;
+    private volatile int lastIterations;
+    private volatile long lastTilesMultiplied;
+    private volatile long lastTilesSkipped;
+    private volatile long lastEdgesRelaxed;
+
+    public MinPlusSpmvBellmanFord() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public MinPlusSpmvBellmanFord(int threads) {
+        this(threads, BlockedAdjacencyMatrix.DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param segmentSize розмір сегмента плиток (див. {@link BlockedAdjacencyMatrix#fromGraph(Graph, int)})
+     */
+    public MinPlusSpmvBellmanFord(int threads, int segmentSize) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be >= 1");
+        }
+        this.threads = threads;
+        this.segmentSize = segmentSize;
+        this.matrices = new GraphCache<>(graph -> BlockedAdjacencyMatrix.fromGraph(graph, segmentSize));
+    }
+
+    /** Кількість раундів останнього запуску */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+    /** Скільки плиток перемножено за останній запуск (сума по раундах) */
+    public long getLastTilesMultiplied() {
+        return lastTilesMultiplied;
+    }
+
+    /** Скільки плиток пропущено, бо їхній стовпець не змінився */
+    public long getLastTilesSkipped() {
+        return lastTilesSkipped;
+    }
+
+    /** Скільки ребер релаксовано за останній запуск */
+    public long getLastEdgesRelaxed() {
+        return lastEdgesRelaxed;
+    }
+
+    /** Плиткове подання графа (з кешу або щойно побудоване) */
+    public BlockedAdjacencyMatrix matrix(Graph graph) {
+        return matrices.get(graph);
+    }
+
+    @Override
+    public int[] findShortestPaths(Graph graph, int source) {
+        return findShortestPaths(matrix(graph), source);
+    }
+
+    /**
+     * Запуск на вже побудованій плитковій матриці.
+     *
+     * @return відстані або null, якщо з source досяжний від’ємний цикл
+     */
+    public int[] findShortestPaths(BlockedAdjacencyMatrix matrix, int source) {
+        int n = matrix.getVertexCount();
+        int segments = matrix.getSegmentCount();
+        int shift = Integer.numberOfTrailingZeros(matrix.getSegmentSize());
+        int workers = Math.max(1, Math.min(threads, segments));
+
+        int[] x = new int[n];
+        Arrays.fill(x, Integer.MAX_VALUE);
+        x[source] = 0;
+        int[] y = new int[n];
+        Arrays.fill(y, Integer.MAX_VALUE);
+        // Сегменти, що змінились у попередньому раунді, і в поточному (пише лише власник рядка)
+        byte[] changed = new byte[segments];
+        byte[] changedNext = new byte[segments];
+        changed[source >>> shift] = 1;
+        int[] counts = new int[workers * WorkerThreads.FLAG_STRIDE];
+        long[] tileCounts = new long[workers * WorkerThreads.FLAG_STRIDE / 2];
+        long tilesMultiplied = 0;
+        long tilesSkipped = 0;
+        long edgesRelaxed = 0;
+
+        for (int iter = 0; iter < n; iter++) {
+            int[] cur = x;
+            int[] next = y;
+            byte[] curChanged = changed;
+            byte[] nextChanged = changedNext;
+            AtomicInteger nextRow = new AtomicInteger();
+            WorkerThreads.run(workers, t -> {
+                int updates = 0;
+                long multiplied = 0;
+                long skipped = 0;
+                long edges = 0;
+                int r;
+                while ((r = nextRow.getAndIncrement()) < segments) {
+                    if (curChanged[r] != 0) {
+                        // Другий буфер тримає вектор раунд тому; відрізок, що тоді не змінився, копіювати не треба
+                        int from = r << shift;
+                        System.arraycopy(cur, from, next, from, Math.min(n, from + (1 << shift)) - from);
+                    }
+                    int rowUpdates = 0;
+                    for (int tile = matrix.rowTileStart(r), end = matrix.rowTileStart(r + 1); tile < end; tile++) {
+                        if (curChanged[matrix.tileColumn(tile)] == 0) {
+                            skipped++;
+                            continue;
+                        }
+                        multiplied++;
+                        edges += matrix.tileEdgeCount(tile);
+                        rowUpdates += matrix.multiplyTile(r, tile, cur, next);
+                    }
+                    nextChanged[r] = (byte) (rowUpdates > 0 ? 1 : 0);
+                    updates += rowUpdates;
+                }
+                counts[t * WorkerThreads.FLAG_STRIDE] = updates;
+                int slot = t * WorkerThreads.FLAG_STRIDE / 2;
+                tileCounts[slot] = multiplied;
+                tileCounts[slot + 1] = skipped;
+                tileCounts[slot + 2] = edges;
+            });
+
+            long updates = 0;
+            for (int t = 0; t < workers; t++) {
+                updates += counts[t * WorkerThreads.FLAG_STRIDE];
+                int slot = t * WorkerThreads.FLAG_STRIDE / 2;
+                tilesMultiplied += tileCounts[slot];
+                tilesSkipped += tileCounts[slot + 1];
+                edgesRelaxed += tileCounts[slot + 2];
+            }
+            x = next;
+            y = cur;
+            changed = nextChanged;
+            changedNext = curChanged;
+            if (updates == 0) {
+                record(iter + 1, tilesMultiplied, tilesSkipped, edgesRelaxed);
+                return x;
+            }
+        }
+        record(n, tilesMultiplied, tilesSkipped, edgesRelaxed);
+        return null;
+    }
+
+    private void record(int iterations, long tilesMultiplied, long tilesSkipped, long edgesRelaxed) {
+        lastIterations = iterations;
+        lastTilesMultiplied = tilesMultiplied;
+        lastTilesSkipped = tilesSkipped;
+        lastEdgesRelaxed = edgesRelaxed;
+    }
+}
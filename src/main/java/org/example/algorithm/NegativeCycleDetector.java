@@ -0,0 +1,282 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+import org.example.model.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Пошук від’ємних циклів у всьому графі, а не лише досяжних із певного джерела.
+ * <p>
+ * Граф умовно доповнюється віртуальним супер-джерелом із ребрами ваги 0 до кожної вершини,
+ * тож усі відстані стартують з 0 і всі вершини одразу активні. Далі працює паралельний
+ * фронтовий (frontier) Bellman-Ford: у кожному раунді релаксуються лише вихідні ребра вершин,
+ * змінених у попередньому раунді. Після кожного раунду перевіряється граф попередників:
+ * будь-який цикл у ньому – від’ємний цикл вихідного графа. Знайдені цикли вилучаються
+ * з подальшої релаксації, тож результат – набір вершинно-непересічних від’ємних циклів.
+ */
+public class NegativeCycleDetector {
+
+    /** Фронт, менший за цей поріг, обробляємо в поточному потоці без пулу */
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private final int threads;
+
+    public NegativeCycleDetector() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public NegativeCycleDetector(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Знаходить усі (вершинно-непересічні) від’ємні цикли графа за один запуск.
+     *
+     * @return список циклів; кожен цикл – вершини в порядку обходу v0 → v1 → … → v0.
+     *         Порожній список, якщо від’ємних циклів немає.
+     */
+    public List<List<Integer>> findAllCycles(Graph graph) {
+        return detect(graph, false);
+    }
+
+    /**
+     * Знаходить перший від’ємний цикл і одразу завершує роботу.
+     *
+     * @return вершини циклу в порядку обходу або null, якщо від’ємних циклів немає
+     */
+    public List<Integer> findFirstCycle(Graph graph) {
+        List<List<Integer>> cycles = detect(graph, true);
+        return cycles.isEmpty() ? null : cycles.get(0);
+    }
+
+    /** Чи містить граф хоча б один від’ємний цикл */
+    public boolean hasNegativeCycle(Graph graph) {
+        return findFirstCycle(graph) != null;
+    }
+
+    private List<List<Integer>> detect(Graph graph, boolean firstOnly) {
+        CsrGraph csr = CsrGraph.fromGraph(graph);
+        int n = csr.getVertexCount();
+
+        // Стан вершини – пара (відстань, попередник), упакована в long,
+        // щоб CAS оновлював обидва поля узгоджено
+        AtomicLongArray state = new AtomicLongArray(n);
+        for (int v = 0; v < n; v++) {
+            state.set(v, pack(0, -1));
+        }
+        AtomicIntegerArray queuedRound = new AtomicIntegerArray(n);
+        boolean[] dead = new boolean[n];
+        int[] mark = new int[n];
+
+        int[] frontier = new int[n];
+        for (int v = 0; v < n; v++) {
+            frontier[v] = v;
+        }
+        int frontierSize = n;
+
+        List<List<Integer>> cycles = new ArrayList<>();
+        ExecutorService pool = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+        try {
+            int round = 0;
+            int roundsWithoutCycle = 0;
+            // Без від’ємних циклів фронт спорожніє не пізніше ніж за n раундів
+            while (frontierSize > 0 && roundsWithoutCycle <= n) {
+                round++;
+                frontier = relaxRound(csr, state, queuedRound, dead, frontier, frontierSize, round, pool);
+                frontierSize = frontier.length;
+
+                List<List<Integer>> found = extractPredecessorCycles(csr, state, dead, mark, firstOnly);
+                if (found.isEmpty()) {
+                    roundsWithoutCycle++;
+                    continue;
+                }
+                cycles.addAll(found);
+                if (firstOnly) {
+                    break;
+                }
+                roundsWithoutCycle = 0;
+
+                // Вершини знайдених циклів більше не беруть участі в релаксації
+                int kept = 0;
+                for (int i = 0; i < frontierSize; i++) {
+                    if (!dead[frontier[i]]) {
+                        frontier[kept++] = frontier[i];
+                    }
+                }
+                frontierSize = kept;
+                frontier = Arrays.copyOf(frontier, kept);
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+        return cycles;
+    }
+
+    /** Один раунд релаксації вихідних ребер фронту; повертає новий фронт */
+    private int[] relaxRound(CsrGraph csr, AtomicLongArray state, AtomicIntegerArray queuedRound,
+                             boolean[] dead, int[] frontier, int size, int round, ExecutorService pool) {
+        if (pool == null || size < SEQUENTIAL_THRESHOLD) {
+            return relaxRange(csr, state, queuedRound, dead, frontier, 0, size, round);
+        }
+
+        int chunkSize = (size + threads - 1) / threads;
+        List<Callable<int[]>> tasks = new ArrayList<>(threads);
+        for (int start = 0; start < size; start += chunkSize) {
+            final int from = start;
+            final int to = Math.min(start + chunkSize, size);
+            tasks.add(() -> relaxRange(csr, state, queuedRound, dead, frontier, from, to, round));
+        }
+
+        try {
+            List<Future<int[]>> parts = pool.invokeAll(tasks);
+            int total = 0;
+            int[][] results = new int[parts.size()][];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = parts.get(i).get();
+                total += results[i].length;
+            }
+            int[] next = new int[total];
+            int pos = 0;
+            for (int[] part : results) {
+                System.arraycopy(part, 0, next, pos, part.length);
+                pos += part.length;
+            }
+            return next;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Negative cycle detection interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Relaxation task failed", e.getCause());
+        }
+    }
+
+    private static int[] relaxRange(CsrGraph csr, AtomicLongArray state, AtomicIntegerArray queuedRound,
+                                    boolean[] dead, int[] frontier, int from, int to, int round) {
+        int[] next = new int[Math.max(16, to - from)];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int u = frontier[i];
+            int du = distOf(state.get(u));
+            int end = csr.outOffset(u + 1);
+            for (int e = csr.outOffset(u); e < end; e++) {
+                int v = csr.target(e);
+                if (dead[v]) {
+                    continue;
+                }
+                int newDist = du + csr.weight(e);
+                while (true) {
+                    long current = state.get(v);
+                    if (newDist >= distOf(current)) {
+                        break;
+                    }
+                    if (state.compareAndSet(v, current, pack(newDist, u))) {
+                        if (queuedRound.getAndSet(v, round) != round) {
+                            if (count == next.length) {
+                                next = Arrays.copyOf(next, count * 2);
+                            }
+                            next[count++] = v;
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(next, count);
+    }
+
+    /**
+     * Шукає цикли в графі попередників і позначає їхні вершини як вилучені.
+     * Кожен кандидат додатково перевіряється на від’ємну сумарну вагу.
+     */
+    private static List<List<Integer>> extractPredecessorCycles(CsrGraph csr, AtomicLongArray state,
+                                                                boolean[] dead, int[] mark, boolean firstOnly) {
+        int n = csr.getVertexCount();
+        Arrays.fill(mark, 0);
+        List<List<Integer>> cycles = new ArrayList<>();
+
+        for (int s = 0; s < n; s++) {
+            if (dead[s] || mark[s] != 0) {
+                continue;
+            }
+            // Ідемо від s по попередниках, позначаючи шлях міткою s + 1
+            int x = s;
+            while (x != -1 && !dead[x] && mark[x] == 0) {
+                mark[x] = s + 1;
+                x = predOf(state.get(x));
+            }
+            if (x == -1 || dead[x] || mark[x] != s + 1) {
+                continue;
+            }
+
+            // x лежить на циклі: збираємо його у зворотному порядку і розвертаємо
+            List<Integer> cycle = new ArrayList<>();
+            int y = x;
+            do {
+                cycle.add(y);
+                y = predOf(state.get(y));
+            } while (y != x);
+            Collections.reverse(cycle);
+
+            if (cycleWeight(csr, cycle) < 0) {
+                for (int v : cycle) {
+                    dead[v] = true;
+                }
+                cycles.add(cycle);
+                if (firstOnly) {
+                    break;
+                }
+            }
+        }
+        return cycles;
+    }
+
+    /** Вага циклу, де для кожної пари сусідніх вершин береться найлегше паралельне ребро */
+    private static long cycleWeight(CsrGraph csr, List<Integer> cycle) {
+        long total = 0;
+        int size = cycle.size();
+        for (int i = 0; i < size; i++) {
+            int u = cycle.get(i);
+            int v = cycle.get((i + 1) % size);
+            long best = Long.MAX_VALUE;
+            int end = csr.outOffset(u + 1);
+            for (int e = csr.outOffset(u); e < end; e++) {
+                if (csr.target(e) == v) {
+                    best = Math.min(best, csr.weight(e));
+                }
+            }
+            if (best == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private static long pack(int dist, int pred) {
+        return ((long) dist << 32) | (pred & 0xFFFFFFFFL);
+    }
+
+    private static int distOf(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    private static int predOf(long packed) {
+        return (int) packed;
+    }
+}
@@ -1,19 +1,141 @@
 package org.example.algorithm;
 
+import org.example.model.CsrGraph;
 import org.example.model.Edge;
 import org.example.model.Graph;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Паралельна реалізація Bellman-Ford із використанням Java-потоків та перевіркою на від’ємні цикли.
+ * Спосіб розподілу роботи між потоками задається режимом {@link Mode}.
+ * Запит можна скасувати, обмежити дедлайном чи бюджетом раундів ({@link ExecutionControl});
+ * токен і дедлайн перевіряються на межах діапазонів вершин (або блоків ребер у EDGE_CHUNKED).
  */
-public class ParallelBellmanFord implements IShortestPaths {
+public class ParallelBellmanFord implements IControllableShortestPaths {
 
+    /**
+     * Режими розподілу роботи між потоками.
+     */
+    public enum Mode {
+        /** Ребра діляться на рівні шматки за індексом; запис у distNext – під глобальним замком */
+        EDGE_CHUNKED,
+        /**
+         * «Owner computes»: вершини діляться на діапазони розміром із кеш, ребра заздалегідь
+         * розкладено за діапазоном кінця. Кожен діапазон обробляє рівно один потік,
+         * тож запис у свій відрізок distNext іде звичайними store без замків і CAS.
+         */
+        OWNER_COMPUTES,
+        /**
+         * Асинхронна релаксація на місці (у стилі Гаусса–Зейделя) з тим самим розкладом ребер,
+         * що й OWNER_COMPUTES, але без другого буфера: покращення, знайдені одним потоком,
+         * бачать інші потоки вже в цьому ж раунді. Відстані лише спадають, тож «гонитва»
+         * при читанні дає в гіршому разі застаріле, але коректне верхнє значення.
+         */
+        ASYNC_IN_PLACE,
+        /**
+         * Релаксація на місці лише від вершин, що покращились у попередньому раунді (фронт),
+         * з вибором кількості потоків на кожен раунд: за кількістю активних ребер (сума вихідних
+         * степенів фронту) і моделлю вартості {@link ParallelCalibration} раунд іде послідовно
+         * в потоці викликача (без запуску потоків) або на k потоках з атомарним мінімумом.
+         * На малих графах і в «хвостах» з кількома активними вершинами це прибирає ціну бар’єрів.
+         */
+        ADAPTIVE
+    }
+
+    /** Скільки вершин фронту обробляється між перевірками зупинки (і береться потоком за раз) */
+    static final int FRONTIER_CHUNK = 1024;
+
+    /** Як часто (у ребрах) потік дивиться, чи не знайшов цикл інший потік і чи не треба зупинитися */
+    private static final int CANCEL_CHECK_STRIDE = 4096;
+
+    private final Mode mode;
+    private final int threads;
+    private final ParallelCalibration calibration;
+    /** CSR для ADAPTIVE: на малих графах його побудова помітна */
+    private final GraphCache<CsrGraph> csr = new GraphCache<>(CsrGraph::fromGraph);
+    private volatile int lastIterations;
+    private volatile int lastSequentialRounds;
+
+    public ParallelBellmanFord() {
+        this(Mode.EDGE_CHUNKED);
+    }
+
+    public ParallelBellmanFord(Mode mode) {
+        this(mode, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelBellmanFord(Mode mode, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.mode = mode;
+        this.threads = threads;
+        this.calibration = null;
+    }
+
+    /**
+     * Режим ADAPTIVE із заданим калібруванням замість {@link ParallelCalibration#get()}.
+     *
+     * @param threads найбільша кількість потоків на раунд
+     */
+    public ParallelBellmanFord(int threads, ParallelCalibration calibration) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.mode = Mode.ADAPTIVE;
+        this.threads = threads;
+        this.calibration = calibration;
+    }
+
+    /**
+     * Кількість раундів релаксації в останньому виклику findShortestPaths
+     * (включно з останнім раундом без змін; фінальна перевірка на цикли не враховується).
+     */
+    public int getLastIterationCount() {
+        return lastIterations;
+    }
+
+    /** Скільки раундів останнього запуску в режимі ADAPTIVE пройшло послідовно, без потоків */
+    public int getLastSequentialRoundCount() {
+        return lastSequentialRounds;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws CancellationException якщо потік, що викликав метод, перервано
+     *                               (прапорець переривання зберігається)
+     */
     @Override
     public int[] findShortestPaths(Graph graph, int source) {
+        ShortestPathsResult result = findShortestPaths(graph, source, ExecutionControl.none());
+        if (result.getStatus() == ShortestPathsResult.Status.CANCELLED) {
+            throw new CancellationException("Shortest paths query interrupted");
+        }
+        return result.getDistances();
+    }
+
+    @Override
+    public ShortestPathsResult findShortestPaths(Graph graph, int source, ExecutionControl control) {
+        switch (mode) {
+            case OWNER_COMPUTES:
+                return findOwnerComputes(graph, source, control);
+            case ASYNC_IN_PLACE:
+                return findAsyncInPlace(graph, source, control);
+            case ADAPTIVE:
+                return findAdaptive(graph, source, control);
+            default:
+                return findEdgeChunked(graph, source, control);
+        }
+    }
+
+    private ShortestPathsResult findEdgeChunked(Graph graph, int source, ExecutionControl control) {
         int n = graph.getVertexCount();
         List<Edge> edges = graph.getEdges();
         int m = edges.size();
@@ -23,71 +145,597 @@ public class ParallelBellmanFord implements IShortestPaths {
         dist[source] = 0;
 
         int[] distNext = new int[n];
-        int threads = Runtime.getRuntime().availableProcessors();
-        Thread[] pool = new Thread[threads];
+        int[] counts = new int[threads * WorkerThreads.FLAG_STRIDE];
+        int chunkSize = (m + threads - 1) / threads;
+        long previousUpdates = 0;
 
-        for (int iter = 0; iter < n - 1; iter++) {
-            // Копіюємо поточні відстані в distNext
-            System.arraycopy(dist, 0, distNext, 0, n);
+        // Ітерація з номером n - 1 (n-та за рахунком) є перевіркою на від’ємні цикли:
+        // якщо після n - 1 релаксацій ще можна щось покращити, цикл існує.
+        // Вона виконується тим самим пулом потоків і завершується, щойно
+        // будь-який потік знайде ребро-порушника.
+        for (int iter = 0; iter < n; iter++) {
+            final boolean verifying = iter == n - 1;
+            if (!verifying && iter >= control.getIterationBudget()) {
+                return stopped(ShortestPathsResult.Status.ITERATION_BUDGET_EXHAUSTED, dist, iter);
+            }
+            if (!verifying) {
+                // Копіюємо поточні відстані в distNext
+                System.arraycopy(dist, 0, distNext, 0, n);
+            }
 
-            AtomicBoolean updated = new AtomicBoolean(false);
-            int chunkSize = (m + threads - 1) / threads;
+            AtomicBoolean violation = new AtomicBoolean(false);
+            try {
+                WorkerThreads.run(threads, t -> {
+                    int start = t * chunkSize;
+                    int end = Math.min(start + chunkSize, m);
+                    if (verifying) {
+                        verifyRange(edges, dist, start, end, violation, control);
+                    } else {
+                        counts[t * WorkerThreads.FLAG_STRIDE] = relaxRange(edges, dist, distNext, start, end, control);
+                    }
+                });
+            } catch (CancellationException e) {
+                return stopped(ShortestPathsResult.Status.CANCELLED, dist, iter);
+            }
+            // Раунд міг обірватися посередині – тоді остаточним лишається dist попереднього раунду
+            ShortestPathsResult.Status reason = control.stopReason();
+            if (reason != null) {
+                return stopped(reason, dist, iter);
+            }
 
+            if (verifying) {
+                lastIterations = iter;
+                return violation.get()
+                        ? new ShortestPathsResult(ShortestPathsResult.Status.NEGATIVE_CYCLE, null, iter)
+                        : completed(dist, iter);
+            }
+            long updates = 0;
             for (int t = 0; t < threads; t++) {
-                final int start = t * chunkSize;
-                final int end = Math.min(start + chunkSize, m);
-
-                pool[t] = new Thread(() -> {
-                    for (int i = start; i < end; i++) {
-                        Edge e = edges.get(i);
-                        int u = e.getU();
-                        int v = e.getV();
-                        int w = e.getWeight();
-
-                        int du = dist[u];
-                        if (du != Integer.MAX_VALUE) {
-                            int newDist = du + w;
-                            synchronized (distNext) {
-                                if (newDist < distNext[v]) {
-                                    distNext[v] = newDist;
-                                    updated.set(true);
-                                }
-                            }
+                updates += counts[t * WorkerThreads.FLAG_STRIDE];
+            }
+            control.reportProgress(iter + 1, updates, previousUpdates, n - 1);
+            previousUpdates = updates;
+
+            // Якщо за цю ітерацію не було жодного оновлення – відстані остаточні,
+            // окрема перевірка на цикли не потрібна
+            if (updates == 0) {
+                lastIterations = iter + 1;
+                return completed(dist, iter + 1);
+            }
+
+            // Копіюємо distNext у dist для наступної ітерації
+            System.arraycopy(distNext, 0, dist, 0, n);
+        }
+
+        return completed(dist, 0);
+    }
+
+    /** Релаксація ребер [start, end) у distNext під глобальним замком; повертає кількість покращень */
+    private static int relaxRange(List<Edge> edges, int[] dist, int[] distNext, int start, int end,
+                                  ExecutionControl control) {
+        int count = 0;
+        for (int blockStart = start; blockStart < end; blockStart += CANCEL_CHECK_STRIDE) {
+            if (control.isStopRequested()) {
+                return count;
+            }
+            int blockEnd = Math.min(blockStart + CANCEL_CHECK_STRIDE, end);
+            for (int i = blockStart; i < blockEnd; i++) {
+                Edge e = edges.get(i);
+                int u = e.getU();
+                int v = e.getV();
+                int w = e.getWeight();
+
+                int du = dist[u];
+                if (du != Integer.MAX_VALUE) {
+                    int newDist = du + w;
+                    synchronized (distNext) {
+                        if (newDist < distNext[v]) {
+                            distNext[v] = newDist;
+                            count++;
                         }
                     }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Перевіряє діапазон ребер [start, end) на порушення нерівності трикутника.
+     * Потік зупиняється, щойно знайде порушника сам або побачить прапорець від іншого потоку
+     * (прапорець читається раз на CANCEL_CHECK_STRIDE ребер, щоб не торкатися спільної пам’яті на кожному кроці).
+     */
+    private static void verifyRange(List<Edge> edges, int[] dist, int start, int end, AtomicBoolean found,
+                                    ExecutionControl control) {
+        for (int blockStart = start; blockStart < end; blockStart += CANCEL_CHECK_STRIDE) {
+            if (found.get() || control.isStopRequested()) {
+                return;
+            }
+            int blockEnd = Math.min(blockStart + CANCEL_CHECK_STRIDE, end);
+            for (int i = blockStart; i < blockEnd; i++) {
+                Edge e = edges.get(i);
+                int du = dist[e.getU()];
+                if (du != Integer.MAX_VALUE && du + e.getWeight() < dist[e.getV()]) {
+                    found.set(true);
+                    return;
+                }
+            }
+        }
+    }
+
+    private ShortestPathsResult findOwnerComputes(Graph graph, int source, ExecutionControl control) {
+        int n = graph.getVertexCount();
+        DestinationPartitionedEdges buckets = DestinationPartitionedEdges.build(graph, threads);
+
+        int[] dist = new int[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[source] = 0;
+        int[] distNext = new int[n];
+        int[] counts = new int[threads * WorkerThreads.FLAG_STRIDE];
+        long previousUpdates = 0;
+
+        // Як і в EDGE_CHUNKED, n-та ітерація – перевірка на від’ємні цикли
+        for (int iter = 0; iter < n; iter++) {
+            if (iter == n - 1) {
+                return verify(buckets, dist, iter, control);
+            }
+            if (iter >= control.getIterationBudget()) {
+                return stopped(ShortestPathsResult.Status.ITERATION_BUDGET_EXHAUSTED, dist, iter);
+            }
+
+            long updates;
+            try {
+                updates = ownerComputesRound(buckets, dist, distNext, counts, control);
+            } catch (CancellationException e) {
+                return stopped(ShortestPathsResult.Status.CANCELLED, dist, iter);
+            }
+            // Незавершений раунд лишає distNext неповним – повертаємо dist попереднього раунду
+            ShortestPathsResult.Status reason = control.stopReason();
+            if (reason != null) {
+                return stopped(reason, dist, iter);
+            }
+            control.reportProgress(iter + 1, updates, previousUpdates, n - 1);
+            previousUpdates = updates;
+
+            if (updates == 0) {
+                lastIterations = iter + 1;
+                return completed(dist, iter + 1);
+            }
+
+            // Міняємо буфери місцями замість копіювання
+            int[] tmp = dist;
+            dist = distNext;
+            distNext = tmp;
+        }
+
+        return completed(dist, 0);
+    }
+
+    /**
+     * Найкоротші шляхи з не більш ніж maxHops ребер (наприклад, обмеження кількості пересадок).
+     * <p>
+     * Виконує рівно maxHops раундів Якобі з подвійною буферизацією (або менше, якщо
+     * відстані стабілізувались), тож кількість раундів – головний регулятор вартості:
+     * запит із maxHops = 5 на величезному графі коштує 5 проходів по ребрах.
+     * Після раунду k значення dist[v] – мінімальна вага шляху з ≤ k ребер, тому запит
+     * визначений і за наявності від’ємних циклів і ніколи не повертає null.
+     * Раунди завжди виконуються ядром OWNER_COMPUTES: асинхронна релаксація на місці
+     * могла б пройти за раунд більше ребер, ніж дозволено.
+     *
+     * @return dist[v] – мінімальна вага шляху source → v з не більш ніж maxHops ребер,
+     *         або Integer.MAX_VALUE, якщо такого шляху немає
+     */
+    public int[] findHopBoundedPaths(Graph graph, int source, int maxHops) {
+        if (maxHops < 0) {
+            throw new IllegalArgumentException("maxHops must be non-negative: " + maxHops);
+        }
+        int n = graph.getVertexCount();
+        DestinationPartitionedEdges buckets = DestinationPartitionedEdges.build(graph, threads);
+
+        int[] dist = new int[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[source] = 0;
+        int[] distNext = new int[n];
+        int[] counts = new int[threads * WorkerThreads.FLAG_STRIDE];
+
+        lastIterations = maxHops;
+        for (int hop = 0; hop < maxHops; hop++) {
+            if (ownerComputesRound(buckets, dist, distNext, counts, ExecutionControl.none()) == 0) {
+                lastIterations = hop + 1;
+                break;
+            }
+            int[] tmp = dist;
+            dist = distNext;
+            distNext = tmp;
+        }
+        return dist;
+    }
+
+    /**
+     * Один раунд Якобі current → next ядром OWNER_COMPUTES; повертає кількість покращень.
+     * Якщо control просить зупинитися, потоки перестають брати нові діапазони – next лишається неповним.
+     */
+    private long ownerComputesRound(DestinationPartitionedEdges buckets, int[] current, int[] next, int[] counts,
+                                    ExecutionControl control) {
+        AtomicInteger nextPartition = new AtomicInteger();
+        WorkerThreads.run(threads, t -> {
+            int changed = 0;
+            int p;
+            while (!control.isStopRequested() && (p = nextPartition.getAndIncrement()) < buckets.partitionCount) {
+                changed += relaxPartition(buckets, p, current, next);
+            }
+            counts[t * WorkerThreads.FLAG_STRIDE] = changed;
+        });
+
+        long updates = 0;
+        for (int t = 0; t < threads; t++) {
+            updates += counts[t * WorkerThreads.FLAG_STRIDE];
+        }
+        return updates;
+    }
+
+    /**
+     * Релаксує всі ребра, що входять у діапазон p. Пише лише у відрізок next цього діапазону,
+     * тому синхронізація не потрібна; копіювання current → next теж іде по відрізках.
+     */
+    private static int relaxPartition(DestinationPartitionedEdges buckets, int p, int[] current, int[] next) {
+        int lo = buckets.firstVertex(p);
+        System.arraycopy(current, lo, next, lo, buckets.endVertex(p) - lo);
+
+        int[] src = buckets.src;
+        int[] dst = buckets.dst;
+        int[] weight = buckets.weight;
+        int changed = 0;
+        int end = buckets.partitionStarts[p + 1];
+        for (int i = buckets.partitionStarts[p]; i < end; i++) {
+            int du = current[src[i]];
+            if (du != Integer.MAX_VALUE) {
+                int newDist = du + weight[i];
+                int v = dst[i];
+                if (newDist < next[v]) {
+                    next[v] = newDist;
+                    changed++;
+                }
+            }
+        }
+        return changed;
+    }
+
+    private ShortestPathsResult findAsyncInPlace(Graph graph, int source, ExecutionControl control) {
+        int n = graph.getVertexCount();
+        DestinationPartitionedEdges buckets = DestinationPartitionedEdges.build(graph, threads);
+
+        AtomicIntegerArray dist = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            dist.set(v, Integer.MAX_VALUE);
+        }
+        dist.set(source, 0);
+        int[] counts = new int[threads * WorkerThreads.FLAG_STRIDE];
+        long previousUpdates = 0;
+
+        for (int iter = 0; iter < n; iter++) {
+            if (iter == n - 1) {
+                // Асинхронний раунд не гірший за раунд Якобі, тож після n - 1 раундів
+                // без від’ємних циклів відстані вже остаточні
+                return verify(buckets, toArray(dist), iter, control);
+            }
+            if (iter >= control.getIterationBudget()) {
+                return stopped(ShortestPathsResult.Status.ITERATION_BUDGET_EXHAUSTED, toArray(dist), iter);
+            }
+
+            AtomicInteger nextPartition = new AtomicInteger();
+            try {
+                WorkerThreads.run(threads, t -> {
+                    int changed = 0;
+                    int p;
+                    while (!control.isStopRequested()
+                            && (p = nextPartition.getAndIncrement()) < buckets.partitionCount) {
+                        changed += relaxPartitionInPlace(buckets, p, dist);
+                    }
+                    counts[t * WorkerThreads.FLAG_STRIDE] = changed;
                 });
-                pool[t].start();
+            } catch (CancellationException e) {
+                return stopped(ShortestPathsResult.Status.CANCELLED, toArray(dist), iter);
+            }
+            // Відстані на місці завжди є довжинами реальних шляхів, тож і обірваний раунд дає коректні межі
+            ShortestPathsResult.Status reason = control.stopReason();
+            if (reason != null) {
+                return stopped(reason, toArray(dist), iter);
             }
 
-            // Чекаємо, поки всі потоки завершаться
+            long updates = 0;
             for (int t = 0; t < threads; t++) {
+                updates += counts[t * WorkerThreads.FLAG_STRIDE];
+            }
+            control.reportProgress(iter + 1, updates, previousUpdates, n - 1);
+            previousUpdates = updates;
+            // Раунд без жодного запису означає, що всі ребра перевірено проти незмінних
+            // (отже, остаточних) значень – нерухома точка досягнута
+            if (updates == 0) {
+                lastIterations = iter + 1;
+                return completed(toArray(dist), iter + 1);
+            }
+        }
+
+        return completed(toArray(dist), 0);
+    }
+
+    /**
+     * Релаксує на місці ребра, що входять у діапазон p. У межах раунду діапазон має
+     * єдиного власника, тож атомарний мінімум зводиться до volatile-читання і lazySet
+     * без циклу CAS; читання чужих відстаней бачать свіжі значення інших потоків.
+     */
+    private static int relaxPartitionInPlace(DestinationPartitionedEdges buckets, int p, AtomicIntegerArray dist) {
+        int[] src = buckets.src;
+        int[] dst = buckets.dst;
+        int[] weight = buckets.weight;
+        int changed = 0;
+        int end = buckets.partitionStarts[p + 1];
+        for (int i = buckets.partitionStarts[p]; i < end; i++) {
+            int du = dist.get(src[i]);
+            if (du != Integer.MAX_VALUE) {
+                int newDist = du + weight[i];
+                int v = dst[i];
+                if (newDist < dist.get(v)) {
+                    dist.lazySet(v, newDist);
+                    changed++;
+                }
+            }
+        }
+        return changed;
+    }
+
+    private ShortestPathsResult findAdaptive(Graph graph, int source, ExecutionControl control) {
+        int n = graph.getVertexCount();
+        CsrGraph csr = this.csr.get(graph);
+        ParallelCalibration model = calibration != null ? calibration : ParallelCalibration.get();
+
+        AtomicIntegerArray dist = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            dist.set(v, Integer.MAX_VALUE);
+        }
+        dist.set(source, 0);
+        // Позначка «вже у наступному фронті»; гонитва між потоками дає лише дубль у фронті
+        byte[] queued = new byte[n];
+        FrontierBuffer frontier = new FrontierBuffer(16);
+        frontier.add(source, csr.outDegree(source));
+        FrontierBuffer[] next = new FrontierBuffer[threads];
+        for (int t = 0; t < threads; t++) {
+            next[t] = new FrontierBuffer(16);
+        }
+        long[] counts = new long[threads * WorkerThreads.FLAG_STRIDE / 2];
+        long previousUpdates = 0;
+        int sequentialRounds = 0;
+
+        for (int iter = 0; ; iter++) {
+            if (frontier.size == 0) {
+                // Попередній раунд нічого не змінив – нерухома точка
+                lastSequentialRounds = sequentialRounds;
+                lastIterations = iter;
+                return completed(toArray(dist), iter);
+            }
+            if (iter == n) {
+                // Раунд на місці не гірший за раунд Якобі: зміни в n-му раунді – від’ємний цикл
+                lastSequentialRounds = sequentialRounds;
+                lastIterations = iter;
+                return new ShortestPathsResult(ShortestPathsResult.Status.NEGATIVE_CYCLE, null, iter);
+            }
+            if (iter >= control.getIterationBudget()) {
+                lastSequentialRounds = sequentialRounds;
+                return stopped(ShortestPathsResult.Status.ITERATION_BUDGET_EXHAUSTED, toArray(dist), iter);
+            }
+            ShortestPathsResult.Status reason = control.stopReason();
+            if (reason != null) {
+                lastSequentialRounds = sequentialRounds;
+                return stopped(reason, toArray(dist), iter);
+            }
+
+            int workers = model.chooseThreads(frontier.edges, threads);
+            int[] vertices = frontier.vertices;
+            int size = frontier.size;
+            long updates = 0;
+            if (workers == 1) {
+                sequentialRounds++;
+                for (int from = 0; from < size && !control.isStopRequested(); from += FRONTIER_CHUNK) {
+                    updates += pushPlain(csr, dist, vertices, from, Math.min(size, from + FRONTIER_CHUNK), queued, next[0]);
+                }
+            } else {
+                AtomicInteger nextChunk = new AtomicInteger();
                 try {
-                    pool[t].join();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+                    WorkerThreads.run(workers, t -> {
+                        long changed = 0;
+                        int chunk;
+                        while (!control.isStopRequested()
+                                && (chunk = nextChunk.getAndIncrement()) * FRONTIER_CHUNK < size) {
+                            int from = chunk * FRONTIER_CHUNK;
+                            changed += pushAtomic(csr, dist, vertices, from, Math.min(size, from + FRONTIER_CHUNK),
+                                    queued, next[t]);
+                        }
+                        counts[t * WorkerThreads.FLAG_STRIDE / 2] = changed;
+                    });
+                } catch (CancellationException e) {
+                    lastSequentialRounds = sequentialRounds;
+                    return stopped(ShortestPathsResult.Status.CANCELLED, toArray(dist), iter);
+                }
+                for (int t = 0; t < workers; t++) {
+                    updates += counts[t * WorkerThreads.FLAG_STRIDE / 2];
                 }
             }
+            // Відстані на місці завжди є довжинами реальних шляхів, тож і обірваний раунд дає коректні межі
+            reason = control.stopReason();
+            if (reason != null) {
+                lastSequentialRounds = sequentialRounds;
+                return stopped(reason, toArray(dist), iter);
+            }
+            control.reportProgress(iter + 1, updates, previousUpdates, n - 1);
+            previousUpdates = updates;
 
-            // Якщо за цю ітерацію не було жодного оновлення – виходимо
-            if (!updated.get()) {
-                break;
+            mergeFrontier(csr, next, workers, queued, frontier);
+        }
+    }
+
+    /**
+     * Новий фронт – об’єднання буферів parts[0, count) (буфери очищуються); позначки queued
+     * знімаються, щоб вершину можна було додати знову.
+     */
+    static void mergeFrontier(CsrGraph csr, FrontierBuffer[] parts, int count, byte[] queued, FrontierBuffer frontier) {
+        frontier.clear();
+        for (int t = 0; t < count; t++) {
+            FrontierBuffer buffer = parts[t];
+            for (int i = 0; i < buffer.size; i++) {
+                int v = buffer.vertices[i];
+                queued[v] = 0;
+                frontier.add(v, csr.outDegree(v));
             }
+            buffer.clear();
+        }
+    }
 
-            // Копіюємо distNext у dist для наступної ітерації
-            System.arraycopy(distNext, 0, dist, 0, n);
+    /**
+     * Послідовне ядро ADAPTIVE: штовхає відстані від вершин frontier[from, to) звичайними
+     * читаннями й записами (раунд виконує один потік); покращені вершини додаються в next.
+     *
+     * @return кількість покращень
+     */
+    static long pushPlain(CsrGraph graph, AtomicIntegerArray dist, int[] frontier, int from, int to,
+                          byte[] queued, FrontierBuffer next) {
+        long changed = 0;
+        for (int i = from; i < to; i++) {
+            int u = frontier[i];
+            int du = dist.getPlain(u);
+            for (int e = graph.outOffset(u), end = graph.outOffset(u + 1); e < end; e++) {
+                int v = graph.target(e);
+                int newDist = du + graph.weight(e);
+                if (newDist < dist.getPlain(v)) {
+                    dist.setPlain(v, newDist);
+                    changed++;
+                    if (queued[v] == 0) {
+                        queued[v] = 1;
+                        next.add(v, graph.outDegree(v));
+                    }
+                }
+            }
         }
+        return changed;
+    }
 
-        // Перевірка на від’ємні цикли
-        for (Edge e : edges) {
-            int u = e.getU();
-            int v = e.getV();
-            int w = e.getWeight();
-            if (dist[u] != Integer.MAX_VALUE && dist[u] + w < dist[v]) {
-                // Виявлено від’ємний цикл
-                return null;
+    /** Паралельне ядро ADAPTIVE: як {@link #pushPlain}, але з атомарним мінімумом (CAS лише при покращенні) */
+    static long pushAtomic(CsrGraph graph, AtomicIntegerArray dist, int[] frontier, int from, int to,
+                           byte[] queued, FrontierBuffer next) {
+        long changed = 0;
+        for (int i = from; i < to; i++) {
+            int u = frontier[i];
+            int du = dist.get(u);
+            for (int e = graph.outOffset(u), end = graph.outOffset(u + 1); e < end; e++) {
+                int v = graph.target(e);
+                int newDist = du + graph.weight(e);
+                int old = dist.get(v);
+                while (newDist < old) {
+                    if (dist.compareAndSet(v, old, newDist)) {
+                        changed++;
+                        if (queued[v] == 0) {
+                            queued[v] = 1;
+                            next.add(v, graph.outDegree(v));
+                        }
+                        break;
+                    }
+                    old = dist.get(v);
+                }
             }
         }
+        return changed;
+    }
 
-        return dist;
+    /** Фронт вершин і сума їхніх вихідних степенів (активні ребра наступного раунду); масив росте вдвічі */
+    static final class FrontierBuffer {
+        int[] vertices;
+        int size;
+        long edges;
+
+        FrontierBuffer(int capacity) {
+            vertices = new int[Math.max(1, capacity)];
+        }
+
+        void add(int v, int degree) {
+            if (size == vertices.length) {
+                vertices = Arrays.copyOf(vertices, size * 2);
+            }
+            vertices[size++] = v;
+            edges += degree;
+        }
+
+        void clear() {
+            size = 0;
+            edges = 0;
+        }
+    }
+
+    private static ShortestPathsResult completed(int[] dist, int iterations) {
+        return new ShortestPathsResult(ShortestPathsResult.Status.COMPLETED, dist, iterations);
+    }
+
+    /** Дострокова зупинка: dist – відстані після останнього повністю завершеного раунду */
+    private ShortestPathsResult stopped(ShortestPathsResult.Status status, int[] dist, int iterations) {
+        lastIterations = iterations;
+        return new ShortestPathsResult(status, dist, iterations);
+    }
+
+    static int[] toArray(AtomicIntegerArray array) {
+        int[] result = new int[array.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = array.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Фінальна (n-та) ітерація: перевірка на від’ємні цикли після n - 1 раундів.
+     * Токен і дедлайн перевіряються, як і в раундах, раз на CANCEL_CHECK_STRIDE ребер.
+     */
+    private ShortestPathsResult verify(DestinationPartitionedEdges buckets, int[] dist, int iterations,
+                                       ExecutionControl control) {
+        lastIterations = iterations;
+        boolean violation;
+        try {
+            violation = hasViolation(buckets, dist, control);
+        } catch (CancellationException e) {
+            return stopped(ShortestPathsResult.Status.CANCELLED, dist, iterations);
+        }
+        if (violation) {
+            // Знайдене порушення остаточне, навіть якщо тим часом прийшов запит на зупинку
+            return new ShortestPathsResult(ShortestPathsResult.Status.NEGATIVE_CYCLE, null, iterations);
+        }
+        ShortestPathsResult.Status reason = control.stopReason();
+        if (reason != null) {
+            return stopped(reason, dist, iterations);
+        }
+        return completed(dist, iterations);
+    }
+
+    /** Паралельна перевірка з раннім виходом: чи є ребро, яке ще можна релаксувати */
+    private boolean hasViolation(DestinationPartitionedEdges buckets, int[] dist, ExecutionControl control) {
+        AtomicBoolean found = new AtomicBoolean(false);
+        AtomicInteger nextPartition = new AtomicInteger();
+        WorkerThreads.run(threads, t -> {
+            int p;
+            while (!found.get() && !control.isStopRequested()
+                    && (p = nextPartition.getAndIncrement()) < buckets.partitionCount) {
+                int end = buckets.partitionStarts[p + 1];
+                for (int blockStart = buckets.partitionStarts[p]; blockStart < end; blockStart += CANCEL_CHECK_STRIDE) {
+                    if (found.get() || control.isStopRequested()) {
+                        return;
+                    }
+                    int blockEnd = Math.min(blockStart + CANCEL_CHECK_STRIDE, end);
+                    for (int i = blockStart; i < blockEnd; i++) {
+                        int du = dist[buckets.src[i]];
+                        if (du != Integer.MAX_VALUE && du + buckets.weight[i] < dist[buckets.dst[i]]) {
+                            found.set(true);
+                            return;
+                        }
+                    }
+                }
+            }
+        });
+        return found.get();
     }
 }
@@ -0,0 +1,109 @@
+package org.example.algorithm;
+
+import org.example.model.Graph;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Паралельний Bellman-Ford із відстанями типу long на ядрі «owner computes»
+ * (див. {@link ParallelBellmanFord.Mode#OWNER_COMPUTES}): кожен діапазон вершин-кінців
+ * має одного власника на раунд, тож запис у long[] іде без замків і CAS.
+ */
+public class ParallelBellmanFordLong implements ILongShortestPaths {
+
+    private final int threads;
+
+    public ParallelBellmanFordLong() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelBellmanFordLong(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    @Override
+    public long[] findShortestPaths(Graph graph, int source) {
+        int n = graph.getVertexCount();
+        DestinationPartitionedEdges buckets = DestinationPartitionedEdges.build(graph, threads);
+
+        long[] dist = new long[n];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        dist[source] = 0;
+        long[] distNext = new long[n];
+        int[] flags = new int[threads * WorkerThreads.FLAG_STRIDE];
+
+        for (int iter = 0; iter < n - 1; iter++) {
+            final long[] current = dist;
+            final long[] next = distNext;
+            AtomicInteger nextPartition = new AtomicInteger();
+            WorkerThreads.run(threads, t -> {
+                boolean changed = false;
+                int p;
+                while ((p = nextPartition.getAndIncrement()) < buckets.partitionCount) {
+                    changed |= relaxPartition(buckets, p, current, next);
+                }
+                flags[t * WorkerThreads.FLAG_STRIDE] = changed ? 1 : 0;
+            });
+
+            boolean updated = false;
+            for (int t = 0; t < threads; t++) {
+                updated |= flags[t * WorkerThreads.FLAG_STRIDE] != 0;
+            }
+            if (!updated) {
+                return dist;
+            }
+            dist = next;
+            distNext = current;
+        }
+
+        return hasViolation(buckets, dist) ? null : dist;
+    }
+
+    private static boolean relaxPartition(DestinationPartitionedEdges buckets, int p, long[] current, long[] next) {
+        int lo = buckets.firstVertex(p);
+        System.arraycopy(current, lo, next, lo, buckets.endVertex(p) - lo);
+
+        int[] src = buckets.src;
+        int[] dst = buckets.dst;
+        int[] weight = buckets.weight;
+        boolean changed = false;
+        int end = buckets.partitionStarts[p + 1];
+        for (int i = buckets.partitionStarts[p]; i < end; i++) {
+            long du = current[src[i]];
+            if (du != Long.MAX_VALUE) {
+                long newDist = du + weight[i];
+                int v = dst[i];
+                if (newDist < next[v]) {
+                    next[v] = newDist;
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+
+    /** Паралельна перевірка з раннім виходом: чи є ребро, яке ще можна релаксувати */
+    private boolean hasViolation(DestinationPartitionedEdges buckets, long[] dist) {
+        AtomicBoolean found = new AtomicBoolean(false);
+        AtomicInteger nextPartition = new AtomicInteger();
+        WorkerThreads.run(threads, t -> {
+            int p;
+            while (!found.get() && (p = nextPartition.getAndIncrement()) < buckets.partitionCount) {
+                int end = buckets.partitionStarts[p + 1];
+                for (int i = buckets.partitionStarts[p]; i < end; i++) {
+                    long du = dist[buckets.src[i]];
+                    if (du != Long.MAX_VALUE && du + buckets.weight[i] < dist[buckets.dst[i]]) {
+                        found.set(true);
+                        return;
+                    }
+                }
+            }
+        });
+        return found.get();
+    }
+}
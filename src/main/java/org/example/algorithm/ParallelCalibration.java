@@ -0,0 +1,285 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+import org.example.model.GraphBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Модель вартості раунду релаксації на цій машині для режиму {@link ParallelBellmanFord.Mode#ADAPTIVE}.
+ * <p>
+ * Мікрокалібрування вимірює справжні ядра режиму на синтетичному графі: ціну ребра в
+ * послідовному ядрі (звичайні читання й записи), ціну ребра в паралельному ядрі (атомарний
+ * мінімум, один потік) і ціну бар’єра – запуску й очікування k порожніх потоків
+ * ({@link WorkerThreads}) для кожного k. Раунд з E активними ребрами коштує
+ * E · edge послідовно або E · atomicEdge / k + barrier(k) на k потоках; обирається дешевше.
+ * Лінійне прискорення – оптимістична оцінка (пропускна здатність пам’яті не моделюється),
+ * тож на межі модель схиляється до паралельного раунду.
+ * <p>
+ * Калібрування займає десятки мілісекунд, тож {@link #get()} робить його один раз і зберігає
+ * у файл властивостей ({@link #defaultFile()}); наступні запуски JVM читають файл. Якщо
+ * змінилась кількість процесорів, калібрування повторюється.
+ */
+public final class ParallelCalibration {
+
+    /** Системна властивість із шляхом до файлу калібрування */
+    public static final String FILE_PROPERTY = "bellmanford.calibration.file";
+
+    private static final int FORMAT = 1;
+    private static final int CALIBRATION_VERTICES = 1 << 15;
+    private static final int CALIBRATION_EDGES = 1 << 18;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 5;
+
+    private static ParallelCalibration shared;
+
+    private final int processors;
+    private final double edgeNanos;
+    private final double atomicEdgeNanos;
+    private final long[] barrierNanos; // індекс – кількість потоків; [0] і [1] не використовуються
+
+    /**
+     * Калібрування із заданими числами (для тестів і ручного налаштування).
+     *
+     * @param barrierNanos ціна бар’єра для k потоків у елементі k; для більших k – лінійна екстраполяція
+     */
+    public ParallelCalibration(double edgeNanos, double atomicEdgeNanos, long[] barrierNanos) {
+        this(Runtime.getRuntime().availableProcessors(), edgeNanos, atomicEdgeNanos, barrierNanos);
+    }
+
+    private ParallelCalibration(int processors, double edgeNanos, double atomicEdgeNanos, long[] barrierNanos) {
+        if (!(edgeNanos > 0) || !(atomicEdgeNanos > 0) || barrierNanos.length < 2) {
+            throw new IllegalArgumentException("Edge costs must be positive and barrier costs given for >= 1 thread");
+        }
+        this.processors = processors;
+        this.edgeNanos = edgeNanos;
+        this.atomicEdgeNanos = atomicEdgeNanos;
+        this.barrierNanos = barrierNanos.clone();
+    }
+
+    /**
+     * Калібрування для цієї JVM: із пам’яті, з файлу або щойно виміряне (і записане у файл).
+     * Помилки читання й запису файлу не фатальні – тоді калібрування просто не зберігається.
+     */
+    public static synchronized ParallelCalibration get() {
+        if (shared != null) {
+            return shared;
+        }
+        int processors = Runtime.getRuntime().availableProcessors();
+        Path file = defaultFile();
+        try {
+            if (Files.isRegularFile(file)) {
+                ParallelCalibration loaded = load(file);
+                if (loaded.processors == processors) {
+                    shared = loaded;
+                    return shared;
+                }
+            }
+        } catch (IOException e) {
+            // зіпсований файл – калібруємо заново й перезаписуємо
+        }
+        shared = measure(processors);
+        try {
+            shared.save(file);
+        } catch (IOException e) {
+            // файл лише пришвидшує наступні запуски
+        }
+        return shared;
+    }
+
+    /** Файл калібрування: властивість {@value #FILE_PROPERTY} або ~/.bellmanford/calibration.properties */
+    public static Path defaultFile() {
+        String configured = System.getProperty(FILE_PROPERTY);
+        if (configured != null && !configured.isEmpty()) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".bellmanford", "calibration.properties");
+    }
+
+    /** Вимірює ціни ребер і бар’єрів для 2..maxThreads потоків */
+    public static ParallelCalibration measure(int maxThreads) {
+        GraphBuilder builder = new GraphBuilder(CALIBRATION_VERTICES, CALIBRATION_EDGES, 1);
+        Random rnd = new Random(1);
+        for (int i = 0; i < CALIBRATION_EDGES; i++) {
+            builder.addEdge(rnd.nextInt(CALIBRATION_VERTICES), rnd.nextInt(CALIBRATION_VERTICES), rnd.nextInt(100));
+        }
+        CsrGraph graph = builder.buildCsr();
+        int n = graph.getVertexCount();
+        int[] frontier = new int[n];
+        int[] initial = new int[n];
+        for (int v = 0; v < n; v++) {
+            frontier[v] = v;
+            // Частина ребер покращує кінець, як у справжньому раунді
+            initial[v] = rnd.nextInt(1000);
+        }
+        double[] edgeCosts = measureKernels(graph, frontier, initial);
+
+        long[] barrier = new long[Math.max(2, maxThreads + 1)];
+        for (int k = 2; k <= maxThreads; k++) {
+            long best = Long.MAX_VALUE;
+            for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+                long start = System.nanoTime();
+                WorkerThreads.run(k, t -> {
+                });
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            barrier[k] = best;
+        }
+        return new ParallelCalibration(Runtime.getRuntime().availableProcessors(), edgeCosts[0], edgeCosts[1], barrier);
+    }
+
+    /**
+     * Найкращий із кількох запусків час на ребро, нс: [0] – послідовне ядро, [1] – атомарне.
+     * Ядра чергуються в кожному запуску, тож прогріваються однаково.
+     */
+    private static double[] measureKernels(CsrGraph graph, int[] frontier, int[] initial) {
+        int n = graph.getVertexCount();
+        AtomicIntegerArray dist = new AtomicIntegerArray(n);
+        byte[] queued = new byte[n];
+        ParallelBellmanFord.FrontierBuffer next = new ParallelBellmanFord.FrontierBuffer(n);
+        long[] best = {Long.MAX_VALUE, Long.MAX_VALUE};
+        for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+            for (int kernel = 0; kernel < 2; kernel++) {
+                for (int v = 0; v < n; v++) {
+                    dist.setPlain(v, initial[v]);
+                }
+                Arrays.fill(queued, (byte) 0);
+                next.clear();
+                long start = System.nanoTime();
+                if (kernel == 0) {
+                    ParallelBellmanFord.pushPlain(graph, dist, frontier, 0, n, queued, next);
+                } else {
+                    ParallelBellmanFord.pushAtomic(graph, dist, frontier, 0, n, queued, next);
+                }
+                best[kernel] = Math.min(best[kernel], System.nanoTime() - start);
+            }
+        }
+        int m = graph.getEdgeCount();
+        return new double[]{Math.max(0.01, (double) best[0] / m), Math.max(0.01, (double) best[1] / m)};
+    }
+
+    /**
+     * Читає калібрування з файлу властивостей.
+     *
+     * @throws IOException якщо файл не читається або має інший формат
+     */
+    public static ParallelCalibration load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        try {
+            if (Integer.parseInt(properties.getProperty("format", "0")) != FORMAT) {
+                throw new IOException("Unsupported calibration format in " + file);
+            }
+            int processors = Integer.parseInt(properties.getProperty("processors"));
+            double edge = Double.parseDouble(properties.getProperty("edgeNanos"));
+            double atomicEdge = Double.parseDouble(properties.getProperty("atomicEdgeNanos"));
+            String[] parts = properties.getProperty("barrierNanos").split(",");
+            long[] barrier = new long[parts.length];
+            for (int k = 0; k < parts.length; k++) {
+                barrier[k] = Long.parseLong(parts[k].trim());
+            }
+            return new ParallelCalibration(processors, edge, atomicEdge, barrier);
+        } catch (RuntimeException e) {
+            throw new IOException("Malformed calibration file " + file, e);
+        }
+    }
+
+    /** Записує калібрування (через тимчасовий файл, щоб паралельні JVM не бачили половини) */
+    public void save(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("format", Integer.toString(FORMAT));
+        properties.setProperty("processors", Integer.toString(processors));
+        properties.setProperty("edgeNanos", Double.toString(edgeNanos));
+        properties.setProperty("atomicEdgeNanos", Double.toString(atomicEdgeNanos));
+        StringBuilder barrier = new StringBuilder();
+        for (int k = 0; k < barrierNanos.length; k++) {
+            barrier.append(k == 0 ? "" : ",").append(barrierNanos[k]);
+        }
+        properties.setProperty("barrierNanos", barrier.toString());
+
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, "calibration", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "ParallelBellmanFord ADAPTIVE calibration");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Кількість потоків для раунду з activeEdges активними ребрами: 1 – послідовний раунд
+     * у потоці викликача, інакше k з [2, maxThreads] з найменшою оцінкою часу.
+     */
+    public int chooseThreads(long activeEdges, int maxThreads) {
+        double bestCost = activeEdges * edgeNanos;
+        int best = 1;
+        for (int k = 2; k <= maxThreads; k++) {
+            double cost = activeEdges * atomicEdgeNanos / k + getBarrierNanos(k);
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = k;
+            }
+        }
+        return best;
+    }
+
+    /** Кількість процесорів, на яких виміряно */
+    public int getProcessors() {
+        return processors;
+    }
+
+    /** Ціна ребра в послідовному ядрі, нс */
+    public double getEdgeNanos() {
+        return edgeNanos;
+    }
+
+    /** Ціна ребра в паралельному ядрі з атомарним мінімумом (на один потік), нс */
+    public double getAtomicEdgeNanos() {
+        return atomicEdgeNanos;
+    }
+
+    /** Ціна бар’єра (запуск і очікування) для k потоків, нс */
+    public long getBarrierNanos(int k) {
+        if (k < 2) {
+            return 0;
+        }
+        int last = barrierNanos.length - 1;
+        if (k <= last) {
+            return barrierNanos[k];
+        }
+        return last < 2 ? Long.MAX_VALUE : barrierNanos[last] * k / last;
+    }
+
+    /** Найменший розмір раунду (в активних ребрах), з якого вигідно йти паралельно на maxThreads потоках */
+    public long getBreakEvenEdges(int maxThreads) {
+        for (long edges = 1; edges < Long.MAX_VALUE / 2; edges *= 2) {
+            if (chooseThreads(edges, maxThreads) > 1) {
+                return edges;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        long barrier = getBarrierNanos(2);
+        return String.format("edge=%.2f ns, atomic edge=%.2f ns, barrier(2)=%s, processors=%d",
+                edgeNanos, atomicEdgeNanos, barrier == Long.MAX_VALUE ? "n/a" : barrier / 1000 + " us", processors);
+    }
+}
@@ -0,0 +1,313 @@
+package org.example.algorithm;
+
+import org.example.model.Edge;
+import org.example.model.Graph;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Паралельний Bellman-Ford з розбиттям графа на частини за структурою
+ * ({@link LabelPropagationPartitioner}) замість статичних відрізків номерів.
+ * <p>
+ * Вершини перенумеровуються так, що кожна частина – суцільний відрізок масиву відстаней,
+ * і потік t володіє частиною t. Раунд для частини:
+ * <ol>
+ *     <li>релаксація вхідних розрізаних ребер за опублікованими на попередньому бар’єрі
+ *     відстанями вершин інших частин;</li>
+ *     <li>релаксація внутрішніх ребер на місці до локальної стабілізації – потік читає
+ *     і пише лише свій відрізок, що вміщується в кеш;</li>
+ *     <li>публікація відстаней своїх граничних вершин (з вихідними розрізаними ребрами) у буфер
+ *     наступного раунду.</li>
+ * </ol>
+ * Буферів публікації два: раунд читає один і пише інший, а на бар’єрі вони міняються місцями.
+ * Тож обмін між частинами відбувається лише на бар’єрі (у межах раунду спільні дані лише
+ * читаються), і обсяг спільних даних пропорційний розрізу.
+ * Після кожного раунду кожна частина в локальній рівновазі, тому без від’ємних циклів
+ * достатньо n раундів; зміни і після них (або в n_p-му внутрішньому проході) – від’ємний цикл.
+ * Розбиття кешується для графа (скидається при зміні кількості ребер).
+ */
+public class PartitionedBellmanFord implements IShortestPaths {
+
+    private final int threads;
+    private final LabelPropagationPartitioner partitioner;
+
+    private final GraphCache<Layout> layouts;
+    private volatile int lastRounds;
+
+    public PartitionedBellmanFord() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public PartitionedBellmanFord(int threads) {
+        this(threads, new LabelPropagationPartitioner(threads,
+                LabelPropagationPartitioner.DEFAULT_ITERATIONS, LabelPropagationPartitioner.DEFAULT_IMBALANCE));
+    }
+
+    public PartitionedBellmanFord(int threads, LabelPropagationPartitioner partitioner) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.threads = threads;
+        this.partitioner = partitioner;
+        this.layouts = new GraphCache<>(graph -> {
+            int parts = Math.max(1, Math.min(threads, graph.getVertexCount()));
+            return new Layout(graph, partitioner.partition(graph, parts), parts);
+        });
+    }
+
+    /** Кількість глобальних раундів (бар’єрів) в останньому виклику */
+    public int getLastRoundCount() {
+        return lastRounds;
+    }
+
+    /** Частка розрізаних ребер у розбитті останнього графа (0, якщо викликів ще не було) */
+    public double getCutFraction() {
+        Layout layout = layouts.last();
+        int edgeCount = layout == null ? 0 : layout.localSrc.length + layout.cutSrc.length;
+        if (edgeCount == 0) {
+            return 0;
+        }
+        return (double) layout.cutSrc.length / edgeCount;
+    }
+
+    @Override
+    public int[] findShortestPaths(Graph graph, int source) {
+        Layout layout = layouts.get(graph);
+        int n = layout.vertexCount;
+        int parts = layout.partCount;
+
+        int[] dist = new int[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[layout.toNew[source]] = 0;
+        // Копії відстаней граничних вершин: раунд читає published і пише staged, на бар’єрі – обмін
+        int[] published = new int[n];
+        int[] staged = new int[n];
+        Arrays.fill(published, Integer.MAX_VALUE);
+        Arrays.fill(staged, Integer.MAX_VALUE);
+        int[] flags = new int[parts * WorkerThreads.FLAG_STRIDE];
+        int[] negative = new int[parts * WorkerThreads.FLAG_STRIDE];
+
+        for (int round = 0; round <= n; round++) {
+            final boolean first = round == 0;
+            int[] read = published;
+            int[] write = staged;
+            WorkerThreads.run(parts, p -> {
+                boolean changed = relaxCut(layout, p, read, dist);
+                if ((changed || first) && !relaxLocal(layout, p, dist)) {
+                    negative[p * WorkerThreads.FLAG_STRIDE] = 1;
+                }
+                // Публікуємо щораунду: буфер запису відстав на два раунди, а не на один
+                for (int i = layout.exportStarts[p]; i < layout.exportStarts[p + 1]; i++) {
+                    int v = layout.exports[i];
+                    write[v] = dist[v];
+                }
+                flags[p * WorkerThreads.FLAG_STRIDE] = changed ? 1 : 0;
+            });
+            published = write;
+            staged = read;
+
+            boolean changed = first;
+            for (int p = 0; p < parts; p++) {
+                if (negative[p * WorkerThreads.FLAG_STRIDE] != 0) {
+                    lastRounds = round + 1;
+                    return null;
+                }
+                changed |= flags[p * WorkerThreads.FLAG_STRIDE] != 0;
+            }
+            if (!changed) {
+                lastRounds = round + 1;
+                return layout.mapBack(dist);
+            }
+        }
+        // І після n раундів обмін не вщух – від’ємний цикл через кілька частин
+        lastRounds = n + 1;
+        return null;
+    }
+
+    /** Релаксація вхідних розрізаних ребер частини p за опублікованими відстанями */
+    private static boolean relaxCut(Layout layout, int p, int[] published, int[] dist) {
+        boolean changed = false;
+        int end = layout.cutStarts[p + 1];
+        for (int i = layout.cutStarts[p]; i < end; i++) {
+            int du = published[layout.cutSrc[i]];
+            if (du != Integer.MAX_VALUE) {
+                int newDist = du + layout.cutWeight[i];
+                int v = layout.cutDst[i];
+                if (newDist < dist[v]) {
+                    dist[v] = newDist;
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Проходи по внутрішніх ребрах частини p на місці до стабілізації.
+     * Повертає false, якщо зміни тривають і в проході з номером, рівним розміру частини, –
+     * тоді в частині є досяжний від’ємний цикл.
+     */
+    private static boolean relaxLocal(Layout layout, int p, int[] dist) {
+        int size = layout.partStarts[p + 1] - layout.partStarts[p];
+        int from = layout.localStarts[p];
+        int to = layout.localStarts[p + 1];
+        int[] src = layout.localSrc;
+        int[] dst = layout.localDst;
+        int[] weight = layout.localWeight;
+        for (int pass = 1; ; pass++) {
+            boolean changed = false;
+            for (int i = from; i < to; i++) {
+                int du = dist[src[i]];
+                if (du != Integer.MAX_VALUE) {
+                    int newDist = du + weight[i];
+                    int v = dst[i];
+                    if (newDist < dist[v]) {
+                        dist[v] = newDist;
+                        changed = true;
+                    }
+                }
+            }
+            if (!changed) {
+                return true;
+            }
+            if (pass >= size) {
+                return false;
+            }
+        }
+    }
+
+    /** Граф у нових номерах: частини – суцільні відрізки, ребра поділені на внутрішні й розрізані */
+    private static final class Layout {
+        final int vertexCount;
+        final int partCount;
+        final int[] toNew;
+        final int[] toOriginal;
+        final int[] partStarts;
+        // Внутрішні ребра частини p: [localStarts[p], localStarts[p + 1]), упорядковані за початком
+        final int[] localStarts;
+        final int[] localSrc;
+        final int[] localDst;
+        final int[] localWeight;
+        // Розрізані ребра, що входять у частину p: [cutStarts[p], cutStarts[p + 1])
+        final int[] cutStarts;
+        final int[] cutSrc;
+        final int[] cutDst;
+        final int[] cutWeight;
+        // Граничні вершини частини p (мають вихідні розрізані ребра)
+        final int[] exportStarts;
+        final int[] exports;
+
+        Layout(Graph graph, int[] part, int parts) {
+            int n = graph.getVertexCount();
+            vertexCount = n;
+            partCount = parts;
+
+            // Стійке сортування вершин за частиною
+            partStarts = new int[parts + 1];
+            for (int v = 0; v < n; v++) {
+                partStarts[part[v] + 1]++;
+            }
+            for (int p = 0; p < parts; p++) {
+                partStarts[p + 1] += partStarts[p];
+            }
+            toNew = new int[n];
+            toOriginal = new int[n];
+            int[] cursor = Arrays.copyOf(partStarts, parts);
+            for (int v = 0; v < n; v++) {
+                int id = cursor[part[v]]++;
+                toNew[v] = id;
+                toOriginal[id] = v;
+            }
+
+            List<Edge> edges = graph.getEdges();
+            localStarts = new int[parts + 1];
+            cutStarts = new int[parts + 1];
+            boolean[] exported = new boolean[n];
+            for (Edge e : edges) {
+                int pu = part[e.getU()];
+                int pv = part[e.getV()];
+                if (pu == pv) {
+                    localStarts[pv + 1]++;
+                } else {
+                    cutStarts[pv + 1]++;
+                    exported[toNew[e.getU()]] = true;
+                }
+            }
+            for (int p = 0; p < parts; p++) {
+                localStarts[p + 1] += localStarts[p];
+                cutStarts[p + 1] += cutStarts[p];
+            }
+
+            // Внутрішні ребра впорядковуємо за початком (у нових номерах) – прохід читає dist майже послідовно
+            int[] bySource = sortEdgesBySource(edges, toNew, n);
+            localSrc = new int[localStarts[parts]];
+            localDst = new int[localSrc.length];
+            localWeight = new int[localSrc.length];
+            cutSrc = new int[cutStarts[parts]];
+            cutDst = new int[cutSrc.length];
+            cutWeight = new int[cutSrc.length];
+            int[] localCursor = Arrays.copyOf(localStarts, parts);
+            int[] cutCursor = Arrays.copyOf(cutStarts, parts);
+            for (int i : bySource) {
+                Edge e = edges.get(i);
+                int pv = part[e.getV()];
+                int pos;
+                if (part[e.getU()] == pv) {
+                    pos = localCursor[pv]++;
+                    localSrc[pos] = toNew[e.getU()];
+                    localDst[pos] = toNew[e.getV()];
+                    localWeight[pos] = e.getWeight();
+                } else {
+                    pos = cutCursor[pv]++;
+                    cutSrc[pos] = toNew[e.getU()];
+                    cutDst[pos] = toNew[e.getV()];
+                    cutWeight[pos] = e.getWeight();
+                }
+            }
+
+            exportStarts = new int[parts + 1];
+            int exportCount = 0;
+            for (int v = 0; v < n; v++) {
+                if (exported[v]) {
+                    exportCount++;
+                }
+            }
+            exports = new int[exportCount];
+            int size = 0;
+            for (int p = 0; p < parts; p++) {
+                exportStarts[p] = size;
+                for (int v = partStarts[p]; v < partStarts[p + 1]; v++) {
+                    if (exported[v]) {
+                        exports[size++] = v;
+                    }
+                }
+            }
+            exportStarts[parts] = size;
+        }
+
+        /** Індекси ребер, упорядковані за новим номером початку (сортування підрахунком) */
+        private static int[] sortEdgesBySource(List<Edge> edges, int[] toNew, int n) {
+            int[] counts = new int[n + 1];
+            for (Edge e : edges) {
+                counts[toNew[e.getU()] + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                counts[v + 1] += counts[v];
+            }
+            int[] sorted = new int[edges.size()];
+            for (int i = 0; i < edges.size(); i++) {
+                sorted[counts[toNew[edges.get(i).getU()]]++] = i;
+            }
+            return sorted;
+        }
+
+        int[] mapBack(int[] dist) {
+            int[] result = new int[vertexCount];
+            for (int v = 0; v < vertexCount; v++) {
+                result[v] = dist[toNew[v]];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+import org.example.model.Graph;
+
+import java.util.Arrays;
+
+/**
+ * Запити «від вершини до вершини» з ранньою зупинкою.
+ * <p>
+ * Для невід’ємних ваг {@link #distance(Graph, int, int)} виконує двонаправлений Дейкстру:
+ * прямий пошук від source по CSR і зворотний від target по оберненому CSR. Пошук
+ * зупиняється, щойно сума верхівок обох черг не менша за найкращий знайдений шлях μ –
+ * тоді жоден ще не закритий шлях коротшим за μ бути не може.
+ * <p>
+ * Якщо є від’ємні ребра, один раз на граф рахуються потенціали Джонсона (SPFA від
+ * віртуального джерела). Зведені ваги w + p(u) - p(v) невід’ємні, тож той самий
+ * двонаправлений пошук доводить остаточність відстані до target, не обходячи весь граф;
+ * відповідь переводиться назад як d(s, t) = d'(s, t) - p(s) + p(t). Потенціали, як і CSR,
+ * кешуються (скидаються, якщо змінилась кількість ребер), тож перший запит коштує приблизно
+ * як повний SPFA, а наступні – лише локальний пошук.
+ * <p>
+ * Якщо в графі є від’ємний цикл, потенціалів не існує; тоді запит виконує повний
+ * {@link SpfaBellmanFord} від source: він поверне null, лише якщо цикл досяжний з source.
+ * Робочі масиви перевикористовуються між запитами, тому методи синхронізовані.
+ */
+public class PointToPointShortestPaths implements IShortestPaths {
+
+    private static final long INF = Long.MAX_VALUE;
+
+    private Graph cachedGraph;
+    private int cachedEdgeCount;
+    private CsrGraph csr;
+    /** Потенціали Джонсона; null, якщо в графі є від’ємний цикл */
+    private long[] potential;
+    private boolean hasNegativeCycle;
+
+    private long[] forward = new long[0];
+    private long[] backward = new long[0];
+    private int[] touchedForward = new int[0];
+    private int[] touchedBackward = new int[0];
+    private int touchedForwardCount;
+    private int touchedBackwardCount;
+    private final VertexHeap forwardHeap = new VertexHeap();
+    private final VertexHeap backwardHeap = new VertexHeap();
+
+    private int lastSettledCount;
+    private long lastPreprocessingNanos;
+
+    /** Скільки вершин закрив останній запит (обидва напрями разом) */
+    public synchronized int getLastSettledCount() {
+        return lastSettledCount;
+    }
+
+    /** Час (нс) побудови CSR і потенціалів в останньому запиті; 0, якщо взято з кешу */
+    public synchronized long getLastPreprocessingNanos() {
+        return lastPreprocessingNanos;
+    }
+
+    @Override
+    public synchronized Integer distance(Graph graph, int source, int target) {
+        prepare(graph);
+        if (hasNegativeCycle) {
+            lastSettledCount = csr.getVertexCount();
+            int[] dist = new SpfaBellmanFord().findShortestPaths(graph, source);
+            return dist == null ? null : dist[target];
+        }
+        if (source == target) {
+            lastSettledCount = 0;
+            return 0;
+        }
+        try {
+            long reduced = bidirectionalSearch(source, target);
+            if (reduced == INF) {
+                return Integer.MAX_VALUE;
+            }
+            return (int) (reduced - potential[source] + potential[target]);
+        } finally {
+            resetWorkspace();
+        }
+    }
+
+    /**
+     * Повний варіант: Дейкстра від source за зведеними вагами (або SPFA, якщо є від’ємний цикл).
+     */
+    @Override
+    public synchronized int[] findShortestPaths(Graph graph, int source) {
+        prepare(graph);
+        if (hasNegativeCycle) {
+            lastSettledCount = csr.getVertexCount();
+            return new SpfaBellmanFord().findShortestPaths(graph, source);
+        }
+        int n = csr.getVertexCount();
+        lastSettledCount = 0;
+        try {
+            settleForward(source);
+            int[] dist = new int[n];
+            for (int v = 0; v < n; v++) {
+                long d = forward[v];
+                dist[v] = d == INF ? Integer.MAX_VALUE : (int) (d - potential[source] + potential[v]);
+            }
+            return dist;
+        } finally {
+            resetWorkspace();
+        }
+    }
+
+    private void prepare(Graph graph) {
+        if (cachedGraph == graph && cachedEdgeCount == graph.getEdges().size()) {
+            lastPreprocessingNanos = 0;
+            return;
+        }
+        long start = System.nanoTime();
+        csr = CsrGraph.fromGraphWithReverse(graph);
+        int n = csr.getVertexCount();
+        boolean hasNegative = false;
+        for (int e = 0; e < csr.getEdgeCount() && !hasNegative; e++) {
+            hasNegative = csr.weight(e) < 0;
+        }
+        potential = hasNegative ? JohnsonPotentials.compute(csr) : new long[n];
+        hasNegativeCycle = potential == null;
+
+        if (forward.length != n) {
+            forward = new long[n];
+            backward = new long[n];
+            Arrays.fill(forward, INF);
+            Arrays.fill(backward, INF);
+            touchedForward = new int[n];
+            touchedBackward = new int[n];
+        }
+        cachedGraph = graph;
+        cachedEdgeCount = graph.getEdges().size();
+        lastPreprocessingNanos = System.nanoTime() - start;
+    }
+
+    /** Двонаправлений Дейкстра за зведеними вагами; повертає d'(s, t) або INF */
+    private long bidirectionalSearch(int source, int target) {
+        long[] p = potential;
+        forward[source] = 0;
+        touchedForward[touchedForwardCount++] = source;
+        forwardHeap.push(0, source);
+        backward[target] = 0;
+        touchedBackward[touchedBackwardCount++] = target;
+        backwardHeap.push(0, target);
+
+        long best = INF;
+        int settled = 0;
+        while (!forwardHeap.isEmpty() && !backwardHeap.isEmpty()) {
+            long topForward = forwardHeap.peekKey();
+            long topBackward = backwardHeap.peekKey();
+            if (best != INF && topForward + topBackward >= best) {
+                break;
+            }
+            if (topForward <= topBackward) {
+                int u = forwardHeap.peekVertex();
+                forwardHeap.pop();
+                if (topForward != forward[u]) {
+                    continue;
+                }
+                settled++;
+                long pu = p[u];
+                int end = csr.outOffset(u + 1);
+                for (int e = csr.outOffset(u); e < end; e++) {
+                    int v = csr.target(e);
+                    long candidate = topForward + csr.weight(e) + pu - p[v];
+                    if (candidate < forward[v]) {
+                        if (forward[v] == INF) {
+                            touchedForward[touchedForwardCount++] = v;
+                        }
+                        forward[v] = candidate;
+                        forwardHeap.push(candidate, v);
+                        if (backward[v] != INF && candidate + backward[v] < best) {
+                            best = candidate + backward[v];
+                        }
+                    }
+                }
+            } else {
+                int v = backwardHeap.peekVertex();
+                backwardHeap.pop();
+                if (topBackward != backward[v]) {
+                    continue;
+                }
+                settled++;
+                long pv = p[v];
+                int end = csr.inOffset(v + 1);
+                for (int e = csr.inOffset(v); e < end; e++) {
+                    int u = csr.source(e);
+                    long candidate = topBackward + csr.inWeight(e) + p[u] - pv;
+                    if (candidate < backward[u]) {
+                        if (backward[u] == INF) {
+                            touchedBackward[touchedBackwardCount++] = u;
+                        }
+                        backward[u] = candidate;
+                        backwardHeap.push(candidate, u);
+                        if (forward[u] != INF && candidate + forward[u] < best) {
+                            best = candidate + forward[u];
+                        }
+                    }
+                }
+            }
+        }
+        lastSettledCount = settled;
+        return best;
+    }
+
+    /** Односпрямований Дейкстра за зведеними вагами від source до вичерпання черги */
+    private void settleForward(int source) {
+        long[] p = potential;
+        forward[source] = 0;
+        touchedForward[touchedForwardCount++] = source;
+        forwardHeap.push(0, source);
+        while (!forwardHeap.isEmpty()) {
+            long du = forwardHeap.peekKey();
+            int u = forwardHeap.peekVertex();
+            forwardHeap.pop();
+            if (du != forward[u]) {
+                continue;
+            }
+            lastSettledCount++;
+            long pu = p[u];
+            int end = csr.outOffset(u + 1);
+            for (int e = csr.outOffset(u); e < end; e++) {
+                int v = csr.target(e);
+                long candidate = du + csr.weight(e) + pu - p[v];
+                if (candidate < forward[v]) {
+                    if (forward[v] == INF) {
+                        touchedForward[touchedForwardCount++] = v;
+                    }
+                    forward[v] = candidate;
+                    forwardHeap.push(candidate, v);
+                }
+            }
+        }
+    }
+
+    private void resetWorkspace() {
+        for (int i = 0; i < touchedForwardCount; i++) {
+            forward[touchedForward[i]] = INF;
+        }
+        for (int i = 0; i < touchedBackwardCount; i++) {
+            backward[touchedBackward[i]] = INF;
+        }
+        touchedForwardCount = 0;
+        touchedBackwardCount = 0;
+        forwardHeap.clear();
+        backwardHeap.clear();
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.algorithm;
+
+/**
+ * Зворотний виклик прогресу: викликається потоком, що запустив запит, після кожного раунду релаксації.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+    /**
+     * @param iteration                    кількість завершених раундів
+     * @param updates                      кількість успішних релаксацій у цьому раунді
+     * @param estimatedRemainingIterations груба оцінка кількості раундів, що лишилися
+     *                                     (за швидкістю спадання updates, не більше верхньої межі)
+     */
+    void onProgress(int iteration, long updates, int estimatedRemainingIterations);
+}
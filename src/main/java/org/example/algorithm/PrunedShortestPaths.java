@@ -0,0 +1,32 @@
+package org.example.algorithm;
+
+import org.example.model.Graph;
+import org.example.model.RelabeledGraph;
+
+/**
+ * Обгортка над будь-яким {@link IShortestPaths}: спершу відсікає вершини й ребра,
+ * недосяжні з джерела ({@link ReachabilityPruning}), запускає рушій на стиснутому підграфі
+ * і розгортає результат назад у масив довжини n з Integer.MAX_VALUE для недосяжних вершин.
+ * Від’ємні цикли, недосяжні з джерела, і так не впливають на результат, тож контракт null зберігається.
+ */
+public class PrunedShortestPaths implements IShortestPaths {
+
+    private final IShortestPaths delegate;
+    private final int threads;
+
+    public PrunedShortestPaths(IShortestPaths delegate) {
+        this(delegate, Runtime.getRuntime().availableProcessors());
+    }
+
+    public PrunedShortestPaths(IShortestPaths delegate, int threads) {
+        this.delegate = delegate;
+        this.threads = threads;
+    }
+
+    @Override
+    public int[] findShortestPaths(Graph graph, int source) {
+        RelabeledGraph pruned = ReachabilityPruning.prune(graph, source, threads);
+        int[] dist = delegate.findShortestPaths(pruned.getGraph(), pruned.toNewId(source));
+        return pruned.mapBack(dist);
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.algorithm;
+
+import org.example.model.Edge;
+import org.example.model.Graph;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Рандомізований Bellman-Ford (Bannister–Eppstein) на основі розбиття ребер Єна.
+ * <p>
+ * Вершини випадково перемішуються; ребро u → v «пряме», якщо u стоїть у перестановці раніше за v,
+ * і «зворотне» – інакше. Кожен прохід спершу релаксує прямі ребра у порядку перестановки,
+ * потім зворотні – у зворотному порядку, тож за один прохід поширюється ціла монотонна
+ * ділянка найкоротшого шляху. В середньому потрібно близько третини проходів звичайного
+ * алгоритму; разом із раннім виходом збіжність на графах із великим діаметром значно швидша.
+ */
+public class RandomizedBellmanFord implements IShortestPaths {
+
+    private final long seed;
+    private volatile int lastPasses;
+
+    /** Нове випадкове зерно для кожного екземпляра */
+    public RandomizedBellmanFord() {
+        this(new Random().nextLong());
+    }
+
+    /** Фіксоване зерно – однакова перестановка і відтворювані заміри */
+    public RandomizedBellmanFord(long seed) {
+        this.seed = seed;
+    }
+
+    /** Кількість проходів в останньому виклику (без фінальної перевірки на цикли) */
+    public int getLastPassCount() {
+        return lastPasses;
+    }
+
+    @Override
+    public int[] findShortestPaths(Graph graph, int source) {
+        int n = graph.getVertexCount();
+        List<Edge> edges = graph.getEdges();
+        int m = edges.size();
+
+        // rank[v] – позиція вершини у випадковій перестановці
+        int[] order = new int[n];
+        for (int v = 0; v < n; v++) {
+            order[v] = v;
+        }
+        Random rnd = new Random(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[order[i]] = i;
+        }
+
+        // Сортування підрахунком за рангом початку: прямі ребра – за зростанням,
+        // зворотні – за спаданням рангу (петлі потрапляють до прямих).
+        // Обидві групи ділять один масив: спершу всі прямі, потім зворотні
+        int forwardCount = 0;
+        int[] forwardStarts = new int[n + 1];
+        int[] backwardStarts = new int[n + 1];
+        for (Edge e : edges) {
+            int ru = rank[e.getU()];
+            if (ru <= rank[e.getV()]) {
+                forwardStarts[ru + 1]++;
+                forwardCount++;
+            } else {
+                backwardStarts[n - ru]++;
+            }
+        }
+        backwardStarts[0] = forwardCount;
+        for (int k = 0; k < n; k++) {
+            forwardStarts[k + 1] += forwardStarts[k];
+            backwardStarts[k + 1] += backwardStarts[k];
+        }
+
+        int[] src = new int[m];
+        int[] dst = new int[m];
+        int[] weight = new int[m];
+        for (Edge e : edges) {
+            int u = e.getU();
+            int pos = rank[u] <= rank[e.getV()]
+                    ? forwardStarts[rank[u]]++
+                    : backwardStarts[n - 1 - rank[u]]++;
+            src[pos] = u;
+            dst[pos] = e.getV();
+            weight[pos] = e.getWeight();
+        }
+
+        int[] dist = new int[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[source] = 0;
+
+        // Прохід Єна не гірший за звичайний, тож межа n - 1 проходів зберігається
+        for (int pass = 0; pass < n - 1; pass++) {
+            if (!relaxAll(src, dst, weight, dist)) {
+                lastPasses = pass + 1;
+                return dist;
+            }
+        }
+        lastPasses = Math.max(0, n - 1);
+
+        // Перевірка на від’ємні цикли
+        return relaxAll(src, dst, weight, dist) ? null : dist;
+    }
+
+    private static boolean relaxAll(int[] src, int[] dst, int[] weight, int[] dist) {
+        boolean updated = false;
+        for (int i = 0; i < src.length; i++) {
+            int du = dist[src[i]];
+            if (du != Integer.MAX_VALUE && du + weight[i] < dist[dst[i]]) {
+                dist[dst[i]] = du + weight[i];
+                updated = true;
+            }
+        }
+        return updated;
+    }
+}
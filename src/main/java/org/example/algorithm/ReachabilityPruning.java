@@ -0,0 +1,123 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.model.RelabeledGraph;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Відсікання недосяжних вершин перед релаксацією: паралельний BFS із джерела і побудова
+ * стиснутого індукованого підграфа лише з досяжних вершин і ребер.
+ * Нові номери вершин ідуть у порядку рівнів BFS (джерело – 0), що додатково покращує локальність.
+ */
+public final class ReachabilityPruning {
+
+    /** Рівень BFS, менший за цей поріг, обходимо в поточному потоці */
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    private ReachabilityPruning() {
+    }
+
+    /** Стиснутий підграф досяжних із source вершин із відображенням номерів */
+    public static RelabeledGraph prune(Graph graph, int source) {
+        return prune(graph, source, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static RelabeledGraph prune(Graph graph, int source, int threads) {
+        CsrGraph csr = CsrGraph.fromGraph(graph);
+        int n = csr.getVertexCount();
+
+        // order – досяжні вершини у порядку рівнів BFS; рівень – відрізок [levelStart, levelEnd)
+        int[] order = new int[n];
+        AtomicIntegerArray visited = new AtomicIntegerArray(n);
+        visited.set(source, 1);
+        order[0] = source;
+        int levelStart = 0;
+        int levelEnd = 1;
+        while (levelStart < levelEnd) {
+            int size = levelEnd - levelStart;
+            int nextEnd;
+            if (threads == 1 || size < SEQUENTIAL_THRESHOLD) {
+                int[] next = expand(csr, visited, order, levelStart, levelEnd);
+                System.arraycopy(next, 0, order, levelEnd, next.length);
+                nextEnd = levelEnd + next.length;
+            } else {
+                int[][] parts = new int[threads][];
+                int chunk = (size + threads - 1) / threads;
+                final int from = levelStart;
+                final int to = levelEnd;
+                WorkerThreads.run(threads, t -> {
+                    int lo = Math.min(to, from + t * chunk);
+                    parts[t] = expand(csr, visited, order, lo, Math.min(to, lo + chunk));
+                });
+                nextEnd = levelEnd;
+                for (int[] part : parts) {
+                    System.arraycopy(part, 0, order, nextEnd, part.length);
+                    nextEnd += part.length;
+                }
+            }
+            levelStart = levelEnd;
+            levelEnd = nextEnd;
+        }
+        int reachable = levelEnd;
+
+        int[] toNew = new int[n];
+        Arrays.fill(toNew, -1);
+        for (int i = 0; i < reachable; i++) {
+            toNew[order[i]] = i;
+        }
+
+        // Ребра з досяжного початку ведуть у досяжний кінець
+        List<Edge> edges = graph.getEdges();
+        int kept = 0;
+        for (Edge e : edges) {
+            if (toNew[e.getU()] >= 0) {
+                kept++;
+            }
+        }
+        if (kept == edges.size() && reachable == n) {
+            // Відсікати нічого – повертаємо граф як є без копіювання
+            return new RelabeledGraph(graph, identity(n), identity(n));
+        }
+        Graph pruned = new Graph(reachable);
+        for (Edge e : edges) {
+            int u = toNew[e.getU()];
+            if (u >= 0) {
+                pruned.addEdge(u, toNew[e.getV()], e.getWeight());
+            }
+        }
+        return new RelabeledGraph(pruned, toNew, Arrays.copyOf(order, reachable));
+    }
+
+    /** Відвідує сусідів вершин order[from..to); повертає нові (ще не відвідані) вершини */
+    private static int[] expand(CsrGraph csr, AtomicIntegerArray visited, int[] order, int from, int to) {
+        int[] next = new int[16];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int u = order[i];
+            int end = csr.outOffset(u + 1);
+            for (int e = csr.outOffset(u); e < end; e++) {
+                int v = csr.target(e);
+                if (visited.get(v) == 0 && visited.compareAndSet(v, 0, 1)) {
+                    if (count == next.length) {
+                        next = Arrays.copyOf(next, count * 2);
+                    }
+                    next[count++] = v;
+                }
+            }
+        }
+        return Arrays.copyOf(next, count);
+    }
+
+    private static int[] identity(int n) {
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i;
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.algorithm;
+
+import org.example.model.Graph;
+import org.example.model.RelabeledGraph;
+
+/**
+ * Обгортка над будь-яким {@link IShortestPaths}, яка запускає його на перенумерованому
+ * для локальності кешу графі й повертає відстані в початкових номерах вершин.
+ * Перенумерація виконується один раз на граф і кешується (для стратегії BFS – ще й на джерело),
+ * тож її вартість амортизується серією запитів. Кеш скидається, якщо змінилась кількість ребер.
+ */
+public class ReorderedShortestPaths implements IShortestPaths {
+
+    private final IShortestPaths delegate;
+    private final VertexReordering.Strategy strategy;
+
+    private Graph cachedGraph;
+    private int cachedEdgeCount;
+    private int cachedSource;
+    private RelabeledGraph cachedReordering;
+    private volatile long lastPreprocessingNanos;
+
+    public ReorderedShortestPaths(IShortestPaths delegate, VertexReordering.Strategy strategy) {
+        this.delegate = delegate;
+        this.strategy = strategy;
+    }
+
+    /** Час (нс) останньої перенумерації; 0, якщо останній запит узяв її з кешу */
+    public long getLastPreprocessingNanos() {
+        return lastPreprocessingNanos;
+    }
+
+    @Override
+    public int[] findShortestPaths(Graph graph, int source) {
+        RelabeledGraph reordered = reorderingFor(graph, source);
+        int[] dist = delegate.findShortestPaths(reordered.getGraph(), reordered.toNewId(source));
+        return reordered.mapBack(dist);
+    }
+
+    private synchronized RelabeledGraph reorderingFor(Graph graph, int source) {
+        boolean sourceMatters = strategy == VertexReordering.Strategy.BFS;
+        if (cachedGraph == graph && cachedEdgeCount == graph.getEdges().size()
+                && (!sourceMatters || cachedSource == source)) {
+            lastPreprocessingNanos = 0;
+            return cachedReordering;
+        }
+        long start = System.nanoTime();
+        cachedReordering = VertexReordering.reorder(graph, strategy, source);
+        lastPreprocessingNanos = System.nanoTime() - start;
+        cachedGraph = graph;
+        cachedEdgeCount = graph.getEdges().size();
+        cachedSource = source;
+        return cachedReordering;
+    }
+}
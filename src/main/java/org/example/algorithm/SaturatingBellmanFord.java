@@ -0,0 +1,120 @@
+package org.example.algorithm;
+
+import org.example.model.Edge;
+import org.example.model.Graph;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Послідовний Bellman-Ford з int-відстанями і насичуваною арифметикою.
+ * Сума dist[u] + w обчислюється в long і обрізається до [{@link #MIN_FINITE}, {@link #MAX_FINITE}]
+ * (Integer.MAX_VALUE лишається позначкою недосяжності, Integer.MIN_VALUE – позначкою «нижче
+ * MIN_FINITE»), тож переповнення не перетворює дуже довгий шлях на «короткий» і навпаки.
+ * <p>
+ * Верхнє насичення «липке»: MAX_FINITE означає лише «справжня відстань не менша за MAX_FINITE»,
+ * тож із такої вершини будь-яке ребро дає знову MAX_FINITE і насичене значення ніколи не
+ * повертається до скінченного. Тоді кожна відстань, менша за MAX_FINITE, точна. Якщо ж
+ * насичена вершина має від’ємне ребро, що могло б покращити кінець (MAX_FINITE + w < dist[v]),
+ * справжню відповідь у int не визначити – кидається ArithmeticException, і такий граф треба
+ * рахувати {@link SequentialBellmanFordLong}.
+ * <p>
+ * Нижнє насичення теж «липке»: з вершини з позначкою Integer.MIN_VALUE будь-яке ребро дає знову
+ * Integer.MIN_VALUE. Така позначка в результаті не повертається: відстань нижче MIN_FINITE
+ * у int не записати, тож рушій перевіряє граф у long ({@link SequentialBellmanFordLong}) і
+ * повертає null, лише якщо від’ємний цикл справді є; інакше кидає ArithmeticException.
+ * Без нижнього насичення перевірка на від’ємні цикли порівнює ненасичені суми, тож цикл не
+ * ховається за верхньою межею.
+ */
+public class SaturatingBellmanFord implements IShortestPaths {
+
+    /** Найбільша скінченна відстань; у результаті означає «не менше за MAX_FINITE» */
+    public static final int MAX_FINITE = Integer.MAX_VALUE - 1;
+
+    /** Найменша відстань, яку рушій може повернути */
+    public static final int MIN_FINITE = Integer.MIN_VALUE + 1;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ArithmeticException якщо насичена відстань веде у від’ємне ребро і відповідь
+     *                             не визначається в int, або якщо відстань без від’ємного
+     *                             циклу менша за MIN_FINITE
+     */
+    @Override
+    public int[] findShortestPaths(Graph graph, int source) {
+        int n = graph.getVertexCount();
+        List<Edge> edges = graph.getEdges();
+        int m = edges.size();
+
+        int[] src = new int[m];
+        int[] dst = new int[m];
+        int[] weight = new int[m];
+        for (int i = 0; i < m; i++) {
+            Edge e = edges.get(i);
+            src[i] = e.getU();
+            dst[i] = e.getV();
+            weight[i] = e.getWeight();
+        }
+
+        int[] dist = new int[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[source] = 0;
+
+        for (int pass = 0; pass < n - 1; pass++) {
+            boolean updated = false;
+            for (int i = 0; i < m; i++) {
+                int du = dist[src[i]];
+                if (du != Integer.MAX_VALUE) {
+                    int newDist = du == MAX_FINITE || du == Integer.MIN_VALUE ? du : saturatedAdd(du, weight[i]);
+                    if (newDist < dist[dst[i]]) {
+                        dist[dst[i]] = newDist;
+                        updated = true;
+                    }
+                }
+            }
+            if (!updated) {
+                break;
+            }
+        }
+
+        for (int v = 0; v < n; v++) {
+            if (dist[v] == Integer.MIN_VALUE) {
+                // Цикл чи просто дуже довгий від’ємний шлях – у int не розрізнити, рахуємо в long
+                if (new SequentialBellmanFordLong().findShortestPaths(graph, source) == null) {
+                    return null;
+                }
+                throw new ArithmeticException("Distance to vertex " + v
+                        + " is below Integer.MIN_VALUE; use SequentialBellmanFordLong");
+            }
+        }
+
+        // Перевірка на від’ємні цикли без насичення
+        boolean ambiguous = false;
+        for (int i = 0; i < m; i++) {
+            int du = dist[src[i]];
+            if (du == MAX_FINITE) {
+                // Справжнє du невідоме: від’ємне ребро може дати і коротший шлях, і від’ємний цикл
+                ambiguous |= (long) MAX_FINITE + weight[i] < dist[dst[i]];
+            } else if (du != Integer.MAX_VALUE && (long) du + weight[i] < dist[dst[i]]) {
+                return null;
+            }
+        }
+        if (ambiguous) {
+            throw new ArithmeticException("Saturated distance feeds a negative edge; use SequentialBellmanFordLong");
+        }
+        return dist;
+    }
+
+    /** a + b з обрізанням до [MIN_FINITE, MAX_FINITE]; нижче MIN_FINITE – позначка Integer.MIN_VALUE */
+    static int saturatedAdd(int a, int b) {
+        long sum = (long) a + b;
+        if (sum > MAX_FINITE) {
+            return MAX_FINITE;
+        }
+        if (sum < MIN_FINITE) {
+            return Integer.MIN_VALUE;
+        }
+        return (int) sum;
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+
+import java.util.Arrays;
+
+/**
+ * Напівкільце шляхових задач (⊕, ⊗) над вектором значень вершин типу V (int[] чи double[]).
+ * Значення вершини – «сума» ⊕ по шляхах від джерела «добутків» ⊗ ваг ребер шляху:
+ * <ul>
+ *     <li>{@link #MIN_PLUS} – найкоротші шляхи (min, +), int; немає шляху – Integer.MAX_VALUE;</li>
+ *     <li>{@link #MAX_MIN} – найширший шлях (пропускна здатність вузького місця) (max, min), int;
+ *     вага ребра – його пропускна здатність, немає шляху – Integer.MIN_VALUE, джерело – Integer.MAX_VALUE;</li>
+ *     <li>{@link #maxTimes(double)} – найнадійніший шлях (max, ×), double; ймовірність ребра –
+ *     weight / scale з [0, 1], немає шляху – 0, джерело – 1.</li>
+ * </ul>
+ * Операції не передаються лямбдами: кожне напівкільце – окремий final-клас зі своєю копією ядра
+ * релаксації над примітивними масивами, тож у гарячому циклі немає упаковки й віртуальних
+ * викликів. Віртуальним лишається лише виклик ядра на пачку вершин; за SemiringKernelBenchmark
+ * (профіль jmh) min-plus не повільніший за цикл, написаний вручну.
+ */
+public abstract class Semiring<V> {
+
+    /** Найкоротші шляхи: (min, +) */
+    public static final Semiring<int[]> MIN_PLUS = new MinPlus();
+
+    /** Найширший шлях: (max, min) */
+    public static final Semiring<int[]> MAX_MIN = new MaxMin();
+
+    private final String name;
+
+    private Semiring(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Найнадійніший шлях: (max, ×) з ймовірностями ребер weight / scale.
+     *
+     * @throws IllegalArgumentException якщо scale не додатний
+     */
+    public static Semiring<double[]> maxTimes(double scale) {
+        if (!(scale > 0)) {
+            throw new IllegalArgumentException("scale must be positive: " + scale);
+        }
+        return new MaxTimes(scale);
+    }
+
+    /** Новий вектор, заповнений нулем напівкільця (ⓞ – «шляху немає») */
+    public abstract V newVector(int n);
+
+    /** Записує одиницю напівкільця (значення порожнього шляху) у вершину v */
+    public abstract void setOne(V vector, int v);
+
+    /**
+     * Ядро раунду «тягненням» по вхідних ребрах: next[v] = cur[v] ⊕ ⊕_{u → v} (cur[u] ⊗ w)
+     * для v з [from, to). Пише лише у свій діапазон next, тож діапазони можна рахувати паралельно.
+     *
+     * @return кількість вершин діапазону, значення яких змінилось
+     */
+    abstract int pull(CsrGraph graph, V cur, V next, int from, int to);
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static final class MinPlus extends Semiring<int[]> {
+        MinPlus() {
+            super("min-plus");
+        }
+
+        @Override
+        public int[] newVector(int n) {
+            int[] vector = new int[n];
+            Arrays.fill(vector, Integer.MAX_VALUE);
+            return vector;
+        }
+
+        @Override
+        public void setOne(int[] vector, int v) {
+            vector[v] = 0;
+        }
+
+        @Override
+        int pull(CsrGraph graph, int[] cur, int[] next, int from, int to) {
+            int changed = 0;
+            for (int v = from; v < to; v++) {
+                int best = cur[v];
+                for (int e = graph.inOffset(v), end = graph.inOffset(v + 1); e < end; e++) {
+                    int du = cur[graph.source(e)];
+                    if (du != Integer.MAX_VALUE && du + graph.inWeight(e) < best) {
+                        best = du + graph.inWeight(e);
+                    }
+                }
+                if (best != cur[v]) {
+                    changed++;
+                }
+                next[v] = best;
+            }
+            return changed;
+        }
+    }
+
+    private static final class MaxMin extends Semiring<int[]> {
+        MaxMin() {
+            super("max-min");
+        }
+
+        @Override
+        public int[] newVector(int n) {
+            int[] vector = new int[n];
+            Arrays.fill(vector, Integer.MIN_VALUE);
+            return vector;
+        }
+
+        @Override
+        public void setOne(int[] vector, int v) {
+            vector[v] = Integer.MAX_VALUE;
+        }
+
+        @Override
+        int pull(CsrGraph graph, int[] cur, int[] next, int from, int to) {
+            int changed = 0;
+            for (int v = from; v < to; v++) {
+                int best = cur[v];
+                for (int e = graph.inOffset(v), end = graph.inOffset(v + 1); e < end; e++) {
+                    // Нуль (MIN_VALUE) поглинається сам: min(MIN_VALUE, w) = MIN_VALUE
+                    int bottleneck = Math.min(cur[graph.source(e)], graph.inWeight(e));
+                    if (bottleneck > best) {
+                        best = bottleneck;
+                    }
+                }
+                if (best != cur[v]) {
+                    changed++;
+                }
+                next[v] = best;
+            }
+            return changed;
+        }
+    }
+
+    private static final class MaxTimes extends Semiring<double[]> {
+        private final double inverseScale;
+
+        MaxTimes(double scale) {
+            super("max-times");
+            this.inverseScale = 1.0 / scale;
+        }
+
+        @Override
+        public double[] newVector(int n) {
+            return new double[n];
+        }
+
+        @Override
+        public void setOne(double[] vector, int v) {
+            vector[v] = 1.0;
+        }
+
+        @Override
+        int pull(CsrGraph graph, double[] cur, double[] next, int from, int to) {
+            double scale = inverseScale;
+            int changed = 0;
+            for (int v = from; v < to; v++) {
+                double best = cur[v];
+                for (int e = graph.inOffset(v), end = graph.inOffset(v + 1); e < end; e++) {
+                    double reliability = cur[graph.source(e)] * (graph.inWeight(e) * scale);
+                    if (reliability > best) {
+                        best = reliability;
+                    }
+                }
+                if (best != cur[v]) {
+                    changed++;
+                }
+                next[v] = best;
+            }
+            return changed;
+        }
+    }
+}
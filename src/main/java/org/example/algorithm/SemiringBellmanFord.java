@@ -0,0 +1,125 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+import org.example.model.Graph;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bellman-Ford над довільним {@link Semiring}: раунди x' = x ⊕ (Aᵀ ⊗ x) до нерухомої точки.
+ * <p>
+ * Раунд – «тягнення» по оберненому CSR у стилі Якобі: кожна вершина рахує нове значення зі
+ * старого вектора, тож діапазони вершин незалежні. Обидва драйвери викликають ядро пачками по
+ * {@link #VERTICES_PER_TASK} вершин: послідовний – по черзі в потоці викликача, паралельний
+ * роздає пачки потокам, і кожен пише лише у свої вершини. З одним викликом на весь раунд
+ * швидкість стрибала між запусками JVM (імовірно, ядро компілювалось лише через OSR).
+ * Ядро раунду належить напівкільцю, тож обидва драйвери однакові для всіх напівкілець.
+ * <p>
+ * Якщо найкращі значення досягаються простими шляхами (для min-plus – немає від’ємних циклів,
+ * для max-min – завжди, для max-times – ймовірності не більші за 1), після n - 1 раундів змін
+ * немає, і правило n-го раунду з опису пакета виявляє «покращуваний» цикл, досяжний з джерела
+ * (null). Обернений CSR кешується на граф.
+ */
+public class SemiringBellmanFord<V> {
+
+    /** Скільки вершин потік бере за раз у паралельному драйвері */
+    public static final int VERTICES_PER_TASK = 4096;
+
+    private final Semiring<V> semiring;
+    private final int threads;
+
+    private final GraphCache<CsrGraph> reverseCsr = new GraphCache<>(CsrGraph::fromGraphWithReverse);
+    private volatile int lastIterations;
+
+    private SemiringBellmanFord(Semiring<V> semiring, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be >= 1");
+        }
+        this.semiring = semiring;
+        this.threads = threads;
+    }
+
+    /** Послідовний драйвер (без додаткових потоків) */
+    public static <V> SemiringBellmanFord<V> sequential(Semiring<V> semiring) {
+        return new SemiringBellmanFord<>(semiring, 1);
+    }
+
+    /** Паралельний драйвер на threads потоках */
+    public static <V> SemiringBellmanFord<V> parallel(Semiring<V> semiring, int threads) {
+        return new SemiringBellmanFord<>(semiring, threads);
+    }
+
+    /** Паралельний драйвер на всіх доступних процесорах */
+    public static <V> SemiringBellmanFord<V> parallel(Semiring<V> semiring) {
+        return parallel(semiring, Runtime.getRuntime().availableProcessors());
+    }
+
+    public Semiring<V> getSemiring() {
+        return semiring;
+    }
+
+    /** Кількість раундів останнього запуску */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+    /** Значення шляхів від source у графі graph (обернений CSR – з кешу) */
+    public V findPaths(Graph graph, int source) {
+        return findPaths(reverseCsr.get(graph), source);
+    }
+
+    /**
+     * Запуск на CSR з оберненими списками.
+     *
+     * @return вектор значень або null, якщо з source досяжний покращуваний цикл
+     * @throws IllegalArgumentException якщо в graph немає оберненого CSR
+     */
+    public V findPaths(CsrGraph graph, int source) {
+        if (!graph.hasReverse()) {
+            throw new IllegalArgumentException("SemiringBellmanFord needs a CSR with reverse adjacency");
+        }
+        int n = graph.getVertexCount();
+        V x = semiring.newVector(n);
+        semiring.setOne(x, source);
+        V y = semiring.newVector(n);
+        int tasks = (n + VERTICES_PER_TASK - 1) / VERTICES_PER_TASK;
+        int workers = Math.max(1, Math.min(threads, tasks));
+        int[] counts = new int[workers * WorkerThreads.FLAG_STRIDE];
+
+        for (int iter = 0; iter < n; iter++) {
+            long changed;
+            if (workers == 1) {
+                changed = 0;
+                for (int from = 0; from < n; from += VERTICES_PER_TASK) {
+                    changed += semiring.pull(graph, x, y, from, Math.min(n, from + VERTICES_PER_TASK));
+                }
+            } else {
+                V cur = x;
+                V next = y;
+                AtomicInteger nextTask = new AtomicInteger();
+                WorkerThreads.run(workers, t -> {
+                    int updates = 0;
+                    int task;
+                    while ((task = nextTask.getAndIncrement()) < tasks) {
+                        int from = task * VERTICES_PER_TASK;
+                        updates += semiring.pull(graph, cur, next, from, Math.min(n, from + VERTICES_PER_TASK));
+                    }
+                    counts[t * WorkerThreads.FLAG_STRIDE] = updates;
+                });
+                changed = 0;
+                for (int t = 0; t < workers; t++) {
+                    changed += counts[t * WorkerThreads.FLAG_STRIDE];
+                }
+            }
+            V swap = x;
+            x = y;
+            y = swap;
+            if (changed == 0) {
+                lastIterations = iter + 1;
+                return x;
+            }
+        }
+        lastIterations = n;
+        return null;
+    }
+}
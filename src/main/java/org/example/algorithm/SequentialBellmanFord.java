@@ -4,15 +4,44 @@ import org.example.model.Edge;
 import org.example.model.Graph;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 
 /**
  * Послідовна (одно­потокова) реалізація алгоритму Беллмана–Форда з перевіркою на від’ємні цикли.
+ * Під {@link ExecutionControl} токен і дедлайн перевіряються кожні CHECK_STRIDE ребер,
+ * зокрема й у фінальній перевірці на цикли.
  */
-public class SequentialBellmanFord implements IShortestPaths {
+public class SequentialBellmanFord implements IControllableShortestPaths {
 
+    /** Як часто (у ребрах) перевіряти, чи не треба зупинитися */
+    private static final int CHECK_STRIDE = 4096;
+
+    private volatile int lastPasses;
+
+    /** Кількість проходів по ребрах в останньому виклику (без фінальної перевірки на цикли) */
+    public int getLastPassCount() {
+        return lastPasses;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws CancellationException якщо потік перервано (прапорець переривання зберігається)
+     */
     @Override
     public int[] findShortestPaths(Graph graph, int source) {
+        ShortestPathsResult result = findShortestPaths(graph, source, ExecutionControl.none());
+        if (result.getStatus() == ShortestPathsResult.Status.CANCELLED) {
+            throw new CancellationException("Shortest paths query interrupted");
+        }
+        return result.getDistances();
+    }
+
+    @Override
+    public ShortestPathsResult findShortestPaths(Graph graph, int source, ExecutionControl control) {
         int n = graph.getVertexCount();
+        List<Edge> edges = graph.getEdges();
         int[] dist = new int[n];
 
         // Ініціалізуємо всі відстані = нескінченність (Integer.MAX_VALUE),
@@ -21,34 +50,66 @@ public class SequentialBellmanFord implements IShortestPaths {
         dist[source] = 0;
 
         // Основний цикл релаксацій (n-1 ітерацій)
+        lastPasses = Math.max(0, n - 1);
+        long previousUpdates = 0;
+        boolean converged = n <= 1;
         for (int i = 0; i < n - 1; i++) {
-            boolean updated = false;
-            for (Edge e : graph.getEdges()) {
-                int u = e.getU();
-                int v = e.getV();
-                int w = e.getWeight();
-                if (dist[u] != Integer.MAX_VALUE && dist[u] + w < dist[v]) {
-                    dist[v] = dist[u] + w;
-                    updated = true;
+            if (i >= control.getIterationBudget()) {
+                lastPasses = i;
+                return new ShortestPathsResult(ShortestPathsResult.Status.ITERATION_BUDGET_EXHAUSTED, dist, i);
+            }
+            long updates = 0;
+            for (int blockStart = 0; blockStart < edges.size(); blockStart += CHECK_STRIDE) {
+                // Релаксація на місці: навіть обірваний прохід лишає в dist довжини реальних шляхів
+                ShortestPathsResult.Status reason = control.stopReason();
+                if (reason != null) {
+                    lastPasses = i;
+                    return new ShortestPathsResult(reason, dist, i);
+                }
+                int blockEnd = Math.min(blockStart + CHECK_STRIDE, edges.size());
+                for (int j = blockStart; j < blockEnd; j++) {
+                    Edge e = edges.get(j);
+                    int u = e.getU();
+                    int v = e.getV();
+                    int w = e.getWeight();
+                    if (dist[u] != Integer.MAX_VALUE && dist[u] + w < dist[v]) {
+                        dist[v] = dist[u] + w;
+                        updates++;
+                    }
                 }
             }
+            control.reportProgress(i + 1, updates, previousUpdates, n - 1);
+            previousUpdates = updates;
             // Якщо за ітерацію не було жодного оновлення – виходимо раніше
-            if (!updated) {
+            if (updates == 0) {
+                lastPasses = i + 1;
+                converged = true;
                 break;
             }
         }
 
-        // Перевірка на від’ємні цикли: якщо ще можна зменшити dist[], значить цикл є
-        for (Edge e : graph.getEdges()) {
-            int u = e.getU();
-            int v = e.getV();
-            int w = e.getWeight();
-            if (dist[u] != Integer.MAX_VALUE && dist[u] + w < dist[v]) {
-                // Виявлено від’ємний цикл
-                return null;
+        // Перевірка на від’ємні цикли: якщо ще можна зменшити dist[], значить цикл є.
+        // Після проходу без жодного оновлення порушень бути не може, тож перевірка не потрібна
+        if (!converged) {
+            for (int blockStart = 0; blockStart < edges.size(); blockStart += CHECK_STRIDE) {
+                ShortestPathsResult.Status reason = control.stopReason();
+                if (reason != null) {
+                    return new ShortestPathsResult(reason, dist, lastPasses);
+                }
+                int blockEnd = Math.min(blockStart + CHECK_STRIDE, edges.size());
+                for (int j = blockStart; j < blockEnd; j++) {
+                    Edge e = edges.get(j);
+                    int u = e.getU();
+                    int v = e.getV();
+                    int w = e.getWeight();
+                    if (dist[u] != Integer.MAX_VALUE && dist[u] + w < dist[v]) {
+                        // Виявлено від’ємний цикл
+                        return new ShortestPathsResult(ShortestPathsResult.Status.NEGATIVE_CYCLE, null, lastPasses);
+                    }
+                }
             }
         }
 
-        return dist;
+        return new ShortestPathsResult(ShortestPathsResult.Status.COMPLETED, dist, lastPasses);
     }
 }
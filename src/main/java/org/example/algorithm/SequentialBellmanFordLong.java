@@ -0,0 +1,57 @@
+package org.example.algorithm;
+
+import org.example.model.Edge;
+import org.example.model.Graph;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Послідовний Bellman-Ford із відстанями типу long: той самий цикл, що й у
+ * {@link SequentialBellmanFord}, але без тихого переповнення dist[u] + w.
+ */
+public class SequentialBellmanFordLong implements ILongShortestPaths {
+
+    @Override
+    public long[] findShortestPaths(Graph graph, int source) {
+        int n = graph.getVertexCount();
+        List<Edge> edges = graph.getEdges();
+        int m = edges.size();
+
+        // Структура масивів, щоб гарячий цикл не розіменовував Edge
+        int[] src = new int[m];
+        int[] dst = new int[m];
+        int[] weight = new int[m];
+        for (int i = 0; i < m; i++) {
+            Edge e = edges.get(i);
+            src[i] = e.getU();
+            dst[i] = e.getV();
+            weight[i] = e.getWeight();
+        }
+
+        long[] dist = new long[n];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        dist[source] = 0;
+
+        for (int pass = 0; pass < n - 1; pass++) {
+            if (!relaxAll(src, dst, weight, dist)) {
+                return dist;
+            }
+        }
+
+        // Перевірка на від’ємні цикли
+        return relaxAll(src, dst, weight, dist) ? null : dist;
+    }
+
+    private static boolean relaxAll(int[] src, int[] dst, int[] weight, long[] dist) {
+        boolean updated = false;
+        for (int i = 0; i < src.length; i++) {
+            long du = dist[src[i]];
+            if (du != Long.MAX_VALUE && du + weight[i] < dist[dst[i]]) {
+                dist[dst[i]] = du + weight[i];
+                updated = true;
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.algorithm;
+
+/**
+ * Результат запиту з {@link ExecutionControl}: стан завершення, відстані і кількість раундів.
+ * Якщо запит зупинено достроково, відстані часткові – кожна скінченна dist[v] є довжиною
+ * реального шляху source → v, тобто верхньою межею найкоротшої відстані.
+ */
+public final class ShortestPathsResult {
+
+    /** Як завершився запит */
+    public enum Status {
+        /** Відстані остаточні */
+        COMPLETED,
+        /** З джерела досяжний від’ємний цикл; відстаней немає */
+        NEGATIVE_CYCLE,
+        /** Скасовано токеном або перериванням потоку */
+        CANCELLED,
+        /** Минув дедлайн */
+        DEADLINE_EXCEEDED,
+        /** Вичерпано бюджет раундів */
+        ITERATION_BUDGET_EXHAUSTED
+    }
+
+    private final Status status;
+    private final int[] distances;
+    private final int iterations;
+
+    ShortestPathsResult(Status status, int[] distances, int iterations) {
+        this.status = status;
+        this.distances = distances;
+        this.iterations = iterations;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /** Відстані (остаточні або часткові); null для NEGATIVE_CYCLE */
+    public int[] getDistances() {
+        return distances;
+    }
+
+    /** Кількість повністю завершених раундів релаксації */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /** Чи відповідь остаточна (COMPLETED або NEGATIVE_CYCLE) */
+    public boolean isComplete() {
+        return status == Status.COMPLETED || status == Status.NEGATIVE_CYCLE;
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+import org.example.model.Graph;
+
+import java.util.Arrays;
+
+/**
+ * Bellman-Ford з FIFO-чергою (SPFA): сканує лише вершини, чия відстань змінилась.
+ * Від’ємний цикл виявляється за довжиною шляху: якщо найкоротший шлях до вершини
+ * має n або більше ребер, він обов’язково містить цикл.
+ */
+public class SpfaBellmanFord implements IShortestPaths {
+
+    @Override
+    public int[] findShortestPaths(Graph graph, int source) {
+        CsrGraph csr = CsrGraph.fromGraph(graph);
+        int n = csr.getVertexCount();
+
+        int[] dist = new int[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[source] = 0;
+        int[] hops = new int[n];
+        boolean[] inQueue = new boolean[n];
+
+        // Кільцевий буфер: у черзі одночасно не більше n вершин
+        int[] queue = new int[n];
+        int head = 0;
+        int size = 0;
+        queue[0] = source;
+        inQueue[source] = true;
+        size++;
+
+        while (size > 0) {
+            int u = queue[head];
+            head = head + 1 == n ? 0 : head + 1;
+            size--;
+            inQueue[u] = false;
+
+            int du = dist[u];
+            int end = csr.outOffset(u + 1);
+            for (int e = csr.outOffset(u); e < end; e++) {
+                int v = csr.target(e);
+                int newDist = du + csr.weight(e);
+                if (newDist < dist[v]) {
+                    dist[v] = newDist;
+                    hops[v] = hops[u] + 1;
+                    if (hops[v] >= n) {
+                        // Виявлено від’ємний цикл
+                        return null;
+                    }
+                    if (!inQueue[v]) {
+                        inQueue[v] = true;
+                        int tail = head + size;
+                        queue[tail >= n ? tail - n : tail] = v;
+                        size++;
+                    }
+                }
+            }
+        }
+        return dist;
+    }
+}
@@ -0,0 +1,344 @@
+package org.example.algorithm;
+
+import org.example.model.EdgeListFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Потоковий режим для одноразових задач: релаксація починається, поки файл ребер ще читається.
+ * <p>
+ * Конвеєр: потік, що викликав {@link #findShortestPaths(InputStream, int)}, розбирає
+ * {@link EdgeListFormat} блоками й кладе їх в обмежену чергу; робочі потоки беруть блоки й одразу
+ * релаксують їхні ребра на місці (атомарний мінімум, як в ASYNC_IN_PLACE). Коли черга повна,
+ * розбір чекає (зворотний тиск), тож у пам’яті між стадіями не більше queueCapacity блоків.
+ * Так перший прохід по ребрах перекривається з введенням-виведенням; блоки зберігаються, і решта
+ * проходів іде паралельно вже по повному набору ребер, доки відстані не перестануть змінюватись.
+ * <p>
+ * Кожен прохід (і потоковий теж) релаксує кожне ребро рівно раз проти відстаней, не гірших за
+ * раунд Якобі, тож діє правило n-го раунду з опису пакета. Метрики стадій – у {@link #getLastStats()}.
+ */
+public class StreamingBellmanFord {
+
+    /** Ребер в одному блоці конвеєра */
+    public static final int DEFAULT_BLOCK_EDGES = 1 << 14;
+    /** Блоків у черзі між розбором і релаксацією */
+    public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+    private static final EdgeBlock END_OF_STREAM = new EdgeBlock(0);
+
+    private final int threads;
+    private final int blockEdges;
+    private final int queueCapacity;
+    private volatile Stats lastStats;
+
+    public StreamingBellmanFord() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_BLOCK_EDGES, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public StreamingBellmanFord(int threads, int blockEdges, int queueCapacity) {
+        if (threads < 1 || blockEdges < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("threads, blockEdges and queueCapacity must be >= 1");
+        }
+        this.threads = threads;
+        this.blockEdges = blockEdges;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /** Метрики останнього запуску (null до першого) */
+    public Stats getLastStats() {
+        return lastStats;
+    }
+
+    /**
+     * Читає граф з потоку у форматі {@link EdgeListFormat} і рахує відстані від source.
+     *
+     * @return масив відстаней або null, якщо з source досяжний від’ємний цикл
+     * @throws IOException           помилка читання чи розбору (робочі потоки при цьому зупиняються)
+     * @throws CancellationException якщо потік перервано під час очікування стадій
+     */
+    public int[] findShortestPaths(InputStream in, int source) throws IOException {
+        long start = System.nanoTime();
+        EdgeListFormat.Reader reader = new EdgeListFormat.Reader(in);
+        int n = reader.getVertexCount();
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException("source " + source + " is outside [0, " + n + ")");
+        }
+        AtomicIntegerArray dist = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            dist.set(v, Integer.MAX_VALUE);
+        }
+        dist.set(source, 0);
+
+        BlockingQueue<EdgeBlock> queue = new ArrayBlockingQueue<>(queueCapacity);
+        List<EdgeBlock> blocks = new ArrayList<>();
+        AtomicLong streamChanges = new AtomicLong();
+        AtomicLong relaxBusyNanos = new AtomicLong();
+        AtomicLong relaxIdleNanos = new AtomicLong();
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                long changes = 0;
+                long busy = 0;
+                long idle = 0;
+                try {
+                    while (true) {
+                        long waitStart = System.nanoTime();
+                        EdgeBlock block = queue.take();
+                        long taken = System.nanoTime();
+                        idle += taken - waitStart;
+                        if (block == END_OF_STREAM) {
+                            break;
+                        }
+                        changes += relax(block, dist);
+                        busy += System.nanoTime() - taken;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    streamChanges.addAndGet(changes);
+                    relaxBusyNanos.addAndGet(busy);
+                    relaxIdleNanos.addAndGet(idle);
+                }
+            }, "bf-stream-relax-" + t);
+            workers[t].start();
+        }
+
+        // Стадія розбору – у потоці викликача
+        long parseNanos = 0;
+        long backpressureNanos = 0;
+        boolean finished = false;
+        try {
+            while (true) {
+                long parseStart = System.nanoTime();
+                EdgeBlock block = new EdgeBlock(blockEdges);
+                block.count = reader.readBlock(block.u, block.v, block.w);
+                long parsed = System.nanoTime();
+                parseNanos += parsed - parseStart;
+                if (block.count == 0) {
+                    break;
+                }
+                blocks.add(block);
+                queue.put(block);
+                backpressureNanos += System.nanoTime() - parsed;
+            }
+            finished = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while feeding the relaxation stage");
+        } finally {
+            stopWorkers(workers, queue, finished);
+        }
+        long streamingNanos = System.nanoTime() - start;
+
+        // Решта проходів по вже завантажених блоках
+        long passesStart = System.nanoTime();
+        int passes = 1;
+        boolean negativeCycle = false;
+        long changes = streamChanges.get();
+        int[] counts = new int[threads * WorkerThreads.FLAG_STRIDE];
+        while (changes > 0) {
+            if (passes >= n) {
+                negativeCycle = true;
+                break;
+            }
+            AtomicInteger nextBlock = new AtomicInteger();
+            WorkerThreads.run(threads, t -> {
+                int changed = 0;
+                int b;
+                while ((b = nextBlock.getAndIncrement()) < blocks.size()) {
+                    changed += relax(blocks.get(b), dist);
+                }
+                counts[t * WorkerThreads.FLAG_STRIDE] = changed;
+            });
+            passes++;
+            changes = 0;
+            for (int t = 0; t < threads; t++) {
+                changes += counts[t * WorkerThreads.FLAG_STRIDE];
+            }
+        }
+        long passesNanos = System.nanoTime() - passesStart;
+
+        lastStats = new Stats(reader.getBytesRead(), reader.getEdgesRead(), parseNanos, backpressureNanos,
+                relaxBusyNanos.get(), relaxIdleNanos.get(), streamingNanos, passes, passesNanos);
+        if (negativeCycle) {
+            return null;
+        }
+        int[] result = new int[n];
+        for (int v = 0; v < n; v++) {
+            result[v] = dist.get(v);
+        }
+        return result;
+    }
+
+    /**
+     * Завершує стадію релаксації: після успішного розбору кожен потік отримує сигнал кінця
+     * і дообробляє чергу; якщо розбір обірвався, черга очищається, а потоки перериваються.
+     */
+    private static void stopWorkers(Thread[] workers, BlockingQueue<EdgeBlock> queue, boolean finished) {
+        boolean interrupted = false;
+        if (finished) {
+            for (int t = 0; t < workers.length; t++) {
+                boolean sent = false;
+                while (!sent) {
+                    try {
+                        queue.put(END_OF_STREAM);
+                        sent = true;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+        } else {
+            queue.clear();
+            for (Thread worker : workers) {
+                worker.interrupt();
+            }
+        }
+        for (Thread worker : workers) {
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Релаксує ребра блоку на місці; повертає кількість покращень */
+    private static int relax(EdgeBlock block, AtomicIntegerArray dist) {
+        int changed = 0;
+        int[] u = block.u;
+        int[] v = block.v;
+        int[] w = block.w;
+        for (int i = 0; i < block.count; i++) {
+            int du = dist.get(u[i]);
+            if (du == Integer.MAX_VALUE) {
+                continue;
+            }
+            int newDist = du + w[i];
+            int old = dist.get(v[i]);
+            while (newDist < old) {
+                if (dist.compareAndSet(v[i], old, newDist)) {
+                    changed++;
+                    break;
+                }
+                old = dist.get(v[i]);
+            }
+        }
+        return changed;
+    }
+
+    /** Блок ребер, що проходить конвеєром і зберігається для наступних проходів */
+    private static final class EdgeBlock {
+        final int[] u;
+        final int[] v;
+        final int[] w;
+        int count;
+
+        EdgeBlock(int capacity) {
+            u = new int[capacity];
+            v = new int[capacity];
+            w = new int[capacity];
+        }
+    }
+
+    /** Метрики стадій одного запуску; пропускна здатність – у ребрах за секунду зайнятого часу */
+    public static final class Stats {
+        private final long bytesRead;
+        private final long edges;
+        private final long parseNanos;
+        private final long backpressureNanos;
+        private final long relaxBusyNanos;
+        private final long relaxIdleNanos;
+        private final long streamingNanos;
+        private final int passes;
+        private final long remainingPassesNanos;
+
+        Stats(long bytesRead, long edges, long parseNanos, long backpressureNanos, long relaxBusyNanos,
+              long relaxIdleNanos, long streamingNanos, int passes, long remainingPassesNanos) {
+            this.bytesRead = bytesRead;
+            this.edges = edges;
+            this.parseNanos = parseNanos;
+            this.backpressureNanos = backpressureNanos;
+            this.relaxBusyNanos = relaxBusyNanos;
+            this.relaxIdleNanos = relaxIdleNanos;
+            this.streamingNanos = streamingNanos;
+            this.passes = passes;
+            this.remainingPassesNanos = remainingPassesNanos;
+        }
+
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        public long getEdges() {
+            return edges;
+        }
+
+        /** Час розбору (читання й перетворення на числа) без очікування на чергу */
+        public long getParseNanos() {
+            return parseNanos;
+        }
+
+        /** Скільки розбір чекав на місце в черзі (зворотний тиск від релаксації) */
+        public long getBackpressureNanos() {
+            return backpressureNanos;
+        }
+
+        /** Сумарний зайнятий час потоків релаксації в потоковому проході */
+        public long getRelaxBusyNanos() {
+            return relaxBusyNanos;
+        }
+
+        /** Сумарний час, який потоки релаксації чекали на блоки (голодування через розбір) */
+        public long getRelaxIdleNanos() {
+            return relaxIdleNanos;
+        }
+
+        /** Тривалість перекритого етапу: від початку читання до релаксації останнього блоку */
+        public long getStreamingNanos() {
+            return streamingNanos;
+        }
+
+        /** Кількість проходів по ребрах, включно з потоковим */
+        public int getPasses() {
+            return passes;
+        }
+
+        /** Тривалість проходів після завантаження */
+        public long getRemainingPassesNanos() {
+            return remainingPassesNanos;
+        }
+
+        public double getParseEdgesPerSecond() {
+            return parseNanos == 0 ? 0 : edges * 1e9 / parseNanos;
+        }
+
+        public double getRelaxEdgesPerSecond() {
+            return relaxBusyNanos == 0 ? 0 : edges * 1e9 / relaxBusyNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("parse %.1f MB, %d edges at %.1f M edges/s (backpressure %d ms); "
+                            + "relax %.1f M edges/s (idle %d ms); streaming pass %d ms, %d more passes %d ms",
+                    bytesRead / 1e6, edges, getParseEdgesPerSecond() / 1e6, backpressureNanos / 1_000_000,
+                    getRelaxEdgesPerSecond() / 1e6, relaxIdleNanos / 1_000_000, streamingNanos / 1_000_000,
+                    passes - 1, remainingPassesNanos / 1_000_000);
+        }
+    }
+}
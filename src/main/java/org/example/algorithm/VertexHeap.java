@@ -0,0 +1,74 @@
+package org.example.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Бінарна min-купа пар (ключ long, вершина int) на примітивних масивах.
+ * Зменшення ключа не підтримується: вершину додають повторно, а застарілі записи
+ * викликач пропускає, порівнюючи ключ з поточною відстанню («ледаче видалення»).
+ */
+final class VertexHeap {
+
+    private long[] keys = new long[64];
+    private int[] vertices = new int[64];
+    private int size;
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void push(long key, int vertex) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            vertices = Arrays.copyOf(vertices, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[i] = keys[parent];
+            vertices[i] = vertices[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        vertices[i] = vertex;
+    }
+
+    /** Найменший ключ (купа не порожня) */
+    long peekKey() {
+        return keys[0];
+    }
+
+    /** Вершина з найменшим ключем (купа не порожня) */
+    int peekVertex() {
+        return vertices[0];
+    }
+
+    /** Видаляє верхній запис */
+    void pop() {
+        long key = keys[--size];
+        int vertex = vertices[size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[i] = keys[child];
+            vertices[i] = vertices[child];
+            i = child;
+        }
+        keys[i] = key;
+        vertices[i] = vertex;
+    }
+}
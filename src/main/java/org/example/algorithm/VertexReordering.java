@@ -0,0 +1,235 @@
+package org.example.algorithm;
+
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.model.RelabeledGraph;
+
+import java.util.List;
+
+/**
+ * Попередня обробка графа для кращої локальності кешу: перенумерація вершин так,
+ * щоб сусідні вершини мали близькі номери, і сортування ребер за (початок, кінець),
+ * щоб прохід по ребрах читав dist[u] майже послідовно.
+ * Результат – {@link RelabeledGraph}, який переводить відповіді назад у початкові номери.
+ */
+public final class VertexReordering {
+
+    /** Спосіб перенумерації */
+    public enum Strategy {
+        /** Порядок обходу в ширину з джерела (далі – з інших ще не відвіданих вершин) */
+        BFS,
+        /** Зворотний Cuthill–McKee на симетризованому графі: мінімізує «ширину стрічки» */
+        REVERSE_CUTHILL_MCKEE,
+        /** Hub clustering: вершини зі степенем не нижче середнього – разом на початку, решта – за ними */
+        HUB_CLUSTERING
+    }
+
+    private VertexReordering() {
+    }
+
+    /**
+     * Перенумеровує граф обраною стратегією.
+     *
+     * @param source джерело для стратегії BFS (для інших ігнорується)
+     */
+    public static RelabeledGraph reorder(Graph graph, Strategy strategy, int source) {
+        int[] order;
+        switch (strategy) {
+            case BFS:
+                order = bfsOrder(graph, source);
+                break;
+            case REVERSE_CUTHILL_MCKEE:
+                order = reverseCuthillMcKeeOrder(graph);
+                break;
+            default:
+                order = hubClusteringOrder(graph);
+                break;
+        }
+        return relabel(graph, order);
+    }
+
+    /** Порядок BFS за вихідними ребрами з source; order[i] – початковий номер i-ї вершини */
+    static int[] bfsOrder(Graph graph, int source) {
+        CsrGraph csr = CsrGraph.fromGraph(graph);
+        int n = csr.getVertexCount();
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int size = 0;
+        for (int start = -1; start < n; start++) {
+            int root = start < 0 ? source : start;
+            if (visited[root]) {
+                continue;
+            }
+            visited[root] = true;
+            order[size] = root;
+            int head = size++;
+            while (head < size) {
+                int u = order[head++];
+                int end = csr.outOffset(u + 1);
+                for (int e = csr.outOffset(u); e < end; e++) {
+                    int v = csr.target(e);
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        order[size++] = v;
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Зворотний Cuthill–McKee: BFS по симетризованому графу з вершини найменшого степеня
+     * кожної компоненти, сусіди – у порядку зростання степеня; підсумковий порядок обертається.
+     */
+    static int[] reverseCuthillMcKeeOrder(Graph graph) {
+        CsrGraph csr = CsrGraph.fromGraphWithReverse(graph);
+        int n = csr.getVertexCount();
+        int[] degree = new int[n];
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            degree[v] = csr.outDegree(v) + csr.inOffset(v + 1) - csr.inOffset(v);
+            maxDegree = Math.max(maxDegree, degree[v]);
+        }
+
+        // Вершини, впорядковані за степенем, – кандидати на корінь компоненти
+        int[] byDegree = sortByKey(degree, maxDegree + 1);
+
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int[] neighbours = new int[16];
+        int size = 0;
+        for (int root : byDegree) {
+            if (visited[root]) {
+                continue;
+            }
+            visited[root] = true;
+            order[size] = root;
+            int head = size++;
+            while (head < size) {
+                int u = order[head++];
+                int count = 0;
+                int outEnd = csr.outOffset(u + 1);
+                int inEnd = csr.inOffset(u + 1);
+                if (neighbours.length < (outEnd - csr.outOffset(u)) + (inEnd - csr.inOffset(u))) {
+                    neighbours = new int[2 * ((outEnd - csr.outOffset(u)) + (inEnd - csr.inOffset(u)))];
+                }
+                for (int e = csr.outOffset(u); e < outEnd; e++) {
+                    int v = csr.target(e);
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        neighbours[count++] = v;
+                    }
+                }
+                for (int e = csr.inOffset(u); e < inEnd; e++) {
+                    int v = csr.source(e);
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        neighbours[count++] = v;
+                    }
+                }
+                // Сортування вставками за степенем – списки сусідів зазвичай короткі
+                for (int i = 1; i < count; i++) {
+                    int x = neighbours[i];
+                    int j = i - 1;
+                    while (j >= 0 && degree[neighbours[j]] > degree[x]) {
+                        neighbours[j + 1] = neighbours[j];
+                        j--;
+                    }
+                    neighbours[j + 1] = x;
+                }
+                System.arraycopy(neighbours, 0, order, size, count);
+                size += count;
+            }
+        }
+
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
+    }
+
+    /** Hub clustering: «гарячі» вершини (степінь ≥ середнього) першими, відносний порядок зберігається */
+    static int[] hubClusteringOrder(Graph graph) {
+        int n = graph.getVertexCount();
+        List<Edge> edges = graph.getEdges();
+        int[] degree = new int[n];
+        for (Edge e : edges) {
+            degree[e.getU()]++;
+            degree[e.getV()]++;
+        }
+        double average = n == 0 ? 0 : 2.0 * edges.size() / n;
+
+        int[] order = new int[n];
+        int size = 0;
+        for (int v = 0; v < n; v++) {
+            if (degree[v] >= average) {
+                order[size++] = v;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            if (degree[v] < average) {
+                order[size++] = v;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Будує граф у нових номерах: нова вершина i – це order[i].
+     * Ребра впорядковуються за (початок, кінець) двома стійкими сортуваннями підрахунком.
+     */
+    static RelabeledGraph relabel(Graph graph, int[] order) {
+        int n = graph.getVertexCount();
+        int[] toNew = new int[n];
+        for (int i = 0; i < n; i++) {
+            toNew[order[i]] = i;
+        }
+
+        List<Edge> edges = graph.getEdges();
+        int m = edges.size();
+        int[] src = new int[m];
+        int[] dst = new int[m];
+        int[] weight = new int[m];
+        for (int i = 0; i < m; i++) {
+            Edge e = edges.get(i);
+            src[i] = toNew[e.getU()];
+            dst[i] = toNew[e.getV()];
+            weight[i] = e.getWeight();
+        }
+
+        // Спершу за кінцем, потім стійко за початком – отримуємо порядок (початок, кінець)
+        int[] byDst = sortByKey(dst, n);
+        int[] srcByDst = new int[m];
+        for (int i = 0; i < m; i++) {
+            srcByDst[i] = src[byDst[i]];
+        }
+        int[] bySrc = sortByKey(srcByDst, n);
+
+        Graph result = new Graph(n);
+        for (int i = 0; i < m; i++) {
+            int e = byDst[bySrc[i]];
+            result.addEdge(src[e], dst[e], weight[e]);
+        }
+        return new RelabeledGraph(result, toNew, order.clone());
+    }
+
+    /** Стійке сортування підрахунком: повертає індекси 0..keys.length-1 у порядку зростання ключа (0..range-1) */
+    private static int[] sortByKey(int[] keys, int range) {
+        int[] counts = new int[range + 1];
+        for (int key : keys) {
+            counts[key + 1]++;
+        }
+        for (int k = 0; k < range; k++) {
+            counts[k + 1] += counts[k];
+        }
+        int[] sorted = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            sorted[counts[keys[i]]++] = i;
+        }
+        return sorted;
+    }
+}
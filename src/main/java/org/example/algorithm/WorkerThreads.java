@@ -0,0 +1,60 @@
+package org.example.algorithm;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.IntConsumer;
+
+/**
+ * Допоміжний запуск групи потоків для одного паралельного кроку (раунду) алгоритму.
+ */
+final class WorkerThreads {
+
+    /**
+     * Крок в int-ах між лічильниками (прапорцями) потоків у спільному масиві: 128 байт, тобто
+     * два рядки кешу – сусідні потоки не ділять кеш-лінію навіть із сусідньою попередньою вибіркою.
+     */
+    static final int FLAG_STRIDE = 32;
+
+    private WorkerThreads() {
+    }
+
+    /**
+     * Запускає threads потоків із тілом body(номер потоку) і чекає на їх завершення.
+     * Якщо потік, що чекає, перервано, робочі потоки теж перериваються (тіла, що перевіряють
+     * {@link ExecutionControl#isStopRequested()}, виходять на найближчій межі шматка роботи),
+     * після їх завершення прапорець переривання відновлюється і кидається CancellationException.
+     */
+    static void run(int threads, IntConsumer body) {
+        Thread[] pool = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            pool[t] = new Thread(() -> body.accept(id));
+            pool[t].start();
+        }
+        for (int t = 0; t < threads; t++) {
+            try {
+                pool[t].join();
+            } catch (InterruptedException e) {
+                for (Thread worker : pool) {
+                    worker.interrupt();
+                }
+                joinUninterruptibly(pool);
+                Thread.currentThread().interrupt();
+                CancellationException cancelled = new CancellationException("Interrupted while waiting for workers");
+                cancelled.initCause(e);
+                throw cancelled;
+            }
+        }
+    }
+
+    private static void joinUninterruptibly(Thread[] pool) {
+        for (Thread worker : pool) {
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException ignored) {
+                    // прапорець відновить викликач
+                }
+            }
+        }
+    }
+}
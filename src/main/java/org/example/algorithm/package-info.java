@@ -0,0 +1,16 @@
+/**
+ * Рушії пошуку найкоротших шляхів і спільні для них домовленості.
+ * <ul>
+ *     <li><b>Результат.</b> Як у {@link org.example.algorithm.IShortestPaths}: Integer.MAX_VALUE –
+ *     вершина недосяжна, null – з джерела досяжний від’ємний цикл.</li>
+ *     <li><b>Правило n-го раунду.</b> Раунд, що релаксує кожне ребро хоча б раз проти відстаней,
+ *     не гірших за попередній раунд Якобі (сам Якобі, релаксація на місці, проходи по фронту),
+ *     без від’ємних циклів стабілізується за n - 1 раундів. Тож рушії, що посилаються на це
+ *     правило, вважають зміни в n-му раунді від’ємним циклом, досяжним з джерела.</li>
+ *     <li><b>Лічильники потоків.</b> Потік пише свій лічильник чи прапорець у спільний масив з кроком
+ *     {@code WorkerThreads.FLAG_STRIDE} int-ів (128 байт), щоб сусідні потоки не ділили кеш-лінію.</li>
+ *     <li><b>Кеш на граф.</b> Похідні структури (CSR, розклади ребер, стиснені подання) рушій
+ *     тримає в {@code GraphCache}: будуються раз на граф і скидаються, щойно змінилась кількість ребер.</li>
+ * </ul>
+ */
+package org.example.algorithm;
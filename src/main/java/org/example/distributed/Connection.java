@@ -0,0 +1,258 @@
+package org.example.distributed;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * З’єднання координатора з робітником: кадри з байта-типу повідомлення
+ * і блоків int-ів, стиснутих Deflater-ом. Рахує байти «на дроті» (після стиснення)
+ * і «сирі» (до стиснення) в обидва боки.
+ */
+final class Connection implements Closeable {
+
+    // Типи повідомлень
+    static final byte SETUP = 1;
+    static final byte ROUND = 2;
+    static final byte ROUND_RESULT = 3;
+    static final byte COLLECT = 4;
+    static final byte STOP = 5;
+
+    // Стан робітника у відповіді на раунд
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_NEGATIVE_CYCLE = 1;
+
+    /** Менші блоки Deflater лише збільшує (заголовок і словник) – їх пишемо як є */
+    private static final int MIN_COMPRESSED_BYTES = 64;
+
+    private final Socket socket;
+    private final CountingInput counted;
+    private final CountingOutput countedOut;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final Inflater inflater = new Inflater();
+    private byte[] buffer = new byte[1 << 12];
+    private long rawBytes;
+
+    Connection(Socket socket) throws IOException {
+        this.socket = socket;
+        socket.setTcpNoDelay(true);
+        this.counted = new CountingInput(socket.getInputStream());
+        this.countedOut = new CountingOutput(socket.getOutputStream());
+        this.in = new DataInputStream(new BufferedInputStream(counted, 1 << 16));
+        this.out = new DataOutputStream(new BufferedOutputStream(countedOut, 1 << 16));
+    }
+
+    void writeType(byte type) throws IOException {
+        out.writeByte(type);
+        rawBytes++;
+    }
+
+    byte readType() throws IOException {
+        rawBytes++;
+        return in.readByte();
+    }
+
+    void writeUtf(String value) throws IOException {
+        out.writeUTF(value);
+        rawBytes += 2 + modifiedUtf8Length(value);
+    }
+
+    String readUtf() throws IOException {
+        String value = in.readUTF();
+        rawBytes += 2 + modifiedUtf8Length(value);
+        return value;
+    }
+
+    /** Довжина рядка в modified UTF-8, як його пише writeUTF (без двох байтів довжини) */
+    static int modifiedUtf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                length++;
+            } else if (c <= 0x07FF) {
+                length += 2; // зокрема нульовий символ
+            } else {
+                length += 3; // сурогати – кожна половина окремо
+            }
+        }
+        return length;
+    }
+
+    /** Записує values[0..count) одним блоком; стискає, якщо блок не менший за MIN_COMPRESSED_BYTES */
+    void writeInts(int[] values, int count) throws IOException {
+        int rawLength = count * 4;
+        byte[] raw = new byte[rawLength];
+        for (int i = 0; i < count; i++) {
+            int v = values[i];
+            raw[4 * i] = (byte) (v >>> 24);
+            raw[4 * i + 1] = (byte) (v >>> 16);
+            raw[4 * i + 2] = (byte) (v >>> 8);
+            raw[4 * i + 3] = (byte) v;
+        }
+        rawBytes += 8 + rawLength;
+        if (rawLength < MIN_COMPRESSED_BYTES) {
+            out.writeInt(rawLength);
+            out.writeInt(-1);
+            out.write(raw);
+            return;
+        }
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        int compressed = 0;
+        while (!deflater.finished()) {
+            if (compressed == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            compressed += deflater.deflate(buffer, compressed, buffer.length - compressed);
+        }
+        out.writeInt(rawLength);
+        out.writeInt(compressed);
+        out.write(buffer, 0, compressed);
+    }
+
+    int[] readInts() throws IOException {
+        int rawLength = in.readInt();
+        int compressed = in.readInt();
+        rawBytes += 8 + rawLength;
+        byte[] raw = new byte[rawLength];
+        if (compressed < 0) {
+            in.readFully(raw);
+            return toInts(raw);
+        }
+        if (buffer.length < compressed) {
+            buffer = new byte[compressed];
+        }
+        in.readFully(buffer, 0, compressed);
+        inflater.reset();
+        inflater.setInput(buffer, 0, compressed);
+        try {
+            int length = 0;
+            while (length < rawLength) {
+                int read = inflater.inflate(raw, length, rawLength - length);
+                if (read == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IOException("Truncated compressed block");
+                }
+                length += read;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted compressed block", e);
+        }
+        return toInts(raw);
+    }
+
+    private static int[] toInts(byte[] raw) {
+        int[] values = new int[raw.length / 4];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (raw[4 * i] & 0xFF) << 24 | (raw[4 * i + 1] & 0xFF) << 16
+                    | (raw[4 * i + 2] & 0xFF) << 8 | (raw[4 * i + 3] & 0xFF);
+        }
+        return values;
+    }
+
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    /** Байти, передані сокетом в обидва боки (після стиснення) */
+    long wireBytes() {
+        return counted.count + countedOut.count;
+    }
+
+    /** Байти повідомлень до стиснення в обидва боки */
+    long rawBytes() {
+        return rawBytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        deflater.end();
+        inflater.end();
+        socket.close();
+    }
+
+    /**
+     * Пакує оновлення (вершина, відстань) у блок: номери вершин – різницями від попереднього
+     * (вони зростають, тож різниці малі й добре стискаються), далі – відстані.
+     */
+    static int[] encodeUpdates(int[] vertices, int[] values, int count) {
+        int[] block = new int[2 * count];
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            block[i] = vertices[i] - previous;
+            previous = vertices[i];
+            block[count + i] = values[i];
+        }
+        return block;
+    }
+
+    /** Розпаковує блок encodeUpdates на місці: перша половина стає номерами вершин */
+    static int decodeUpdates(int[] block) {
+        int count = block.length / 2;
+        for (int i = 1; i < count; i++) {
+            block[i] += block[i - 1];
+        }
+        return count;
+    }
+
+    private static final class CountingInput extends FilterInputStream {
+        long count;
+
+        CountingInput(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+
+    private static final class CountingOutput extends FilterOutputStream {
+        long count;
+
+        CountingOutput(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
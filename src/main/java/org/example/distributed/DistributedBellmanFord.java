@@ -0,0 +1,391 @@
+package org.example.distributed;
+
+import org.example.algorithm.IShortestPaths;
+import org.example.algorithm.LabelPropagationPartitioner;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.Edge;
+import org.example.model.Graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Розподілений Bellman-Ford: координатор і робітники ({@link DistributedWorker}),
+ * що спілкуються через TCP (поки що loopback на одній машині).
+ * <p>
+ * Координатор розбиває граф на частини ({@link LabelPropagationPartitioner}), розсилає кожному
+ * робітникові його вершини, внутрішні та вхідні розрізані ребра, а далі веде синхронні раунди
+ * за зіркою: збирає від робітників пакети оновлень граничних вершин і пересилає кожне оновлення
+ * лише тим робітникам, у яких ця вершина є початком розрізаного ребра. Пакети стискаються Deflater-ом.
+ * Обчислення сходиться, коли за раунд ніхто не надіслав оновлень. Від’ємний цикл – якщо будь-який
+ * робітник повідомив про локальний цикл або обмін не вщух за n + 1 раунд (після кожного раунду
+ * частини в локальній рівновазі, тож без циклів шлях перетинає межу не більш ніж n - 1 раз).
+ */
+public class DistributedBellmanFord implements IShortestPaths {
+
+    /** Як запускати робітників */
+    public enum Launch {
+        /** Потоки в цьому ж процесі (тести, налагодження) – але обмін однаково йде через сокети */
+        THREADS,
+        /** Окремі JVM-процеси з тим самим classpath */
+        PROCESSES
+    }
+
+    /** Скільки чекати на підключення робітника */
+    private static final int ACCEPT_TIMEOUT_MS = 60_000;
+
+    private final int workers;
+    private final Launch launch;
+    private final Class<? extends IShortestPaths> localEngine;
+
+    private volatile long lastSetupBytes;
+    private volatile List<Long> lastRoundBytes = Collections.emptyList();
+    private volatile List<Long> lastRoundRawBytes = Collections.emptyList();
+
+    public DistributedBellmanFord(int workers) {
+        this(workers, Launch.THREADS, SequentialBellmanFord.class);
+    }
+
+    /**
+     * @param localEngine клас рушія для локальних раундів; потрібен публічний конструктор без аргументів
+     */
+    public DistributedBellmanFord(int workers, Launch launch, Class<? extends IShortestPaths> localEngine) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be positive: " + workers);
+        }
+        this.workers = workers;
+        this.launch = launch;
+        this.localEngine = localEngine;
+    }
+
+    /** Байти (після стиснення, в обидва боки), передані під час розсилки частин */
+    public long getLastSetupBytes() {
+        return lastSetupBytes;
+    }
+
+    /** Байти на дроті (після стиснення, в обидва боки) для кожного раунду останнього запуску */
+    public List<Long> getLastRoundBytes() {
+        return lastRoundBytes;
+    }
+
+    /** Ті самі повідомлення до стиснення – для оцінки виграшу від Deflater */
+    public List<Long> getLastRoundRawBytes() {
+        return lastRoundRawBytes;
+    }
+
+    @Override
+    public int[] findShortestPaths(Graph graph, int source) {
+        int n = graph.getVertexCount();
+        int parts = Math.max(1, Math.min(workers, n));
+        int[] part = new LabelPropagationPartitioner().partition(graph, parts);
+
+        List<Thread> threads = new ArrayList<>();
+        List<Process> processes = new ArrayList<>();
+        Connection[] connections = new Connection[parts];
+        try (ServerSocket server = new ServerSocket(0, parts, InetAddress.getLoopbackAddress())) {
+            server.setSoTimeout(ACCEPT_TIMEOUT_MS);
+            String host = server.getInetAddress().getHostAddress();
+            for (int i = 0; i < parts; i++) {
+                if (launch == Launch.THREADS) {
+                    Thread thread = new Thread(new DistributedWorker(host, server.getLocalPort()), "bf-worker-" + i);
+                    thread.setDaemon(true);
+                    thread.start();
+                    threads.add(thread);
+                } else {
+                    processes.add(startProcess(host, server.getLocalPort()));
+                }
+            }
+            for (int i = 0; i < parts; i++) {
+                connections[i] = new Connection(server.accept());
+            }
+            return coordinate(graph, source, part, connections);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            for (Connection connection : connections) {
+                if (connection != null) {
+                    try {
+                        connection.writeType(Connection.STOP);
+                        connection.flush();
+                        connection.close();
+                    } catch (IOException ignored) {
+                        // робітник уже відключився
+                    }
+                }
+            }
+            awaitWorkers(threads, processes);
+        }
+    }
+
+    private int[] coordinate(Graph graph, int source, int[] part, Connection[] connections) throws IOException {
+        int n = graph.getVertexCount();
+        int parts = connections.length;
+        Partitioning layout = new Partitioning(graph, part, parts);
+
+        for (int i = 0; i < parts; i++) {
+            Connection c = connections[i];
+            c.writeType(Connection.SETUP);
+            c.writeUtf(localEngine.getName());
+            c.writeInts(layout.owned[i], layout.owned[i].length);
+            c.writeInts(layout.localEdges[i], layout.localEdges[i].length);
+            c.writeInts(layout.ghosts[i], layout.ghosts[i].length);
+            c.writeInts(layout.cutEdges[i], layout.cutEdges[i].length);
+            c.writeInts(layout.exported[i], layout.exported[i].length);
+            c.flush();
+        }
+        long setup = 0;
+        for (Connection c : connections) {
+            setup += c.wireBytes();
+        }
+        lastSetupBytes = setup;
+
+        // Оновлення, які треба доставити кожному робітнику в наступному раунді: (вершина << 32) | відстань
+        long[][] pending = new long[parts][];
+        int[] pendingSize = new int[parts];
+        for (int i = 0; i < parts; i++) {
+            pending[i] = new long[16];
+        }
+        pending[part[source]][pendingSize[part[source]]++] = (long) source << 32;
+
+        List<Long> roundBytes = new ArrayList<>();
+        List<Long> roundRawBytes = new ArrayList<>();
+        try {
+            for (int round = 0; round <= n; round++) {
+                long wireBefore = 0;
+                long rawBefore = 0;
+                for (Connection c : connections) {
+                    wireBefore += c.wireBytes();
+                    rawBefore += c.rawBytes();
+                }
+
+                for (int i = 0; i < parts; i++) {
+                    sendUpdates(connections[i], pending[i], pendingSize[i]);
+                    pendingSize[i] = 0;
+                }
+
+                boolean negative = false;
+                int delivered = 0;
+                for (int i = 0; i < parts; i++) {
+                    Connection c = connections[i];
+                    if (c.readType() != Connection.ROUND_RESULT) {
+                        throw new IOException("Unexpected reply from worker " + i);
+                    }
+                    negative |= c.readType() == Connection.STATUS_NEGATIVE_CYCLE;
+                    int[] updates = c.readInts();
+                    int count = Connection.decodeUpdates(updates);
+                    for (int j = 0; j < count; j++) {
+                        int u = updates[j];
+                        long packed = (long) u << 32 | (updates[count + j] & 0xFFFFFFFFL);
+                        for (int s = layout.subscriberStarts[u]; s < layout.subscriberStarts[u + 1]; s++) {
+                            int w = layout.subscribers[s];
+                            if (pendingSize[w] == pending[w].length) {
+                                pending[w] = Arrays.copyOf(pending[w], pending[w].length * 2);
+                            }
+                            pending[w][pendingSize[w]++] = packed;
+                            delivered++;
+                        }
+                    }
+                }
+
+                long wireAfter = 0;
+                long rawAfter = 0;
+                for (Connection c : connections) {
+                    wireAfter += c.wireBytes();
+                    rawAfter += c.rawBytes();
+                }
+                roundBytes.add(wireAfter - wireBefore);
+                roundRawBytes.add(rawAfter - rawBefore);
+
+                if (negative) {
+                    return null;
+                }
+                if (delivered == 0) {
+                    return collect(layout, connections, n);
+                }
+            }
+            // І після n + 1 раундів обмін не вщух – від’ємний цикл через кілька частин
+            return null;
+        } finally {
+            lastRoundBytes = Collections.unmodifiableList(roundBytes);
+            lastRoundRawBytes = Collections.unmodifiableList(roundRawBytes);
+        }
+    }
+
+    /** Надсилає пакет оновлень, упорядкований за вершиною (так різниці номерів менші) */
+    private static void sendUpdates(Connection c, long[] pending, int size) throws IOException {
+        Arrays.sort(pending, 0, size);
+        int[] vertices = new int[size];
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            vertices[i] = (int) (pending[i] >>> 32);
+            values[i] = (int) pending[i];
+        }
+        c.writeType(Connection.ROUND);
+        c.writeInts(Connection.encodeUpdates(vertices, values, size), 2 * size);
+        c.flush();
+    }
+
+    private static int[] collect(Partitioning layout, Connection[] connections, int n) throws IOException {
+        for (Connection c : connections) {
+            c.writeType(Connection.COLLECT);
+            c.flush();
+        }
+        int[] dist = new int[n];
+        for (int i = 0; i < connections.length; i++) {
+            int[] local = connections[i].readInts();
+            int[] owned = layout.owned[i];
+            for (int v = 0; v < owned.length; v++) {
+                dist[owned[v]] = local[v];
+            }
+        }
+        return dist;
+    }
+
+    private static Process startProcess(String host, int port) throws IOException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                DistributedWorker.class.getName(), host, Integer.toString(port))
+                .inheritIO()
+                .start();
+    }
+
+    private static void awaitWorkers(List<Thread> threads, List<Process> processes) {
+        try {
+            for (Thread thread : threads) {
+                thread.join(ACCEPT_TIMEOUT_MS);
+            }
+            for (Process process : processes) {
+                if (!process.waitFor(ACCEPT_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    process.destroyForcibly();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            processes.forEach(Process::destroyForcibly);
+        }
+    }
+
+    /** Розкладка графа по робітниках і таблиця маршрутизації оновлень */
+    private static final class Partitioning {
+        final int[][] owned;
+        final int[][] localEdges;
+        final int[][] ghosts;
+        final int[][] cutEdges;
+        final int[][] exported;
+        // Робітники, яким потрібне оновлення вершини u: subscribers[subscriberStarts[u] .. subscriberStarts[u + 1])
+        final int[] subscriberStarts;
+        final int[] subscribers;
+
+        Partitioning(Graph graph, int[] part, int parts) {
+            int n = graph.getVertexCount();
+            List<Edge> edges = graph.getEdges();
+
+            // Локальний номер вершини – її позиція серед вершин своєї частини (глобальні номери зростають)
+            int[] sizes = new int[parts];
+            int[] local = new int[n];
+            for (int v = 0; v < n; v++) {
+                local[v] = sizes[part[v]]++;
+            }
+            owned = new int[parts][];
+            for (int p = 0; p < parts; p++) {
+                owned[p] = new int[sizes[p]];
+            }
+            for (int v = 0; v < n; v++) {
+                owned[part[v]][local[v]] = v;
+            }
+
+            int[] localCount = new int[parts];
+            int[] cutCount = new int[parts];
+            for (Edge e : edges) {
+                if (part[e.getU()] == part[e.getV()]) {
+                    localCount[part[e.getV()]]++;
+                } else {
+                    cutCount[part[e.getV()]]++;
+                }
+            }
+            localEdges = new int[parts][];
+            int[][] cutSources = new int[parts][];
+            cutEdges = new int[parts][];
+            for (int p = 0; p < parts; p++) {
+                localEdges[p] = new int[3 * localCount[p]];
+                cutSources[p] = new int[cutCount[p]];
+                cutEdges[p] = new int[3 * cutCount[p]];
+            }
+            Arrays.fill(localCount, 0);
+            Arrays.fill(cutCount, 0);
+            boolean[] isExported = new boolean[n];
+            for (Edge e : edges) {
+                int pv = part[e.getV()];
+                if (part[e.getU()] == pv) {
+                    int i = 3 * localCount[pv]++;
+                    localEdges[pv][i] = local[e.getU()];
+                    localEdges[pv][i + 1] = local[e.getV()];
+                    localEdges[pv][i + 2] = e.getWeight();
+                } else {
+                    int i = cutCount[pv]++;
+                    cutSources[pv][i] = e.getU();
+                    cutEdges[pv][3 * i + 1] = local[e.getV()];
+                    cutEdges[pv][3 * i + 2] = e.getWeight();
+                    isExported[e.getU()] = true;
+                }
+            }
+
+            // Примарні вершини – унікальні початки вхідних розрізаних ребер; вони ж задають маршрутизацію
+            ghosts = new int[parts][];
+            int[] subscriberCount = new int[n + 1];
+            for (int p = 0; p < parts; p++) {
+                int[] sorted = cutSources[p].clone();
+                Arrays.sort(sorted);
+                int unique = 0;
+                for (int i = 0; i < sorted.length; i++) {
+                    if (i == 0 || sorted[i] != sorted[i - 1]) {
+                        sorted[unique++] = sorted[i];
+                    }
+                }
+                ghosts[p] = Arrays.copyOf(sorted, unique);
+                for (int u : ghosts[p]) {
+                    subscriberCount[u + 1]++;
+                }
+                for (int i = 0; i < cutSources[p].length; i++) {
+                    cutEdges[p][3 * i] = Arrays.binarySearch(ghosts[p], cutSources[p][i]);
+                }
+            }
+            for (int v = 0; v < n; v++) {
+                subscriberCount[v + 1] += subscriberCount[v];
+            }
+            subscriberStarts = subscriberCount;
+            subscribers = new int[subscriberStarts[n]];
+            int[] cursor = Arrays.copyOf(subscriberStarts, n);
+            for (int p = 0; p < parts; p++) {
+                for (int u : ghosts[p]) {
+                    subscribers[cursor[u]++] = p;
+                }
+            }
+
+            exported = new int[parts][];
+            int[] exportCount = new int[parts];
+            for (int v = 0; v < n; v++) {
+                if (isExported[v]) {
+                    exportCount[part[v]]++;
+                }
+            }
+            for (int p = 0; p < parts; p++) {
+                exported[p] = new int[exportCount[p]];
+            }
+            Arrays.fill(exportCount, 0);
+            for (int v = 0; v < n; v++) {
+                if (isExported[v]) {
+                    exported[part[v]][exportCount[part[v]]++] = local[v];
+                }
+            }
+        }
+    }
+}
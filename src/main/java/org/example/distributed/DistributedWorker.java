@@ -0,0 +1,171 @@
+package org.example.distributed;
+
+import org.example.algorithm.IShortestPaths;
+import org.example.model.Graph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.util.Arrays;
+
+/**
+ * Робітник розподіленого Bellman-Ford: тримає одну частину вершин графа
+ * і виконує локальні раунди релаксації за командами координатора ({@link DistributedBellmanFord}).
+ * <p>
+ * Локальний граф – власні вершини (номери 0..k-1 у порядку зростання глобальних номерів)
+ * з внутрішніми ребрами. Вхідні розрізані ребра ведуть із «примарних» вершин інших частин,
+ * чиї відстані приходять в оновленнях. Локальний розрахунок делегується будь-якому
+ * {@link IShortestPaths}: до локального графа додається віртуальне джерело k з ребрами
+ * k → v вагою dist[v] для кожної вершини зі скінченною відстанню, тож відповідь рушія –
+ * це нова локальна рівновага. Рушій повертає null – у частині досяжний від’ємний цикл.
+ * <p>
+ * Запускається окремим процесом: {@code java -cp ... org.example.distributed.DistributedWorker host port}.
+ */
+public class DistributedWorker implements Runnable {
+
+    private final String host;
+    private final int port;
+
+    private IShortestPaths engine;
+    private int[] owned;        // глобальні номери власних вершин (зростають)
+    private int[] localEdges;   // трійки (u, v, w) у локальних номерах
+    private int[] ghosts;       // глобальні номери примарних вершин (зростають)
+    private int[] cutEdges;     // трійки (номер примарної вершини, локальний v, w)
+    private int[] exported;     // локальні номери вершин із вихідними розрізаними ребрами
+    private int[] dist;
+    private int[] ghostDist;
+    private int[] published;    // останні надіслані координатору відстані граничних вершин
+
+    public DistributedWorker(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: DistributedWorker <host> <port>");
+            System.exit(2);
+        }
+        new DistributedWorker(args[0], Integer.parseInt(args[1])).run();
+    }
+
+    @Override
+    public void run() {
+        try (Connection connection = new Connection(new Socket(host, port))) {
+            while (true) {
+                byte type = connection.readType();
+                if (type == Connection.SETUP) {
+                    setup(connection);
+                } else if (type == Connection.ROUND) {
+                    round(connection);
+                } else if (type == Connection.COLLECT) {
+                    connection.writeInts(dist, dist.length);
+                    connection.flush();
+                } else if (type == Connection.STOP) {
+                    return;
+                } else {
+                    throw new IOException("Unexpected message type " + type);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void setup(Connection connection) throws IOException {
+        String engineClass = connection.readUtf();
+        try {
+            engine = (IShortestPaths) Class.forName(engineClass).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create local engine " + engineClass, e);
+        }
+        owned = connection.readInts();
+        localEdges = connection.readInts();
+        ghosts = connection.readInts();
+        cutEdges = connection.readInts();
+        exported = connection.readInts();
+
+        dist = new int[owned.length];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        ghostDist = new int[ghosts.length];
+        Arrays.fill(ghostDist, Integer.MAX_VALUE);
+        published = new int[owned.length];
+        Arrays.fill(published, Integer.MAX_VALUE);
+    }
+
+    private void round(Connection connection) throws IOException {
+        int[] updates = connection.readInts();
+        int count = Connection.decodeUpdates(updates);
+
+        boolean changed = false;
+        boolean ghostChanged = false;
+        for (int i = 0; i < count; i++) {
+            int vertex = updates[i];
+            int value = updates[count + i];
+            int local = Arrays.binarySearch(owned, vertex);
+            if (local >= 0) {
+                // Початкове значення джерела
+                if (value < dist[local]) {
+                    dist[local] = value;
+                    changed = true;
+                }
+            } else {
+                int ghost = Arrays.binarySearch(ghosts, vertex);
+                if (ghost >= 0 && value < ghostDist[ghost]) {
+                    ghostDist[ghost] = value;
+                    ghostChanged = true;
+                }
+            }
+        }
+        if (ghostChanged) {
+            for (int i = 0; i < cutEdges.length; i += 3) {
+                int du = ghostDist[cutEdges[i]];
+                if (du != Integer.MAX_VALUE && du + cutEdges[i + 2] < dist[cutEdges[i + 1]]) {
+                    dist[cutEdges[i + 1]] = du + cutEdges[i + 2];
+                    changed = true;
+                }
+            }
+        }
+
+        byte status = Connection.STATUS_OK;
+        if (changed && !relaxLocal()) {
+            status = Connection.STATUS_NEGATIVE_CYCLE;
+        }
+
+        // Відправляємо лише граничні вершини, що покращились від попереднього разу
+        int[] vertices = new int[exported.length];
+        int[] values = new int[exported.length];
+        int size = 0;
+        for (int v : exported) {
+            if (dist[v] < published[v]) {
+                published[v] = dist[v];
+                vertices[size] = owned[v];
+                values[size++] = dist[v];
+            }
+        }
+        connection.writeType(Connection.ROUND_RESULT);
+        connection.writeType(status);
+        connection.writeInts(Connection.encodeUpdates(vertices, values, size), 2 * size);
+        connection.flush();
+    }
+
+    /** Локальна рівновага через рушій і віртуальне джерело; false – від’ємний цикл */
+    private boolean relaxLocal() {
+        int k = owned.length;
+        Graph local = new Graph(k + 1);
+        for (int i = 0; i < localEdges.length; i += 3) {
+            local.addEdge(localEdges[i], localEdges[i + 1], localEdges[i + 2]);
+        }
+        for (int v = 0; v < k; v++) {
+            if (dist[v] != Integer.MAX_VALUE) {
+                local.addEdge(k, v, dist[v]);
+            }
+        }
+        int[] result = engine.findShortestPaths(local, k);
+        if (result == null) {
+            return false;
+        }
+        System.arraycopy(result, 0, dist, 0, k);
+        return true;
+    }
+}
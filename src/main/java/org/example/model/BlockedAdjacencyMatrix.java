@@ -0,0 +1,223 @@
+package org.example.model;
+
+import java.util.Arrays;
+
+/**
+ * Матриця суміжності з двовимірним розбиттям на плитки для min-plus множення на вектор.
+ * <p>
+ * Вершини ділено на сегменти по {@link #getSegmentSize()}; плитка (r, c) містить ребра u → v,
+ * у яких v лежить у сегменті r (рядок плиток), а u – у сегменті c (стовпець). Множення однієї
+ * плитки читає лише відрізок вектора x сегмента c і пише лише у відрізок y сегмента r, тож при
+ * сегменті 16K вершин обидва відрізки (по 64 КБ) разом із ребрами плитки вміщуються в L2.
+ * Зберігаються лише непорожні плитки, впорядковані за рядком, у рядку – за стовпцем; ребро
+ * займає 8 байтів: локальні індекси початку й кінця (char, 16 біт) і вага. У межах плитки ребра
+ * йдуть за зростанням початку, тож x читається послідовно.
+ */
+public class BlockedAdjacencyMatrix {
+
+    /** Сегмент за замовчуванням: відрізки x і y по 64 КБ плюс ребра плитки – у межах типового L2 */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 14;
+
+    private final int n;
+    private final int segmentShift;
+    private final int segmentCount;
+    private final int[] rowTileStart;   // segmentCount + 1: плитки рядка r – [rowTileStart[r], rowTileStart[r + 1])
+    private final int[] tileColumns;    // сегмент початків ребер плитки
+    private final int[] tileEdgeStart;  // tileCount + 1
+    private final char[] localSources;
+    private final char[] localTargets;
+    private final int[] weights;
+
+    private BlockedAdjacencyMatrix(int n, int segmentShift, int segmentCount, int[] rowTileStart, int[] tileColumns,
+                                   int[] tileEdgeStart, char[] localSources, char[] localTargets, int[] weights) {
+        this.n = n;
+        this.segmentShift = segmentShift;
+        this.segmentCount = segmentCount;
+        this.rowTileStart = rowTileStart;
+        this.tileColumns = tileColumns;
+        this.tileEdgeStart = tileEdgeStart;
+        this.localSources = localSources;
+        this.localTargets = localTargets;
+        this.weights = weights;
+    }
+
+    /** Плитки з сегментом за замовчуванням */
+    public static BlockedAdjacencyMatrix fromGraph(Graph graph) {
+        return fromGraph(graph, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Розкладає ребра графа по плитках (два стабільні сортування підрахунком: за рядком,
+     * потім за стовпцем у межах рядка; ребра беруться з CSR, тож у плитці вони впорядковані
+     * за початком). Час O(m + s²), де s – кількість сегментів.
+     *
+     * @param segmentSize степінь двійки від 64 до 65536 (локальні індекси – 16 біт)
+     * @throws IllegalArgumentException якщо segmentSize не підходить
+     */
+    public static BlockedAdjacencyMatrix fromGraph(Graph graph, int segmentSize) {
+        if (segmentSize < 64 || segmentSize > 1 << 16 || Integer.bitCount(segmentSize) != 1) {
+            throw new IllegalArgumentException("segmentSize must be a power of two in [64, 65536]: " + segmentSize);
+        }
+        int shift = Integer.numberOfTrailingZeros(segmentSize);
+        int n = graph.getVertexCount();
+        int segments = (int) (((long) n + segmentSize - 1) >>> shift);
+        CsrGraph csr = CsrGraph.fromGraph(graph);
+        int m = csr.getEdgeCount();
+
+        // Перше сортування: ребра за рядком (сегментом кінця), у порядку початку
+        int[] rowStart = new int[segments + 1];
+        for (int e = 0; e < m; e++) {
+            rowStart[(csr.target(e) >>> shift) + 1]++;
+        }
+        for (int r = 0; r < segments; r++) {
+            rowStart[r + 1] += rowStart[r];
+        }
+        int[] cursor = new int[Math.max(segments, 1)];
+        System.arraycopy(rowStart, 0, cursor, 0, segments);
+        int[] byRowSource = new int[m];
+        int[] byRowTarget = new int[m];
+        int[] byRowWeight = new int[m];
+        for (int u = 0; u < n; u++) {
+            for (int e = csr.outOffset(u); e < csr.outOffset(u + 1); e++) {
+                int pos = cursor[csr.target(e) >>> shift]++;
+                byRowSource[pos] = u;
+                byRowTarget[pos] = csr.target(e);
+                byRowWeight[pos] = csr.weight(e);
+            }
+        }
+
+        // Друге сортування в межах кожного рядка: за стовпцем (сегментом початку)
+        char[] localSources = new char[m];
+        char[] localTargets = new char[m];
+        int[] weights = new int[m];
+        int[] rowTileStart = new int[segments + 1];
+        TileList tiles = new TileList(Math.max(16, 2 * segments));
+        int[] columnCount = new int[Math.max(segments, 1)];
+        int mask = segmentSize - 1;
+        for (int r = 0; r < segments; r++) {
+            rowTileStart[r] = tiles.size;
+            int from = rowStart[r];
+            int to = rowStart[r + 1];
+            Arrays.fill(columnCount, 0);
+            for (int i = from; i < to; i++) {
+                columnCount[byRowSource[i] >>> shift]++;
+            }
+            int running = from;
+            for (int c = 0; c < segments; c++) {
+                int count = columnCount[c];
+                if (count > 0) {
+                    tiles.add(c, running);
+                }
+                columnCount[c] = running;
+                running += count;
+            }
+            for (int i = from; i < to; i++) {
+                int pos = columnCount[byRowSource[i] >>> shift]++;
+                localSources[pos] = (char) (byRowSource[i] & mask);
+                localTargets[pos] = (char) (byRowTarget[i] & mask);
+                weights[pos] = byRowWeight[i];
+            }
+        }
+        rowTileStart[segments] = tiles.size;
+        int[] tileEdgeStart = new int[tiles.size + 1];
+        System.arraycopy(tiles.edgeStarts, 0, tileEdgeStart, 0, tiles.size);
+        tileEdgeStart[tiles.size] = m;
+        return new BlockedAdjacencyMatrix(n, shift, segments, rowTileStart,
+                Arrays.copyOf(tiles.columns, tiles.size), tileEdgeStart, localSources, localTargets, weights);
+    }
+
+    /** Повертає кількість вершин */
+    public int getVertexCount() {
+        return n;
+    }
+
+    /** Повертає кількість ребер */
+    public int getEdgeCount() {
+        return weights.length;
+    }
+
+    /** Кількість вершин у сегменті */
+    public int getSegmentSize() {
+        return 1 << segmentShift;
+    }
+
+    /** Кількість сегментів (рядків і стовпців плиток) */
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    /** Кількість непорожніх плиток */
+    public int getTileCount() {
+        return tileColumns.length;
+    }
+
+    /** Перша плитка рядка r; для r = getSegmentCount() – загальна кількість плиток */
+    public int rowTileStart(int r) {
+        return rowTileStart[r];
+    }
+
+    /** Стовпець (сегмент початків ребер) плитки tile */
+    public int tileColumn(int tile) {
+        return tileColumns[tile];
+    }
+
+    /** Кількість ребер у плитці tile */
+    public int tileEdgeCount(int tile) {
+        return tileEdgeStart[tile + 1] - tileEdgeStart[tile];
+    }
+
+    /** Обсяг даних у пам’яті, байт (без заголовків об’єктів) */
+    public long getMemoryBytes() {
+        return 4L * rowTileStart.length + 4L * tileColumns.length + 4L * tileEdgeStart.length + 8L * weights.length;
+    }
+
+    /**
+     * Min-plus множення однієї плитки з рядка row: y[v] = min(y[v], x[u] + w(u, v))
+     * для всіх ребер плитки; недосяжні (Integer.MAX_VALUE) початки пропускаються.
+     *
+     * @return кількість покращень y
+     */
+    public int multiplyTile(int row, int tile, int[] x, int[] y) {
+        int sourceBase = tileColumns[tile] << segmentShift;
+        int targetBase = row << segmentShift;
+        char[] sources = localSources;
+        char[] targets = localTargets;
+        int[] w = weights;
+        int changed = 0;
+        for (int e = tileEdgeStart[tile], end = tileEdgeStart[tile + 1]; e < end; e++) {
+            int du = x[sourceBase + sources[e]];
+            if (du == Integer.MAX_VALUE) {
+                continue;
+            }
+            int newDist = du + w[e];
+            int v = targetBase + targets[e];
+            if (newDist < y[v]) {
+                y[v] = newDist;
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /** Список плиток під час побудови: стовпець і перше ребро, масиви ростуть удвічі */
+    private static final class TileList {
+        int[] columns;
+        int[] edgeStarts;
+        int size;
+
+        TileList(int capacity) {
+            columns = new int[capacity];
+            edgeStarts = new int[capacity];
+        }
+
+        void add(int column, int edgeStart) {
+            if (size == columns.length) {
+                columns = Arrays.copyOf(columns, size * 2);
+                edgeStarts = Arrays.copyOf(edgeStarts, size * 2);
+            }
+            columns[size] = column;
+            edgeStarts[size] = edgeStart;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package org.example.model;
+
+import java.util.Arrays;
+
+/**
+ * Стиснене подання списків суміжності (CSR з дельта-кодуванням) для графів, що не вміщуються
+ * в пам’ять як int-трійки.
+ * <p>
+ * Вершини згруповано в блоки по {@link #BLOCK_SIZE}. Для кожної вершини в потоці байтів записано
+ * степінь, першого сусіда як зсув відносно самої вершини (zigzag) і далі прирости між сусідами
+ * (сусіди відсортовані, тож прирости невід’ємні й малі) – усе як varint по 7 біт на байт.
+ * Ваги блоку упаковано бітово: мінімальна вага блоку плюс (w - min) фіксованої для блоку ширини.
+ * Зміщення блоків (байтове для сусідів, бітове для ваг) дають довільний доступ до будь-якого
+ * блоку й природне ділення роботи між потоками; читати блок треба послідовно
+ * через {@link Decoder}.
+ * <p>
+ * Як і {@link CsrGraph}, подання адресується int-ами: потік байтів сусідів – до 2 ГБ.
+ */
+public class CompressedCsrGraph {
+
+    /** Кількість вершин у блоці (степінь двійки) */
+    public static final int BLOCK_SIZE = 64;
+    private static final int BLOCK_SHIFT = 6;
+
+    private final int n;
+    private final int m;
+    private final int maxDegree;
+    private final byte[] neighbors;
+    private final int[] blockByteOffsets;    // blockCount + 1
+    private final long[] weightBits;
+    private final long[] blockWeightOffsets; // бітове зміщення ваг блоку
+    private final int[] blockMinWeights;
+    private final byte[] blockWeightWidths;
+
+    private CompressedCsrGraph(int n, int m, int maxDegree, byte[] neighbors, int[] blockByteOffsets, long[] weightBits,
+                               long[] blockWeightOffsets, int[] blockMinWeights, byte[] blockWeightWidths) {
+        this.n = n;
+        this.m = m;
+        this.maxDegree = maxDegree;
+        this.neighbors = neighbors;
+        this.blockByteOffsets = blockByteOffsets;
+        this.weightBits = weightBits;
+        this.blockWeightOffsets = blockWeightOffsets;
+        this.blockMinWeights = blockMinWeights;
+        this.blockWeightWidths = blockWeightWidths;
+    }
+
+    /** Стиснені вихідні списки: сусіди вершини u – кінці ребер u → v (паралельні ребра згорнуто до мінімуму) */
+    public static CompressedCsrGraph fromGraph(Graph graph) {
+        return fromSortedCsr(sortedCsr(graph, false));
+    }
+
+    /** Стиснені вхідні списки: сусіди вершини v – початки ребер u → v (для релаксації «тягненням») */
+    public static CompressedCsrGraph incomingFromGraph(Graph graph) {
+        return fromSortedCsr(sortedCsr(graph, true));
+    }
+
+    private static CsrGraph sortedCsr(Graph graph, boolean incoming) {
+        GraphBuilder builder = new GraphBuilder(graph.getVertexCount(), graph.getEdges().size());
+        for (Edge e : graph.getEdges()) {
+            if (incoming) {
+                builder.addEdge(e.getV(), e.getU(), e.getWeight());
+            } else {
+                builder.addEdge(e.getU(), e.getV(), e.getWeight());
+            }
+        }
+        return builder.buildCsr();
+    }
+
+    /**
+     * Стискає CSR, у якому сусіди кожної вершини впорядковані за зростанням
+     * (саме такий дає {@link GraphBuilder#buildCsr()}).
+     *
+     * @throws IllegalArgumentException якщо сусіди якоїсь вершини не впорядковані
+     *                                  або потік байтів перевищує 2 ГБ
+     */
+    public static CompressedCsrGraph fromSortedCsr(CsrGraph csr) {
+        int n = csr.getVertexCount();
+        int m = csr.getEdgeCount();
+        int blockCount = (n + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        int[] blockByteOffsets = new int[blockCount + 1];
+        long[] blockWeightOffsets = new long[blockCount + 1];
+        int[] blockMinWeights = new int[blockCount];
+        byte[] blockWeightWidths = new byte[blockCount];
+
+        ByteSink sink = new ByteSink(Math.max(16, m + 2 * n));
+        long weightBitCount = 0;
+        int maxDegree = 0;
+        for (int b = 0; b < blockCount; b++) {
+            int first = b << BLOCK_SHIFT;
+            int last = Math.min(n, first + BLOCK_SIZE);
+            blockByteOffsets[b] = sink.size;
+
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int e = csr.outOffset(first); e < csr.outOffset(last); e++) {
+                min = Math.min(min, csr.weight(e));
+                max = Math.max(max, csr.weight(e));
+            }
+            int width = min > max ? 0 : 64 - Long.numberOfLeadingZeros((long) max - min);
+            blockMinWeights[b] = min > max ? 0 : min;
+            blockWeightWidths[b] = (byte) width;
+            blockWeightOffsets[b] = weightBitCount;
+            weightBitCount += (long) width * (csr.outOffset(last) - csr.outOffset(first));
+
+            for (int v = first; v < last; v++) {
+                int start = csr.outOffset(v);
+                int end = csr.outOffset(v + 1);
+                maxDegree = Math.max(maxDegree, end - start);
+                sink.writeVarint(end - start);
+                int previous = v;
+                for (int e = start; e < end; e++) {
+                    int target = csr.target(e);
+                    if (e == start) {
+                        // Перший сусід відносно самої вершини: у графів із локальністю це мале число
+                        long delta = (long) target - v;
+                        sink.writeVarint((delta << 1) ^ (delta >> 63));
+                    } else {
+                        if (target < previous) {
+                            throw new IllegalArgumentException("Neighbors of vertex " + v + " are not sorted");
+                        }
+                        sink.writeVarint(target - previous);
+                    }
+                    previous = target;
+                }
+            }
+        }
+        blockByteOffsets[blockCount] = sink.size;
+        blockWeightOffsets[blockCount] = weightBitCount;
+
+        // Другий прохід: бітова упаковка ваг
+        long[] weightBits = new long[(int) ((weightBitCount + 63) >>> 6) + 1];
+        for (int b = 0; b < blockCount; b++) {
+            int width = blockWeightWidths[b];
+            if (width == 0) {
+                continue;
+            }
+            int first = b << BLOCK_SHIFT;
+            int last = Math.min(n, first + BLOCK_SIZE);
+            long bit = blockWeightOffsets[b];
+            for (int e = csr.outOffset(first); e < csr.outOffset(last); e++) {
+                long value = (long) csr.weight(e) - blockMinWeights[b];
+                int word = (int) (bit >>> 6);
+                int offset = (int) (bit & 63);
+                weightBits[word] |= value << offset;
+                if (offset + width > 64) {
+                    weightBits[word + 1] |= value >>> (64 - offset);
+                }
+                bit += width;
+            }
+        }
+        return new CompressedCsrGraph(n, m, maxDegree, Arrays.copyOf(sink.bytes, sink.size), blockByteOffsets, weightBits,
+                blockWeightOffsets, blockMinWeights, blockWeightWidths);
+    }
+
+    /** Повертає кількість вершин */
+    public int getVertexCount() {
+        return n;
+    }
+
+    /** Повертає кількість ребер (після згортання паралельних) */
+    public int getEdgeCount() {
+        return m;
+    }
+
+    /** Найбільший степінь вершини – достатній розмір буферів для {@link Decoder#nextVertex} */
+    public int getMaxDegree() {
+        return maxDegree;
+    }
+
+    /** Кількість блоків вершин */
+    public int getBlockCount() {
+        return blockByteOffsets.length - 1;
+    }
+
+    /** Обсяг даних у пам’яті, байт (без заголовків об’єктів) */
+    public long getMemoryBytes() {
+        return neighbors.length + 4L * blockByteOffsets.length + 8L * weightBits.length
+                + 8L * blockWeightOffsets.length + 4L * blockMinWeights.length + blockWeightWidths.length;
+    }
+
+    /** Послідовний декодер; один на потік, перевикористовується між блоками */
+    public Decoder decoder() {
+        return new Decoder();
+    }
+
+    /**
+     * Читає блок вершина за вершиною: {@link #seekBlock(int)}, далі для кожної вершини блоку
+     * {@link #nextVertex(int[], int[])} розпаковує весь її список у буфери викликача
+     * або {@link #skipVertex()} переходить до наступної, не розпаковуючи.
+     */
+    public final class Decoder {
+        private int pos;
+        private long bit;
+        private int minWeight;
+        private int width;
+        private int vertex;
+
+        private Decoder() {
+        }
+
+        /** Переходить на початок блоку b; наступна вершина – b * BLOCK_SIZE */
+        public void seekBlock(int b) {
+            pos = blockByteOffsets[b];
+            bit = blockWeightOffsets[b];
+            minWeight = blockMinWeights[b];
+            width = blockWeightWidths[b];
+            vertex = (b << BLOCK_SHIFT) - 1;
+        }
+
+        /** Пропускає наступну вершину блоку: лише рахує кінці varint-ів, ваги – одним зсувом */
+        public void skipVertex() {
+            byte[] data = neighbors;
+            int p = pos;
+            vertex++;
+            int degree = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[p++];
+                degree |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            for (int left = degree; left > 0; ) {
+                if (data[p++] >= 0) {
+                    left--;
+                }
+            }
+            pos = p;
+            bit += (long) width * degree;
+        }
+
+        /**
+         * Розпаковує сусідів і ваги наступної вершини блоку.
+         * Буфери мають вміщати {@link #getMaxDegree()} елементів.
+         *
+         * @return степінь вершини
+         */
+        public int nextVertex(int[] targets, int[] weights) {
+            byte[] data = neighbors;
+            int p = pos;
+            int v = ++vertex;
+
+            int degree = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[p++];
+                degree |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            int previous = v;
+            for (int i = 0; i < degree; i++) {
+                long raw = 0;
+                for (int shift = 0; ; shift += 7) {
+                    byte b = data[p++];
+                    raw |= (long) (b & 0x7F) << shift;
+                    if (b >= 0) {
+                        break;
+                    }
+                }
+                // Перший сусід – zigzag-зсув від вершини, решта – невід’ємні прирости
+                previous = i == 0 ? (int) (v + ((raw >>> 1) ^ -(raw & 1))) : previous + (int) raw;
+                targets[i] = previous;
+            }
+            pos = p;
+
+            int w = width;
+            if (w == 0) {
+                Arrays.fill(weights, 0, degree, minWeight);
+                return degree;
+            }
+            long[] packed = weightBits;
+            long mask = (1L << w) - 1;
+            long at = bit;
+            for (int i = 0; i < degree; i++) {
+                int word = (int) (at >>> 6);
+                int offset = (int) (at & 63);
+                long value = packed[word] >>> offset;
+                if (offset + w > 64) {
+                    value |= packed[word + 1] << (64 - offset);
+                }
+                weights[i] = (int) (minWeight + (value & mask));
+                at += w;
+            }
+            bit = at;
+            return degree;
+        }
+    }
+
+    /** Буфер байтів, що росте вдвічі */
+    private static final class ByteSink {
+        byte[] bytes;
+        int size;
+
+        ByteSink(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void writeVarint(long value) {
+            if (size + 10 > bytes.length) {
+                long grown = Math.max((long) bytes.length * 2, size + 10L);
+                if (grown > Integer.MAX_VALUE - 8) {
+                    throw new IllegalArgumentException("Compressed adjacency exceeds 2 GB");
+                }
+                bytes = Arrays.copyOf(bytes, (int) grown);
+            }
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+    }
+}
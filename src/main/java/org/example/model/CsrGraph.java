@@ -0,0 +1,130 @@
+package org.example.model;
+
+import java.util.List;
+
+/**
+ * Компактне подання графа у форматі CSR (compressed sparse row).
+ * Вихідні ребра вершини u займають діапазон [outOffset(u), outOffset(u + 1))
+ * у масивах цілей і ваг, тому обхід сусідів іде послідовно по пам’яті.
+ * За потреби зберігається і обернений CSR (вхідні ребра вершини v
+ * у діапазоні [inOffset(v), inOffset(v + 1))).
+ */
+public class CsrGraph {
+    private final int n;               // кількість вершин
+    private final int[] outOffsets;    // n + 1 зміщень початку списку сусідів
+    private final int[] outTargets;    // кінці ребер
+    private final int[] outWeights;    // ваги ребер
+    private final int[] inOffsets;     // обернений CSR (null, якщо не побудовано)
+    private final int[] inSources;
+    private final int[] inWeights;
+
+    CsrGraph(int n, int[] outOffsets, int[] outTargets, int[] outWeights,
+             int[] inOffsets, int[] inSources, int[] inWeights) {
+        this.n = n;
+        this.outOffsets = outOffsets;
+        this.outTargets = outTargets;
+        this.outWeights = outWeights;
+        this.inOffsets = inOffsets;
+        this.inSources = inSources;
+        this.inWeights = inWeights;
+    }
+
+    /** Будує CSR із звичайного графа (сортування підрахунком за початком ребра, O(n + m)) */
+    public static CsrGraph fromGraph(Graph graph) {
+        return fromGraph(graph, false);
+    }
+
+    /** Будує прямий і обернений CSR одночасно */
+    public static CsrGraph fromGraphWithReverse(Graph graph) {
+        return fromGraph(graph, true);
+    }
+
+    private static CsrGraph fromGraph(Graph graph, boolean withReverse) {
+        int n = graph.getVertexCount();
+        List<Edge> edges = graph.getEdges();
+        int m = edges.size();
+
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[m];
+        int[] weights = new int[m];
+        bucket(edges, n, true, offsets, targets, weights);
+
+        if (!withReverse) {
+            return new CsrGraph(n, offsets, targets, weights, null, null, null);
+        }
+        int[] inOffsets = new int[n + 1];
+        int[] sources = new int[m];
+        int[] inWeights = new int[m];
+        bucket(edges, n, false, inOffsets, sources, inWeights);
+        return new CsrGraph(n, offsets, targets, weights, inOffsets, sources, inWeights);
+    }
+
+    /** Сортування ребер підрахунком за початком (byTail) або за кінцем */
+    private static void bucket(List<Edge> edges, int n, boolean byTail,
+                               int[] offsets, int[] ends, int[] weights) {
+        for (Edge e : edges) {
+            offsets[(byTail ? e.getU() : e.getV()) + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] cursor = new int[n];
+        System.arraycopy(offsets, 0, cursor, 0, n);
+        for (Edge e : edges) {
+            int pos = cursor[byTail ? e.getU() : e.getV()]++;
+            ends[pos] = byTail ? e.getV() : e.getU();
+            weights[pos] = e.getWeight();
+        }
+    }
+
+    /** Повертає кількість вершин */
+    public int getVertexCount() {
+        return n;
+    }
+
+    /** Повертає кількість ребер */
+    public int getEdgeCount() {
+        return outTargets.length;
+    }
+
+    /** Індекс першого вихідного ребра вершини u; для u = n – загальна кількість ребер */
+    public int outOffset(int u) {
+        return outOffsets[u];
+    }
+
+    /** Кінець ребра з індексом e */
+    public int target(int e) {
+        return outTargets[e];
+    }
+
+    /** Вага ребра з індексом e */
+    public int weight(int e) {
+        return outWeights[e];
+    }
+
+    /** Чи побудовано обернений CSR */
+    public boolean hasReverse() {
+        return inOffsets != null;
+    }
+
+    /** Індекс першого вхідного ребра вершини v; для v = n – загальна кількість ребер */
+    public int inOffset(int v) {
+        return inOffsets[v];
+    }
+
+    /** Початок вхідного ребра з індексом e */
+    public int source(int e) {
+        return inSources[e];
+    }
+
+    /** Вага вхідного ребра з індексом e */
+    public int inWeight(int e) {
+        return inWeights[e];
+    }
+
+    /** Кількість вихідних ребер вершини u */
+    public int outDegree(int u) {
+        return outOffsets[u + 1] - outOffsets[u];
+    }
+}
@@ -0,0 +1,203 @@
+package org.example.model;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Текстовий формат списку ребер: спершу «n m» (кількість вершин і ребер), далі трійки «u v w».
+ * Числа розділяються будь-якими пробільними символами; від «#» до кінця рядка – коментар.
+ */
+public final class EdgeListFormat {
+
+    /** Більше ребер наперед не виділяємо: заголовок ще не перевірено тілом файлу, список далі росте сам */
+    private static final int MAX_PREALLOCATED_EDGES = 1 << 20;
+
+    private EdgeListFormat() {
+    }
+
+    /** Записує граф у текстовому форматі (потік не закривається) */
+    public static void write(Graph graph, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.US_ASCII), 1 << 16);
+        List<Edge> edges = graph.getEdges();
+        writer.write(graph.getVertexCount() + " " + edges.size() + "\n");
+        for (Edge e : edges) {
+            writer.write(e.getU() + " " + e.getV() + " " + e.getWeight() + "\n");
+        }
+        writer.flush();
+    }
+
+    /**
+     * Читає граф повністю (пакетне завантаження).
+     *
+     * @throws IOException якщо файл некоректний або кількість ребер не збігається із заголовком
+     */
+    public static Graph read(InputStream in) throws IOException {
+        Reader reader = new Reader(in);
+        int blockSize = 1 << 16;
+        int[] u = new int[blockSize];
+        int[] v = new int[blockSize];
+        int[] w = new int[blockSize];
+        Graph graph = new Graph(reader.getVertexCount(),
+                Math.min(reader.getDeclaredEdgeCount(), MAX_PREALLOCATED_EDGES));
+        int count;
+        while ((count = reader.readBlock(u, v, w)) > 0) {
+            for (int i = 0; i < count; i++) {
+                graph.addEdge(u[i], v[i], w[i]);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Потоковий розбір без проміжних рядків: заголовок читається в конструкторі,
+     * ребра – блоками у масиви викликача.
+     */
+    public static final class Reader {
+        private final InputStream in;
+        private final byte[] buffer = new byte[1 << 16];
+        private int pos;
+        private int limit;
+        private long bytesRead;
+        private final int n;
+        private final int declaredEdges;
+        private long edgesRead;
+
+        public Reader(InputStream in) throws IOException {
+            this.in = in;
+            long vertices = nextNumber(true);
+            long edges = nextNumber(true);
+            if (vertices < 0 || vertices > Integer.MAX_VALUE || edges < 0 || edges > Integer.MAX_VALUE) {
+                throw new IOException("Malformed edge list header: n=" + vertices + ", m=" + edges);
+            }
+            this.n = (int) vertices;
+            this.declaredEdges = (int) edges;
+        }
+
+        /** Кількість вершин із заголовка */
+        public int getVertexCount() {
+            return n;
+        }
+
+        /** Кількість ребер із заголовка */
+        public int getDeclaredEdgeCount() {
+            return declaredEdges;
+        }
+
+        /** Скільки байтів прочитано з потоку */
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        /** Скільки ребер уже розібрано */
+        public long getEdgesRead() {
+            return edgesRead;
+        }
+
+        /**
+         * Розбирає до u.length наступних ребер.
+         *
+         * @return кількість прочитаних ребер; 0 – кінець файлу
+         * @throws IOException якщо трійка неповна, число некоректне, вершина поза [0, n)
+         *                     або ребер більше чи менше, ніж у заголовку
+         */
+        public int readBlock(int[] u, int[] v, int[] w) throws IOException {
+            int count = 0;
+            while (count < u.length) {
+                long from = nextNumber(false);
+                if (from == Long.MIN_VALUE) {
+                    if (edgesRead + count < declaredEdges) {
+                        throw new IOException("Edge list ends after " + (edgesRead + count)
+                                + " edges, header declares " + declaredEdges);
+                    }
+                    break;
+                }
+                if (edgesRead + count == declaredEdges) {
+                    throw new IOException("Edge list has more edges than the " + declaredEdges + " declared in the header");
+                }
+                long to = nextNumber(true);
+                long weight = nextNumber(true);
+                if (from < 0 || from >= n || to < 0 || to >= n) {
+                    throw new IOException("Edge " + (edgesRead + count) + " has a vertex outside [0, " + n + ")");
+                }
+                if (weight < Integer.MIN_VALUE || weight > Integer.MAX_VALUE) {
+                    throw new IOException("Edge " + (edgesRead + count) + " has a weight outside int range");
+                }
+                u[count] = (int) from;
+                v[count] = (int) to;
+                w[count] = (int) weight;
+                count++;
+            }
+            edgesRead += count;
+            return count;
+        }
+
+        /** Наступне ціле число; Long.MIN_VALUE – кінець потоку (якщо він дозволений) */
+        private long nextNumber(boolean required) throws IOException {
+            int c = skipSpaceAndComments();
+            if (c < 0) {
+                if (required) {
+                    throw new IOException("Unexpected end of edge list after " + edgesRead + " edges");
+                }
+                return Long.MIN_VALUE;
+            }
+            boolean negative = c == '-';
+            if (negative) {
+                c = read();
+            }
+            if (c < '0' || c > '9') {
+                throw new IOException("Malformed number at byte " + (bytesRead - 1));
+            }
+            long value = 0;
+            int digits = 0;
+            while (c >= '0' && c <= '9') {
+                if (++digits > 18) {
+                    throw new IOException("Number too long at byte " + bytesRead);
+                }
+                value = value * 10 + (c - '0');
+                c = read();
+            }
+            if (c >= 0 && c > ' ' && c != '#') {
+                throw new IOException("Malformed number at byte " + (bytesRead - 1));
+            }
+            if (c == '#') {
+                pos--; // коментар обробить наступний виклик
+                bytesRead--;
+            }
+            return negative ? -value : value;
+        }
+
+        private int skipSpaceAndComments() throws IOException {
+            int c = read();
+            while (true) {
+                if (c == '#') {
+                    while (c >= 0 && c != '\n') {
+                        c = read();
+                    }
+                } else if (c >= 0 && c <= ' ') {
+                    c = read();
+                } else {
+                    return c;
+                }
+            }
+        }
+
+        private int read() throws IOException {
+            if (pos == limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                pos = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            bytesRead++;
+            return buffer[pos++] & 0xFF;
+        }
+    }
+}
@@ -16,6 +16,12 @@ public class Graph {
         this.edges = new ArrayList<>();
     }
 
+    /** Граф із заздалегідь виділеним місцем під expectedEdges ребер (без перевиділень списку) */
+    public Graph(int n, int expectedEdges) {
+        this.n = n;
+        this.edges = new ArrayList<>(expectedEdges);
+    }
+
     /** Повертає кількість вершин */
     public int getVertexCount() {
         return n;
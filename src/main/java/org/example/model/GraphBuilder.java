@@ -0,0 +1,300 @@
+package org.example.model;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Масова побудова графа без об’єкта {@link Edge} на кожне ребро.
+ * <p>
+ * Ребра накопичуються у трьох примітивних масивах, що ростуть удвічі. {@link #build()} і
+ * {@link #buildCsr()} сортують їх LSD-сортуванням за розрядами (16 біт на прохід: спершу кінець v,
+ * потім початок u, тож результат упорядкований за (u, v)); на великих масивах кожен прохід
+ * (гістограма й розкладання) виконується паралельно по відрізках. Після сортування паралельні
+ * ребра u → v стоять поруч і згортаються в одне з мінімальною вагою – найкоротші шляхи від
+ * цього не змінюються, а m зменшується. Відсортовані ребра одразу дають зміщення CSR.
+ * Після побудови накопичені ребра лишаються відсортованими й без дублікатів, тож можна
+ * додати нові й побудувати граф знову.
+ */
+public class GraphBuilder {
+
+    /** Менші масиви сортуються в одному потоці: запуск потоків дорожчий за саму роботу */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int RADIX_BITS = 16;
+
+    private final int n;
+    private final int threads;
+    private int[] us;
+    private int[] vs;
+    private int[] ws;
+    private int size;
+    private boolean normalized = true;
+
+    public GraphBuilder(int n) {
+        this(n, 16);
+    }
+
+    /** Будівник із місцем під expectedEdges ребер; сортує всіма доступними процесорами */
+    public GraphBuilder(int n, int expectedEdges) {
+        this(n, expectedEdges, Runtime.getRuntime().availableProcessors());
+    }
+
+    public GraphBuilder(int n, int expectedEdges, int threads) {
+        if (n < 0 || expectedEdges < 0 || threads < 1) {
+            throw new IllegalArgumentException("n and expectedEdges must be >= 0, threads >= 1");
+        }
+        this.n = n;
+        this.threads = threads;
+        int capacity = Math.max(expectedEdges, 1);
+        us = new int[capacity];
+        vs = new int[capacity];
+        ws = new int[capacity];
+    }
+
+    /** Кількість вершин */
+    public int getVertexCount() {
+        return n;
+    }
+
+    /** Кількість накопичених ребер (до згортання дублікатів, якщо build ще не викликали) */
+    public int getEdgeCount() {
+        return size;
+    }
+
+    /** Додає ребро u -> v з вагою weight */
+    public GraphBuilder addEdge(int u, int v, int weight) {
+        checkVertex(u);
+        checkVertex(v);
+        ensureCapacity(size + 1);
+        us[size] = u;
+        vs[size] = v;
+        ws[size] = weight;
+        size++;
+        normalized = false;
+        return this;
+    }
+
+    /** Додає ребра u[i] -> v[i] з вагами w[i] одним копіюванням масивів */
+    public GraphBuilder addEdges(int[] u, int[] v, int[] w) {
+        if (u.length != v.length || u.length != w.length) {
+            throw new IllegalArgumentException("Edge arrays must have equal length");
+        }
+        for (int i = 0; i < u.length; i++) {
+            checkVertex(u[i]);
+            checkVertex(v[i]);
+        }
+        ensureCapacity(size + u.length);
+        System.arraycopy(u, 0, us, size, u.length);
+        System.arraycopy(v, 0, vs, size, v.length);
+        System.arraycopy(w, 0, ws, size, w.length);
+        size += u.length;
+        if (u.length > 0) {
+            normalized = false;
+        }
+        return this;
+    }
+
+    /** Додає ребра з потоку (наприклад, під час розбору файлу) */
+    public GraphBuilder addEdges(Stream<Edge> edges) {
+        edges.forEachOrdered(e -> addEdge(e.getU(), e.getV(), e.getWeight()));
+        return this;
+    }
+
+    /** Граф без паралельних ребер, ребра впорядковані за (u, v); список ребер виділяється точно під m */
+    public Graph build() {
+        normalize();
+        Graph graph = new Graph(n, size);
+        for (int i = 0; i < size; i++) {
+            graph.addEdge(us[i], vs[i], ws[i]);
+        }
+        return graph;
+    }
+
+    /** Компактне подання CSR напряму, без проміжного списку {@link Edge} */
+    public CsrGraph buildCsr() {
+        return buildCsr(false);
+    }
+
+    /** CSR разом з оберненим CSR (сортування підрахунком відсортованих ребер за кінцем) */
+    public CsrGraph buildCsrWithReverse() {
+        return buildCsr(true);
+    }
+
+    private CsrGraph buildCsr(boolean withReverse) {
+        normalize();
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < size; i++) {
+            offsets[us[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] targets = Arrays.copyOf(vs, size);
+        int[] weights = Arrays.copyOf(ws, size);
+        if (!withReverse) {
+            return new CsrGraph(n, offsets, targets, weights, null, null, null);
+        }
+
+        int[] inOffsets = new int[n + 1];
+        for (int i = 0; i < size; i++) {
+            inOffsets[vs[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            inOffsets[v + 1] += inOffsets[v];
+        }
+        int[] cursor = Arrays.copyOf(inOffsets, n);
+        int[] sources = new int[size];
+        int[] inWeights = new int[size];
+        for (int i = 0; i < size; i++) {
+            int pos = cursor[vs[i]]++;
+            sources[pos] = us[i];
+            inWeights[pos] = ws[i];
+        }
+        return new CsrGraph(n, offsets, targets, weights, inOffsets, sources, inWeights);
+    }
+
+    /** Сортує накопичені ребра за (u, v) і згортає паралельні ребра до мінімальної ваги */
+    private void normalize() {
+        if (normalized) {
+            return;
+        }
+        sortByEndpoints();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (kept > 0 && us[kept - 1] == us[i] && vs[kept - 1] == vs[i]) {
+                if (ws[i] < ws[kept - 1]) {
+                    ws[kept - 1] = ws[i];
+                }
+            } else {
+                us[kept] = us[i];
+                vs[kept] = vs[i];
+                ws[kept] = ws[i];
+                kept++;
+            }
+        }
+        size = kept;
+        normalized = true;
+    }
+
+    /** Стабільне LSD-сортування: розряди v (молодші), потім розряди u */
+    private void sortByEndpoints() {
+        int keyBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(n - 1, 1)));
+        int workers = size >= PARALLEL_THRESHOLD ? threads : 1;
+        int[] tu = new int[size];
+        int[] tv = new int[size];
+        int[] tw = new int[size];
+        int[] su = us;
+        int[] sv = vs;
+        int[] sw = ws;
+        for (int key = 0; key < 2; key++) {
+            boolean byTail = key == 1;
+            for (int shift = 0; shift < keyBits; shift += RADIX_BITS) {
+                int bits = Math.min(RADIX_BITS, keyBits - shift);
+                radixPass(su, sv, sw, tu, tv, tw, byTail, shift, bits, workers);
+                int[] swap = su;
+                su = tu;
+                tu = swap;
+                swap = sv;
+                sv = tv;
+                tv = swap;
+                swap = sw;
+                sw = tw;
+                tw = swap;
+            }
+        }
+        // Після парної кількості проходів дані вже в us/vs/ws, інакше – у тимчасових масивах
+        us = su;
+        vs = sv;
+        ws = sw;
+    }
+
+    /**
+     * Один стабільний прохід розкладання за розрядом ((u або v) >>> shift) & mask.
+     * Кожен потік рахує гістограму свого відрізка; зміщення впорядковані спершу за розрядом,
+     * потім за номером відрізка, тож відносний порядок рівних ключів зберігається.
+     */
+    private void radixPass(int[] su, int[] sv, int[] sw, int[] du, int[] dv, int[] dw,
+                           boolean byTail, int shift, int bits, int workers) {
+        int radix = 1 << bits;
+        int mask = radix - 1;
+        int chunk = (size + workers - 1) / workers;
+        int[][] counts = new int[workers][radix];
+        int[] keys = byTail ? su : sv;
+
+        runParallel(workers, t -> {
+            int[] count = counts[t];
+            int end = Math.min(size, (t + 1) * chunk);
+            for (int i = t * chunk; i < end; i++) {
+                count[(keys[i] >>> shift) & mask]++;
+            }
+        });
+        int running = 0;
+        for (int d = 0; d < radix; d++) {
+            for (int t = 0; t < workers; t++) {
+                int c = counts[t][d];
+                counts[t][d] = running;
+                running += c;
+            }
+        }
+        runParallel(workers, t -> {
+            int[] cursor = counts[t];
+            int end = Math.min(size, (t + 1) * chunk);
+            for (int i = t * chunk; i < end; i++) {
+                int pos = cursor[(keys[i] >>> shift) & mask]++;
+                du[pos] = su[i];
+                dv[pos] = sv[i];
+                dw[pos] = sw[i];
+            }
+        });
+    }
+
+    private static void runParallel(int workers, IntConsumer body) {
+        if (workers == 1) {
+            body.accept(0);
+            return;
+        }
+        Thread[] pool = new Thread[workers];
+        for (int t = 0; t < workers; t++) {
+            final int id = t;
+            pool[t] = new Thread(() -> body.accept(id));
+            pool[t].start();
+        }
+        InterruptedException interrupted = null;
+        for (Thread worker : pool) {
+            // Відрізки короткі, тож дочікуємося всіх потоків навіть після переривання
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    interrupted = e;
+                }
+            }
+        }
+        if (interrupted != null) {
+            Thread.currentThread().interrupt();
+            CancellationException cancelled = new CancellationException("Interrupted while sorting edges");
+            cancelled.initCause(interrupted);
+            throw cancelled;
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required < 0) {
+            throw new IllegalStateException("Too many edges");
+        }
+        if (required <= us.length) {
+            return;
+        }
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max((long) us.length * 2, required));
+        us = Arrays.copyOf(us, capacity);
+        vs = Arrays.copyOf(vs, capacity);
+        ws = Arrays.copyOf(ws, capacity);
+    }
+
+    private void checkVertex(int v) {
+        if (v < 0 || v >= n) {
+            throw new IllegalArgumentException("Vertex " + v + " is out of range [0, " + n + ")");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.model;
+
+import java.util.Arrays;
+
+/**
+ * Граф із переномерованими вершинами разом із відображенням номерів в обидва боки.
+ * Вершина з початковим номером v має в новому графі номер toNewId(v);
+ * якщо toNewId(v) = -1, вершину в новий граф не включено.
+ */
+public class RelabeledGraph {
+    private final Graph graph;       // граф у нових номерах
+    private final int[] toNew;       // початковий номер → новий (або -1)
+    private final int[] toOriginal;  // новий номер → початковий
+
+    public RelabeledGraph(Graph graph, int[] toNew, int[] toOriginal) {
+        this.graph = graph;
+        this.toNew = toNew;
+        this.toOriginal = toOriginal;
+    }
+
+    /** Граф у нових номерах вершин */
+    public Graph getGraph() {
+        return graph;
+    }
+
+    /** Кількість вершин початкового графа */
+    public int getOriginalVertexCount() {
+        return toNew.length;
+    }
+
+    /** Новий номер вершини v або -1, якщо її вилучено */
+    public int toNewId(int v) {
+        return toNew[v];
+    }
+
+    /** Початковий номер вершини з новим номером v */
+    public int toOriginalId(int v) {
+        return toOriginal[v];
+    }
+
+    /**
+     * Переводить масив відстаней у нових номерах назад у початкові.
+     * Вилучені вершини отримують Integer.MAX_VALUE; null (від’ємний цикл) лишається null.
+     */
+    public int[] mapBack(int[] dist) {
+        if (dist == null) {
+            return null;
+        }
+        int[] result = new int[toNew.length];
+        Arrays.fill(result, Integer.MAX_VALUE);
+        for (int v = 0; v < toOriginal.length; v++) {
+            result[toOriginal[v]] = dist[v];
+        }
+        return result;
+    }
+}
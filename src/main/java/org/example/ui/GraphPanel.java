@@ -9,8 +9,10 @@ import java.awt.event.*;
 import java.awt.geom.Ellipse2D;
 import java.awt.geom.Line2D;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 /**
  * Інтерактивна панель для створення та редагування графів.
@@ -66,6 +68,7 @@ public class GraphPanel extends JPanel implements MouseListener, MouseMotionList
     // Стан панелі
     private List<VisualVertex> vertices;
     private List<VisualEdge> edges;
+    private Set<Long> edgeKeys;        // пари (from, to) для перевірки дублікатів за O(1)
     private VisualVertex sourceVertex;
     private int nextVertexId;
     
@@ -86,6 +89,7 @@ public class GraphPanel extends JPanel implements MouseListener, MouseMotionList
     public GraphPanel() {
         vertices = new ArrayList<>();
         edges = new ArrayList<>();
+        edgeKeys = new HashSet<>();
         nextVertexId = 0;
         
         setBackground(Color.WHITE);
@@ -191,12 +195,11 @@ public class GraphPanel extends JPanel implements MouseListener, MouseMotionList
     }
     
     private boolean hasEdge(int fromId, int toId) {
-        for (VisualEdge edge : edges) {
-            if (edge.from.id == fromId && edge.to.id == toId) {
-                return true;
-            }
-        }
-        return false;
+        return edgeKeys.contains(edgeKey(fromId, toId));
+    }
+
+    private static long edgeKey(int fromId, int toId) {
+        return ((long) fromId << 32) | (toId & 0xFFFFFFFFL);
     }
     
     private void addVertex(int x, int y) {
@@ -208,6 +211,7 @@ public class GraphPanel extends JPanel implements MouseListener, MouseMotionList
         VisualVertex to = findVertexById(toId);
         if (from != null && to != null) {
             edges.add(new VisualEdge(from, to, weight));
+            edgeKeys.add(edgeKey(fromId, toId));
         }
     }
     
@@ -234,6 +238,7 @@ public class GraphPanel extends JPanel implements MouseListener, MouseMotionList
     public void clear() {
         vertices.clear();
         edges.clear();
+        edgeKeys.clear();
         sourceVertex = null;
         nextVertexId = 0;
         selectedVertex = null;
@@ -456,7 +461,13 @@ public class GraphPanel extends JPanel implements MouseListener, MouseMotionList
     
     private void removeVertex(VisualVertex vertex) {
         // Видаляємо всі ребра, пов'язані з цією вершиною
-        edges.removeIf(edge -> edge.from == vertex || edge.to == vertex);
+        edges.removeIf(edge -> {
+            boolean incident = edge.from == vertex || edge.to == vertex;
+            if (incident) {
+                edgeKeys.remove(edgeKey(edge.from.id, edge.to.id));
+            }
+            return incident;
+        });
         
         // Видаляємо саму вершину
         vertices.remove(vertex);
@@ -1,6 +1,7 @@
 package org.example.ui;
 
 import org.example.algorithm.ParallelBellmanFord;
+import org.example.algorithm.ParallelCalibration;
 import org.example.algorithm.SequentialBellmanFord;
 import org.example.model.Graph;
 import org.example.ui.GraphPanel;
@@ -8,7 +9,9 @@ import org.example.ui.GraphPanel;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * Головне вікно програми з табовим інтерфейсом для різних функцій:
@@ -333,7 +336,31 @@ public class MainWindow extends JFrame {
     // Оригінальна функціональність для простого запуску
     private void onRun(ActionEvent e) {
         outputArea.setText("");  // Очистимо текстову область
+        runButton.setEnabled(false);
 
+        // Обчислення – поза EDT: перший ADAPTIVE-запуск може чекати на калібрування
+        new SwingWorker<Void, String>() {
+            @Override
+            protected Void doInBackground() {
+                runBenchmark(this::publish);
+                return null;
+            }
+
+            @Override
+            protected void process(List<String> lines) {
+                for (String line : lines) {
+                    outputArea.append(line);
+                }
+            }
+
+            @Override
+            protected void done() {
+                runButton.setEnabled(true);
+            }
+        }.execute();
+    }
+
+    private static void runBenchmark(Consumer<String> out) {
         int n = 500;   // Для GUI берімо помірний розмір
         int m = 2000;
         Graph graph = new Graph(n);
@@ -350,52 +377,66 @@ public class MainWindow extends JFrame {
         int source = 0;
 
         // 1) Перевірка на негативний цикл через будь-яку із версій
-        outputArea.append("Checking negative cycle (sequential)…\n");
+        out.accept("Checking negative cycle (sequential)…\n");
         SequentialBellmanFord seqCheck = new SequentialBellmanFord();
         int[] distCheck = seqCheck.findShortestPaths(graph, source);
         if (distCheck == null) {
-            outputArea.append("Negative cycle detected (sequential). Aborting benchmark.\n");
+            out.accept("Negative cycle detected (sequential). Aborting benchmark.\n");
             return;
         }
 
-        outputArea.append("Checking negative cycle (parallel)…\n");
+        out.accept("Checking negative cycle (parallel)…\n");
         ParallelBellmanFord parCheck = new ParallelBellmanFord();
         int[] distCheckPar = parCheck.findShortestPaths(graph, source);
         if (distCheckPar == null) {
-            outputArea.append("Negative cycle detected (parallel). Aborting benchmark.\n");
+            out.accept("Negative cycle detected (parallel). Aborting benchmark.\n");
             return;
         }
 
         // Якщо дійшли сюди — у графі немає негативних циклів
-        outputArea.append("Running Sequential Bellman-Ford…\n");
+        out.accept("Running Sequential Bellman-Ford…\n");
         long t1 = System.currentTimeMillis();
         int[] distSeq = seqCheck.findShortestPaths(graph, source);
         long t2 = System.currentTimeMillis();
-        outputArea.append("Sequential time: " + (t2 - t1) + " ms\n");
+        out.accept("Sequential time: " + (t2 - t1) + " ms\n");
 
-        outputArea.append("Running Parallel Bellman-Ford…\n");
+        out.accept("Running Parallel Bellman-Ford…\n");
         long t3 = System.currentTimeMillis();
         int[] distPar = parCheck.findShortestPaths(graph, source);
         long t4 = System.currentTimeMillis();
-        outputArea.append("Parallel time: " + (t4 - t3) + " ms\n");
+        out.accept("Parallel time: " + (t4 - t3) + " ms\n");
+
+        // ADAPTIVE сам вирішує для кожного раунду, чи запускати потоки; на такому графі бар’єри дорожчі за роботу
+        out.accept("Running Adaptive Bellman-Ford…\n");
+        ParallelBellmanFord adaptive = new ParallelBellmanFord(ParallelBellmanFord.Mode.ADAPTIVE);
+        long t5 = System.currentTimeMillis();
+        int[] distAdaptive = adaptive.findShortestPaths(graph, source);
+        long t6 = System.currentTimeMillis();
+        out.accept("Adaptive time: " + (t6 - t5) + " ms (sequential rounds: "
+                + adaptive.getLastSequentialRoundCount() + " of " + adaptive.getLastIterationCount() + ")\n");
 
         // Перевіримо, чи результати однакові
-        boolean equal = true;
-        for (int i = 0; i < n; i++) {
+        boolean equal = compare(distSeq, distPar, "parallel", out)
+                && compare(distSeq, distAdaptive, "adaptive", out);
+        out.accept("Results equal: " + equal + "\n");
+    }
+
+    private static boolean compare(int[] distSeq, int[] distOther, String name, Consumer<String> out) {
+        for (int i = 0; i < distSeq.length; i++) {
             int dSeq = distSeq[i];
-            int dPar = distPar[i];
-            if (!((dSeq == Integer.MAX_VALUE && dPar == Integer.MAX_VALUE) || (dSeq == dPar))) {
-                equal = false;
-                outputArea.append(String.format(
-                        "Mismatch at vertex %d: sequential=%s, parallel=%s%n",
+            int dOther = distOther[i];
+            if (!((dSeq == Integer.MAX_VALUE && dOther == Integer.MAX_VALUE) || (dSeq == dOther))) {
+                out.accept(String.format(
+                        "Mismatch at vertex %d: sequential=%s, %s=%s%n",
                         i,
                         (dSeq == Integer.MAX_VALUE ? "INF" : dSeq),
-                        (dPar == Integer.MAX_VALUE ? "INF" : dPar)
+                        name,
+                        (dOther == Integer.MAX_VALUE ? "INF" : dOther)
                 ));
-                break;
+                return false;
             }
         }
-        outputArea.append("Results equal: " + equal + "\n");
+        return true;
     }
 
     public static void main(String[] args) {
@@ -406,6 +447,11 @@ public class MainWindow extends JFrame {
             // Використовуємо стандартний L&F
         }
         
+        // Калібрування ADAPTIVE (або його читання з файлу) – у фоні, поки будується вікно
+        Thread calibration = new Thread(ParallelCalibration::get, "bf-calibration");
+        calibration.setDaemon(true);
+        calibration.start();
+
         SwingUtilities.invokeLater(() -> {
             MainWindow window = new MainWindow();
             window.setVisible(true);
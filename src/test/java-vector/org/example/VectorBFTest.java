@@ -0,0 +1,69 @@
+package org.example;
+
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.algorithm.VectorBellmanFord;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorBFTest {
+
+    @Test
+    void testMatchesSequentialWithNegativeEdges() {
+        int n = 2000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(5);
+        for (int v = 0; v + 1 < n; v++) {
+            graph.addEdge(v, v + 1, rnd.nextInt(10));
+        }
+        for (int i = 0; i < 10 * n; i++) {
+            int u = rnd.nextInt(n);
+            int v = rnd.nextInt(n);
+            // Ребра «вперед» можуть бути від’ємними, циклів не утворюють
+            if (u != v) {
+                graph.addEdge(Math.min(u, v), Math.max(u, v), rnd.nextInt(50) - 10);
+            }
+        }
+
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertNotNull(expected);
+
+        assertArrayEquals(expected, new VectorBellmanFord(true).findShortestPaths(graph, 0));
+        assertArrayEquals(expected, new VectorBellmanFord(false).findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testSharedDestinationsInOneBlock() {
+        // Усі ребра ведуть у кілька вершин: без розкладу по смугах блок мав би однакові dst
+        int n = 300;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(6);
+        for (int v = 1; v < n; v++) {
+            graph.addEdge(0, v, 1000 + rnd.nextInt(100));
+        }
+        for (int i = 0; i < 20 * n; i++) {
+            // Із вершин 1..4 ребер немає, тож циклів немає
+            graph.addEdge(5 + rnd.nextInt(n - 5), 1 + rnd.nextInt(4), rnd.nextInt(2000) - 1000);
+        }
+
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertNotNull(expected);
+
+        VectorBellmanFord vector = new VectorBellmanFord(true);
+        assertArrayEquals(expected, vector.findShortestPaths(graph, 0));
+        assertTrue(vector.getLastPaddingCount() > 0);
+    }
+
+    @Test
+    void testNegativeCycle() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, -5);
+
+        assertNull(new VectorBellmanFord().findShortestPaths(graph, 0));
+    }
+}
@@ -0,0 +1,157 @@
+package org.example;
+
+import org.example.algorithm.BatchShortestPaths;
+import org.example.algorithm.ParallelCalibration;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchShortestPathsTest {
+
+    /** Кілька сотень малих графів із від’ємними ребрами без циклів (через потенціали) і запити до них */
+    private static List<BatchShortestPaths.Job> smallJobs(int graphs, int queriesPerGraph, long seed) {
+        Random rnd = new Random(seed);
+        List<BatchShortestPaths.Job> jobs = new ArrayList<>();
+        for (int g = 0; g < graphs; g++) {
+            int n = 5 + rnd.nextInt(60);
+            Graph graph = TestGraphs.potentialGraph(n, 3 * n, 100, rnd);
+            for (int q = 0; q < queriesPerGraph; q++) {
+                jobs.add(new BatchShortestPaths.Job(graph, rnd.nextInt(n)));
+            }
+        }
+        Collections.shuffle(jobs, rnd);
+        return jobs;
+    }
+
+    @Test
+    void testCallbackDeliversEveryJob() {
+        List<BatchShortestPaths.Job> jobs = smallJobs(300, 10, 1);
+        Map<Long, int[]> results = new ConcurrentHashMap<>();
+
+        BatchShortestPaths.Statistics statistics = new BatchShortestPaths(4)
+                .run(jobs.stream(), result -> assertNull(results.put(result.getIndex(), result.getDistances())));
+
+        assertEquals(jobs.size(), statistics.getJobCount());
+        assertEquals(jobs.size(), results.size());
+        SequentialBellmanFord sequential = new SequentialBellmanFord();
+        for (int i = 0; i < jobs.size(); i++) {
+            BatchShortestPaths.Job job = jobs.get(i);
+            assertArrayEquals(sequential.findShortestPaths(job.getGraph(), job.getSource()), results.get((long) i));
+        }
+        assertTrue(statistics.getLatencyNanos(99) >= statistics.getLatencyNanos(50));
+        assertTrue(statistics.getJobsPerSecond() > 0);
+    }
+
+    @Test
+    void testIteratorAcrossManyWindows() {
+        // Більше за ліміт завдань у роботі, тож подавання чекає на споживача
+        List<BatchShortestPaths.Job> jobs = smallJobs(500, 25, 2);
+        BatchShortestPaths batch = new BatchShortestPaths(3);
+
+        boolean[] seen = new boolean[jobs.size()];
+        SequentialBellmanFord sequential = new SequentialBellmanFord();
+        Iterator<BatchShortestPaths.Result> results = batch.results(jobs.iterator());
+        int count = 0;
+        while (results.hasNext()) {
+            BatchShortestPaths.Result result = results.next();
+            int index = (int) result.getIndex();
+            assertFalse(seen[index]);
+            seen[index] = true;
+            assertSame(jobs.get(index), result.getJob());
+            if (index % 97 == 0) {
+                assertArrayEquals(sequential.findShortestPaths(result.getJob().getGraph(), result.getJob().getSource()),
+                        result.getDistances());
+            }
+            count++;
+        }
+
+        assertEquals(jobs.size(), count);
+        assertEquals(jobs.size(), batch.getLastStatistics().getJobCount());
+    }
+
+    @Test
+    void testNegativeCycleJob() {
+        Graph cyclic = new Graph(4);
+        cyclic.addEdge(0, 1, 1);
+        cyclic.addEdge(1, 2, -2);
+        cyclic.addEdge(2, 1, 1);
+        cyclic.addEdge(3, 0, 1);
+        List<BatchShortestPaths.Job> jobs = List.of(
+                new BatchShortestPaths.Job(cyclic, 0),
+                new BatchShortestPaths.Job(cyclic, 3),
+                new BatchShortestPaths.Job(cyclic, 2));
+        Map<Long, BatchShortestPaths.Result> results = new ConcurrentHashMap<>();
+
+        new BatchShortestPaths(2).run(jobs.iterator(), result -> results.put(result.getIndex(), result));
+
+        assertNull(results.get(0L).getDistances());
+        assertNull(results.get(1L).getDistances());
+        assertNull(results.get(2L).getDistances());
+
+        Graph acyclic = new Graph(3);
+        acyclic.addEdge(0, 1, 4);
+        acyclic.addEdge(1, 2, -3);
+        new BatchShortestPaths(2).run(List.of(new BatchShortestPaths.Job(acyclic, 0)).iterator(),
+                result -> assertArrayEquals(new int[]{0, 4, 1}, result.getDistances()));
+    }
+
+    @Test
+    void testLargeJobSplitsRounds() {
+        // Нульовий бар’єр: кожен раунд із кількома ребрами ділиться на підзадачі пулу
+        ParallelCalibration eager = new ParallelCalibration(1.0, 1.0, new long[]{0, 0, 0, 0, 0});
+        Graph graph = BFBenchmark.randomGraph(30_000, 200_000, 5);
+        List<BatchShortestPaths.Job> jobs = new ArrayList<>();
+        jobs.add(new BatchShortestPaths.Job(graph, 0));
+        jobs.addAll(smallJobs(20, 5, 3));
+        Map<Long, BatchShortestPaths.Result> results = new ConcurrentHashMap<>();
+
+        BatchShortestPaths.Statistics statistics = new BatchShortestPaths(4, eager, BatchShortestPaths.Order.LONGEST_FIRST)
+                .run(jobs.iterator(), result -> results.put(result.getIndex(), result));
+
+        BatchShortestPaths.Result large = results.get(0L);
+        assertTrue(large.isParallel());
+        assertTrue(statistics.getParallelJobCount() >= 1);
+        assertArrayEquals(new SequentialBellmanFord().findShortestPaths(graph, 0), large.getDistances());
+    }
+
+    @Test
+    void testShortestFirstOrderWithinWindow() {
+        // Один потік пулу бере завдання в порядку подавання, тож видно порядок планувальника
+        Random rnd = new Random(4);
+        List<BatchShortestPaths.Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int n = 2 + rnd.nextInt(200);
+            jobs.add(new BatchShortestPaths.Job(new Graph(n), 0));
+        }
+        List<Integer> sizes = Collections.synchronizedList(new ArrayList<>());
+
+        new BatchShortestPaths(1, null, BatchShortestPaths.Order.SHORTEST_FIRST)
+                .run(jobs.iterator(), result -> sizes.add(result.getJob().getGraph().getVertexCount()));
+
+        List<Integer> sorted = new ArrayList<>(sizes);
+        Collections.sort(sorted);
+        assertEquals(sorted, sizes);
+    }
+
+    @Test
+    void testCallbackFailureStopsBatch() {
+        List<BatchShortestPaths.Job> jobs = smallJobs(50, 4, 6);
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> new BatchShortestPaths(2).run(jobs.iterator(), result -> {
+                    throw new IllegalStateException("sink is full");
+                }));
+
+        assertEquals("sink is full", thrown.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new BatchShortestPaths.Job(new Graph(3), 3));
+    }
+}
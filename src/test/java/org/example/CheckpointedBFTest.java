@@ -0,0 +1,107 @@
+package org.example;
+
+import org.example.algorithm.CheckpointedBellmanFord;
+import org.example.algorithm.ExecutionControl;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.algorithm.ShortestPathsResult;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckpointedBFTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testMatchesSequentialAndWritesPeriodicCheckpoints() {
+        Graph graph = longGraph(3000, 1);
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertNotNull(expected);
+
+        CheckpointedBellmanFord bf = new CheckpointedBellmanFord(dir.resolve("run.ckpt"), 5, 3);
+        assertArrayEquals(expected, bf.findShortestPaths(graph, 0));
+        assertTrue(bf.getLastCheckpointIteration() >= 5);
+        assertTrue(Files.exists(dir.resolve("run.ckpt")));
+        assertFalse(Files.exists(dir.resolve("run.ckpt.tmp")));
+    }
+
+    @Test
+    void testResumeGivesIdenticalResult() throws IOException {
+        Graph graph = longGraph(3000, 2);
+        CheckpointedBellmanFord full = new CheckpointedBellmanFord(dir.resolve("full.ckpt"), 4, 2);
+        ShortestPathsResult reference = full.findShortestPaths(graph, 0, ExecutionControl.none());
+        assertTrue(reference.getIterations() > 100);
+        assertEquals(ShortestPathsResult.Status.COMPLETED, reference.getStatus());
+        int[] referencePred = full.getLastPredecessors();
+
+        // «Перезапуск JVM»: перший екземпляр зупиняється на бюджеті, другий продовжує з файла
+        Path file = dir.resolve("resumed.ckpt");
+        ShortestPathsResult stopped = new CheckpointedBellmanFord(file, 4, 3)
+                .findShortestPaths(graph, 0, ExecutionControl.none().withIterationBudget(9));
+        assertEquals(ShortestPathsResult.Status.ITERATION_BUDGET_EXHAUSTED, stopped.getStatus());
+        assertEquals(9, stopped.getIterations());
+
+        CheckpointedBellmanFord resumed = new CheckpointedBellmanFord(file, 4, 1);
+        ShortestPathsResult result = resumed.resume(graph, ExecutionControl.none());
+        assertEquals(ShortestPathsResult.Status.COMPLETED, result.getStatus());
+        assertEquals(reference.getIterations(), result.getIterations());
+        assertArrayEquals(reference.getDistances(), result.getDistances());
+        assertArrayEquals(referencePred, resumed.getLastPredecessors());
+    }
+
+    @Test
+    void testNegativeCycleDetected() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, -1);
+        graph.addEdge(2, 3, -1);
+        graph.addEdge(3, 1, -1);
+
+        assertNull(new CheckpointedBellmanFord(dir.resolve("cycle.ckpt"), 1, 2).findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testRejectsCorruptedOrForeignCheckpoint() throws IOException {
+        Graph graph = longGraph(500, 3);
+        Path file = dir.resolve("c.ckpt");
+        new CheckpointedBellmanFord(file, 2, 2)
+                .findShortestPaths(graph, 0, ExecutionControl.none().withIterationBudget(3));
+
+        CheckpointedBellmanFord bf = new CheckpointedBellmanFord(file, 2, 2);
+        assertThrows(IOException.class, () -> bf.resume(longGraph(500, 4), ExecutionControl.none()));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), 100);
+        }
+        assertThrows(IOException.class, () -> bf.resume(graph, ExecutionControl.none()));
+        assertThrows(IOException.class, () -> new CheckpointedBellmanFord(dir.resolve("missing"), 1)
+                .resume(graph, ExecutionControl.none()));
+    }
+
+    /** Випадковий граф із «хребтом» 0 → 1 → … → n-1, щоб раундів було багато */
+    private static Graph longGraph(int n, long seed) {
+        Random rnd = new Random(seed);
+        Graph graph = new Graph(n);
+        for (int v = n - 2; v >= 0; v--) {
+            graph.addEdge(v, v + 1, 1 + rnd.nextInt(10));
+        }
+        for (int i = 0; i < 4 * n; i++) {
+            int u = rnd.nextInt(n - 1);
+            int v = Math.min(n - 1, u + 1 + rnd.nextInt(20));
+            // Від’ємні ваги лише на ребрах «вперед», тож від’ємних циклів немає
+            graph.addEdge(u, v, rnd.nextInt(60) - 10);
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,136 @@
+package org.example;
+
+import org.example.algorithm.CompressedBellmanFord;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.CompressedCsrGraph;
+import org.example.model.CsrGraph;
+import org.example.model.Graph;
+import org.example.model.GraphBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedBFTest {
+
+    @Test
+    void testSimpleGraph() {
+        Graph graph = new Graph(5);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(0, 2, 8);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(2, 3, -4);
+        graph.addEdge(3, 4, 1);
+
+        int[] dist = new CompressedBellmanFord(2).findShortestPaths(graph, 0);
+
+        assertArrayEquals(new int[]{0, 3, 8, 4, 5}, dist);
+    }
+
+    @Test
+    void testDisconnectedGraph() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 5);
+
+        int[] dist = new CompressedBellmanFord().findShortestPaths(graph, 0);
+
+        assertArrayEquals(new int[]{0, 5, Integer.MAX_VALUE}, dist);
+    }
+
+    @Test
+    void testDecoderRoundTrip() {
+        // Широкий діапазон ваг (ширина упаковки до 32 біт) і сусіди по обидва боки від вершини
+        int n = 1000;
+        Random rnd = new Random(11);
+        GraphBuilder builder = new GraphBuilder(n);
+        for (int i = 0; i < 20_000; i++) {
+            int w = i % 3 == 0 ? rnd.nextInt() : rnd.nextInt(16);
+            builder.addEdge(rnd.nextInt(n), rnd.nextInt(n), w);
+        }
+        CsrGraph csr = builder.buildCsr();
+        CompressedCsrGraph compressed = CompressedCsrGraph.fromSortedCsr(csr);
+
+        assertEquals(csr.getEdgeCount(), compressed.getEdgeCount());
+        CompressedCsrGraph.Decoder decoder = compressed.decoder();
+        int[] targets = new int[compressed.getMaxDegree()];
+        int[] weights = new int[compressed.getMaxDegree()];
+        for (int b = 0; b < compressed.getBlockCount(); b++) {
+            decoder.seekBlock(b);
+            int last = Math.min(n, (b + 1) * CompressedCsrGraph.BLOCK_SIZE);
+            for (int v = b * CompressedCsrGraph.BLOCK_SIZE; v < last; v++) {
+                assertEquals(csr.outDegree(v), decoder.nextVertex(targets, weights));
+                for (int e = csr.outOffset(v); e < csr.outOffset(v + 1); e++) {
+                    assertEquals(csr.target(e), targets[e - csr.outOffset(v)]);
+                    assertEquals(csr.weight(e), weights[e - csr.outOffset(v)]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRejectsUnsortedNeighbors() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(0, 1, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> CompressedCsrGraph.fromSortedCsr(CsrGraph.fromGraph(graph)));
+    }
+
+    @Test
+    void testMatchesSequentialWithNegativeEdges() {
+        // Ваги через потенціали: w = c + p[u] - p[v], c >= 0, тож від’ємних циклів немає
+        int n = 3000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(12);
+        int[] potential = new int[n];
+        for (int v = 0; v < n; v++) {
+            potential[v] = rnd.nextInt(1000);
+        }
+        for (int i = 0; i < 6 * n; i++) {
+            int u = rnd.nextInt(n);
+            int v = rnd.nextInt(n);
+            graph.addEdge(u, v, rnd.nextInt(50) + potential[u] - potential[v]);
+        }
+
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertNotNull(expected);
+        assertArrayEquals(expected, new CompressedBellmanFord(4).findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testNegativeCycle() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, -1);
+        graph.addEdge(2, 1, -1);
+        graph.addEdge(2, 3, 1);
+
+        assertNull(new CompressedBellmanFord().findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testCompressesLocalGraph() {
+        // Решітка: сусіди поруч за номером, ваги малі – стиснення має бути принаймні вдвічі
+        int side = 200;
+        Graph graph = new Graph(side * side);
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c;
+                if (c + 1 < side) {
+                    graph.addEdge(v, v + 1, (v * 7) % 10);
+                    graph.addEdge(v + 1, v, (v * 3) % 10);
+                }
+                if (r + 1 < side) {
+                    graph.addEdge(v, v + side, (v * 5) % 10);
+                    graph.addEdge(v + side, v, (v * 9) % 10);
+                }
+            }
+        }
+        CompressedCsrGraph compressed = CompressedCsrGraph.fromGraph(graph);
+        long csrBytes = 4L * (graph.getVertexCount() + 1) + 8L * graph.getEdges().size();
+
+        assertTrue(compressed.getMemoryBytes() * 2 < csrBytes,
+                compressed.getMemoryBytes() + " bytes vs CSR " + csrBytes);
+    }
+}
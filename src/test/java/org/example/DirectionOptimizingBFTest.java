@@ -0,0 +1,57 @@
+package org.example;
+
+import org.example.algorithm.DirectionOptimizingBellmanFord;
+import org.example.algorithm.DirectionOptimizingBellmanFord.Direction;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirectionOptimizingBFTest {
+
+    @Test
+    void testSimpleGraph() {
+        Graph graph = new Graph(5);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(0, 2, 8);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(2, 3, -4);
+        graph.addEdge(3, 4, 1);
+
+        int[] dist = new DirectionOptimizingBellmanFord().findShortestPaths(graph, 0);
+
+        assertArrayEquals(new int[]{0, 3, 8, 4, 5}, dist);
+    }
+
+    @Test
+    void testSwitchesDirectionAndMatchesSequential() {
+        int n = 20000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(11);
+        for (int i = 0; i < 8 * n; i++) {
+            graph.addEdge(rnd.nextInt(n), rnd.nextInt(n), rnd.nextInt(100));
+        }
+
+        DirectionOptimizingBellmanFord bf = new DirectionOptimizingBellmanFord(4, DirectionOptimizingBellmanFord.DEFAULT_ALPHA);
+        int[] actual = bf.findShortestPaths(graph, 0);
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+
+        assertArrayEquals(expected, actual);
+        DirectionOptimizingBellmanFord.Metrics metrics = bf.getLastMetrics();
+        assertEquals(Direction.PUSH, metrics.getDirections().get(0), "Перший раунд з одним джерелом – push");
+        assertTrue(metrics.count(Direction.PULL) > 0, "Широкий фронт має перемкнути на pull");
+    }
+
+    @Test
+    void testNegativeCycle() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, -5);
+
+        assertNull(new DirectionOptimizingBellmanFord().findShortestPaths(graph, 0));
+    }
+}
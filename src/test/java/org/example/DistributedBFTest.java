@@ -0,0 +1,79 @@
+package org.example;
+
+import org.example.algorithm.ParallelBellmanFord;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.distributed.DistributedBellmanFord;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistributedBFTest {
+
+    @Test
+    void testMatchesSequentialWithThreadWorkers() {
+        Graph graph = randomGraph(2000, 10000, 4);
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertNotNull(expected);
+
+        DistributedBellmanFord bf = new DistributedBellmanFord(3);
+        assertArrayEquals(expected, bf.findShortestPaths(graph, 0));
+        assertFalse(bf.getLastRoundBytes().isEmpty());
+        assertEquals(bf.getLastRoundBytes().size(), bf.getLastRoundRawBytes().size());
+        assertTrue(bf.getLastSetupBytes() > 0);
+    }
+
+    @Test
+    void testReusesAnyLocalEngine() {
+        Graph graph = randomGraph(1000, 6000, 5);
+        DistributedBellmanFord bf = new DistributedBellmanFord(
+                4, DistributedBellmanFord.Launch.THREADS, ParallelBellmanFord.class);
+        assertArrayEquals(new SequentialBellmanFord().findShortestPaths(graph, 3), bf.findShortestPaths(graph, 3));
+    }
+
+    @Test
+    void testWorkerProcessMatchesSequential() {
+        // Справжній DistributedWorker в окремій JVM через сокет
+        Graph graph = randomGraph(1500, 8000, 6);
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertNotNull(expected);
+
+        DistributedBellmanFord bf = new DistributedBellmanFord(
+                1, DistributedBellmanFord.Launch.PROCESSES, SequentialBellmanFord.class);
+        assertArrayEquals(expected, bf.findShortestPaths(graph, 0));
+        assertTrue(bf.getLastSetupBytes() > 0);
+    }
+
+    @Test
+    void testNegativeCycleAcrossWorkers() {
+        Graph graph = new Graph(6);
+        for (int v = 0; v < 6; v++) {
+            graph.addEdge(v, (v + 1) % 6, v == 5 ? -10 : 1);
+        }
+        assertNull(new DistributedBellmanFord(3).findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testUnreachableVerticesStayInfinite() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(2, 3, -1);
+
+        int[] dist = new DistributedBellmanFord(2).findShortestPaths(graph, 0);
+        assertArrayEquals(new int[]{0, 2, Integer.MAX_VALUE, Integer.MAX_VALUE}, dist);
+    }
+
+    private static Graph randomGraph(int n, int m, long seed) {
+        Random rnd = new Random(seed);
+        Graph graph = new Graph(n);
+        for (int i = 0; i < m; i++) {
+            int u = rnd.nextInt(n);
+            int v = rnd.nextInt(n);
+            // Від’ємні ваги лише на ребрах «вперед», тож від’ємних циклів немає
+            graph.addEdge(u, v, u < v ? rnd.nextInt(100) - 10 : rnd.nextInt(100));
+        }
+        return graph;
+    }
+}
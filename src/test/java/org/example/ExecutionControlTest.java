@@ -0,0 +1,220 @@
+package org.example;
+
+import org.example.algorithm.CancellationToken;
+import org.example.algorithm.ExecutionControl;
+import org.example.algorithm.IControllableShortestPaths;
+import org.example.algorithm.ParallelBellmanFord;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.algorithm.ShortestPathsResult;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutionControlTest {
+
+    @Test
+    void testIterationBudgetReturnsPartialUpperBounds() {
+        Graph graph = reversedChain(200);
+        int[] exact = new SequentialBellmanFord().findShortestPaths(graph, 0);
+
+        for (IControllableShortestPaths engine : engines()) {
+            ShortestPathsResult result = engine.findShortestPaths(graph, 0,
+                    ExecutionControl.none().withIterationBudget(5));
+            assertEquals(ShortestPathsResult.Status.ITERATION_BUDGET_EXHAUSTED, result.getStatus());
+            assertEquals(5, result.getIterations());
+            assertFalse(result.isComplete());
+            int[] partial = result.getDistances();
+            assertEquals(0, partial[0]);
+            assertNotEquals(Integer.MAX_VALUE, partial[1]);
+            assertEquals(Integer.MAX_VALUE, partial[199]);
+            for (int v = 0; v < partial.length; v++) {
+                assertTrue(partial[v] >= exact[v], "partial distance must be an upper bound");
+            }
+        }
+    }
+
+    @Test
+    void testCancelledTokenAndExpiredDeadline() {
+        Graph graph = reversedChain(100);
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+
+        for (IControllableShortestPaths engine : engines()) {
+            ShortestPathsResult cancelled = engine.findShortestPaths(graph, 0,
+                    ExecutionControl.none().withCancellation(token));
+            assertEquals(ShortestPathsResult.Status.CANCELLED, cancelled.getStatus());
+            assertEquals(0, cancelled.getDistances()[0]);
+
+            ShortestPathsResult late = engine.findShortestPaths(graph, 0,
+                    ExecutionControl.none().withTimeout(0, TimeUnit.MILLISECONDS));
+            assertEquals(ShortestPathsResult.Status.DEADLINE_EXCEEDED, late.getStatus());
+        }
+    }
+
+    @Test
+    void testProgressListenerAndCancellationFromCallback() {
+        Graph graph = reversedChain(2000);
+        for (IControllableShortestPaths engine : engines()) {
+            CancellationToken token = new CancellationToken();
+            List<Integer> iterations = new ArrayList<>();
+            ExecutionControl control = ExecutionControl.none()
+                    .withCancellation(token)
+                    .withProgressListener((iteration, updates, remaining) -> {
+                        iterations.add(iteration);
+                        assertTrue(updates > 0);
+                        assertTrue(remaining >= 0);
+                        if (iteration == 10) {
+                            token.cancel();
+                        }
+                    });
+            ShortestPathsResult result = engine.findShortestPaths(graph, 0, control);
+            assertEquals(ShortestPathsResult.Status.CANCELLED, result.getStatus());
+            assertEquals(10, result.getIterations());
+            assertEquals(10, iterations.size());
+            for (int i = 0; i < iterations.size(); i++) {
+                assertEquals(i + 1, iterations.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testCompletedRunMatchesPlainCall() {
+        Graph graph = reversedChain(300);
+        graph.addEdge(299, 0, 5);
+        for (IControllableShortestPaths engine : engines()) {
+            ShortestPathsResult result = engine.findShortestPaths(graph, 0, ExecutionControl.none());
+            assertEquals(ShortestPathsResult.Status.COMPLETED, result.getStatus());
+            assertArrayEquals(engine.findShortestPaths(graph, 0), result.getDistances());
+        }
+
+        Graph cyclic = new Graph(3);
+        cyclic.addEdge(0, 1, 1);
+        cyclic.addEdge(1, 2, -2);
+        cyclic.addEdge(2, 1, 1);
+        for (IControllableShortestPaths engine : engines()) {
+            ShortestPathsResult result = engine.findShortestPaths(cyclic, 0, ExecutionControl.none());
+            assertEquals(ShortestPathsResult.Status.NEGATIVE_CYCLE, result.getStatus());
+            assertNull(result.getDistances());
+        }
+    }
+
+    @Test
+    void testInterruptReleasesWorkersPromptly() throws InterruptedException {
+        // Ланцюжок у зворотному порядку ребер: Якобі потребує n раундів, тобто дуже довго
+        Graph graph = reversedChain(200_000);
+        for (ParallelBellmanFord.Mode mode : ParallelBellmanFord.Mode.values()) {
+            if (mode == ParallelBellmanFord.Mode.ADAPTIVE) {
+                // Фронт ланцюжка – одна вершина, тож ADAPTIVE проходить його за мілісекунди (див. нижче)
+                continue;
+            }
+            ParallelBellmanFord bf = new ParallelBellmanFord(mode, 2);
+            AtomicReference<Throwable> thrown = new AtomicReference<>();
+            AtomicReference<Boolean> interruptKept = new AtomicReference<>(false);
+            Thread query = new Thread(() -> {
+                try {
+                    bf.findShortestPaths(graph, 0);
+                } catch (Throwable e) {
+                    thrown.set(e);
+                    interruptKept.set(Thread.currentThread().isInterrupted());
+                }
+            });
+            query.start();
+            Thread.sleep(200);
+            query.interrupt();
+            query.join(10_000);
+            assertFalse(query.isAlive(), mode + ": query must stop after interrupt");
+            assertTrue(thrown.get() instanceof CancellationException, mode + ": " + thrown.get());
+            assertTrue(interruptKept.get());
+        }
+    }
+
+    @Test
+    void testInterruptStopsAdaptiveMode() throws InterruptedException {
+        // Щільний граф з від’ємним циклом через усі вершини: кожен раунд покращує всі вершини,
+        // тож ADAPTIVE теж робить n повних раундів
+        int n = 2000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(7);
+        for (int v = 0; v < n; v++) {
+            graph.addEdge(v, (v + 1) % n, -1);
+            for (int i = 0; i < 200; i++) {
+                graph.addEdge(v, rnd.nextInt(n), rnd.nextInt(10));
+            }
+        }
+        ParallelBellmanFord bf = new ParallelBellmanFord(ParallelBellmanFord.Mode.ADAPTIVE, 2);
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        AtomicReference<Boolean> interruptKept = new AtomicReference<>(false);
+        Thread query = new Thread(() -> {
+            try {
+                bf.findShortestPaths(graph, 0);
+            } catch (Throwable e) {
+                thrown.set(e);
+                interruptKept.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        query.start();
+        Thread.sleep(200);
+        query.interrupt();
+        query.join(10_000);
+        assertFalse(query.isAlive(), "query must stop after interrupt");
+        assertTrue(thrown.get() instanceof CancellationException, String.valueOf(thrown.get()));
+        assertTrue(interruptKept.get());
+    }
+
+    @Test
+    void testCancellationDuringFinalVerification() {
+        // Від’ємне кільце змінює відстані щораунду, тож запуск доходить до перевірки на цикли
+        int n = 60;
+        Graph graph = new Graph(n);
+        for (int v = 0; v < n; v++) {
+            graph.addEdge(v, (v + 1) % n, v == n - 1 ? -n : 1);
+        }
+        List<IControllableShortestPaths> engines = List.of(new SequentialBellmanFord(),
+                new ParallelBellmanFord(ParallelBellmanFord.Mode.EDGE_CHUNKED, 2),
+                new ParallelBellmanFord(ParallelBellmanFord.Mode.OWNER_COMPUTES, 2),
+                new ParallelBellmanFord(ParallelBellmanFord.Mode.ASYNC_IN_PLACE, 2));
+        for (int k = 0; k < engines.size(); k++) {
+            IControllableShortestPaths engine = engines.get(k);
+            CancellationToken token = new CancellationToken();
+            ExecutionControl control = ExecutionControl.none()
+                    .withCancellation(token)
+                    .withProgressListener((iteration, updates, remaining) -> {
+                        if (iteration == n - 1) {
+                            token.cancel(); // останній раунд перед перевіркою
+                        }
+                    });
+            ShortestPathsResult result = engine.findShortestPaths(graph, 0, control);
+            assertEquals(ShortestPathsResult.Status.CANCELLED, result.getStatus(), "engine " + k);
+            assertNotNull(result.getDistances());
+
+            assertEquals(ShortestPathsResult.Status.NEGATIVE_CYCLE,
+                    engine.findShortestPaths(graph, 0, ExecutionControl.none()).getStatus(), "engine " + k);
+        }
+    }
+
+    private static List<IControllableShortestPaths> engines() {
+        List<IControllableShortestPaths> engines = new ArrayList<>();
+        engines.add(new SequentialBellmanFord());
+        for (ParallelBellmanFord.Mode mode : ParallelBellmanFord.Mode.values()) {
+            engines.add(new ParallelBellmanFord(mode, 2));
+        }
+        return engines;
+    }
+
+    /** Ланцюжок 0 → 1 → … → n-1, ребра додано у зворотному порядку (найгірший випадок для проходів) */
+    private static Graph reversedChain(int n) {
+        Graph graph = new Graph(n);
+        for (int v = n - 2; v >= 0; v--) {
+            graph.addEdge(v, v + 1, 1);
+        }
+        return graph;
+    }
+}
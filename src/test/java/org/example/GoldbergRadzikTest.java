@@ -0,0 +1,84 @@
+package org.example;
+
+import org.example.algorithm.GoldbergRadzikShortestPaths;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GoldbergRadzikTest {
+
+    @Test
+    void testSimpleGraph() {
+        Graph graph = new Graph(5);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(0, 2, 8);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(2, 3, -4);
+        graph.addEdge(3, 4, 1);
+
+        int[] dist = new GoldbergRadzikShortestPaths().findShortestPaths(graph, 0);
+
+        assertArrayEquals(new int[]{0, 3, 8, 4, 5}, dist);
+    }
+
+    @Test
+    void testDisconnectedGraph() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 5);
+
+        int[] dist = new GoldbergRadzikShortestPaths().findShortestPaths(graph, 0);
+
+        assertArrayEquals(new int[]{0, 5, Integer.MAX_VALUE}, dist);
+    }
+
+    @Test
+    void testMatchesSequentialWithNegativeEdges() {
+        // Ваги через потенціали: w = c + p[u] - p[v], c >= 0, тож від’ємних циклів немає
+        int n = 3000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(21);
+        int[] potential = new int[n];
+        for (int v = 0; v < n; v++) {
+            potential[v] = rnd.nextInt(1000);
+        }
+        for (int i = 0; i < 6 * n; i++) {
+            int u = rnd.nextInt(n);
+            int v = rnd.nextInt(n);
+            graph.addEdge(u, v, rnd.nextInt(50) + potential[u] - potential[v]);
+        }
+
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertNotNull(expected);
+        assertArrayEquals(expected, new GoldbergRadzikShortestPaths().findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testNegativeCycle() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 1, -5); // від’ємний цикл 1→2→3→1
+
+        assertNull(new GoldbergRadzikShortestPaths().findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testDeepGraphDoesNotOverflowStack() {
+        // Ланцюжок із мільйона вершин: рекурсивний DFS тут впав би зі StackOverflowError
+        int n = 1_000_000;
+        Graph graph = new Graph(n);
+        for (int v = n - 2; v >= 0; v--) {
+            graph.addEdge(v, v + 1, -1);
+        }
+
+        int[] dist = new GoldbergRadzikShortestPaths().findShortestPaths(graph, 0);
+
+        assertNotNull(dist);
+        assertEquals(-(n - 1), dist[n - 1]);
+    }
+}
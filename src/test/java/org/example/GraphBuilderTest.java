@@ -0,0 +1,114 @@
+package org.example;
+
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.model.GraphBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphBuilderTest {
+
+    @Test
+    void testCollapsesParallelEdgesToMinimumWeight() {
+        Graph graph = new GraphBuilder(3)
+                .addEdge(0, 1, 5)
+                .addEdge(1, 2, 4)
+                .addEdge(0, 1, 2)
+                .addEdge(0, 1, 7)
+                .build();
+
+        List<Edge> edges = graph.getEdges();
+        assertEquals(2, edges.size());
+        assertEdge(edges.get(0), 0, 1, 2);
+        assertEdge(edges.get(1), 1, 2, 4);
+    }
+
+    @Test
+    void testMatchesGraphOnRandomEdges() {
+        // Більше за поріг паралельного сортування і з n > 2^16, щоб було кілька проходів на ключ
+        int n = 100_000;
+        int m = 300_000;
+        Random rnd = new Random(3);
+        int[] u = new int[m];
+        int[] v = new int[m];
+        int[] w = new int[m];
+        Graph plain = new Graph(n);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < m; i++) {
+            // Вузький діапазон кінців, щоб дублікатів було багато
+            u[i] = rnd.nextInt(n);
+            v[i] = rnd.nextInt(20) * 5000;
+            w[i] = rnd.nextInt(200);
+            plain.addEdge(u[i], v[i], w[i]);
+            expected.merge(((long) u[i] << 32) | v[i], w[i], Math::min);
+        }
+
+        GraphBuilder builder = new GraphBuilder(n, m, 4).addEdges(u, v, w);
+        CsrGraph csr = builder.buildCsrWithReverse();
+
+        assertEquals(expected.size(), csr.getEdgeCount());
+        for (int x = 0; x < n; x++) {
+            for (int e = csr.outOffset(x); e < csr.outOffset(x + 1); e++) {
+                if (e > csr.outOffset(x)) {
+                    assertTrue(csr.target(e - 1) < csr.target(e), "ребра мають бути впорядковані за (u, v)");
+                }
+                assertEquals(expected.get(((long) x << 32) | csr.target(e)), csr.weight(e));
+            }
+        }
+        int reverseEdges = 0;
+        for (int x = 0; x < n; x++) {
+            for (int e = csr.inOffset(x); e < csr.inOffset(x + 1); e++) {
+                assertEquals(expected.get(((long) csr.source(e) << 32) | x), csr.inWeight(e));
+                reverseEdges++;
+            }
+        }
+        assertEquals(csr.getEdgeCount(), reverseEdges);
+
+        Graph built = builder.build();
+        assertEquals(expected.size(), built.getEdges().size());
+        // Згортання до мінімальної ваги не змінює найкоротших відстаней
+        int[] before = new SequentialBellmanFord().findShortestPaths(plain, u[0]);
+        int[] after = new SequentialBellmanFord().findShortestPaths(built, u[0]);
+        assertArrayEquals(before, after);
+    }
+
+    @Test
+    void testGrowsAndRebuilds() {
+        GraphBuilder builder = new GraphBuilder(10, 0);
+        for (int i = 0; i < 1000; i++) {
+            builder.addEdge(i % 10, (i * 7) % 10, i);
+        }
+        assertEquals(1000, builder.getEdgeCount());
+        Graph first = builder.build();
+        assertEquals(builder.getEdgeCount(), first.getEdges().size());
+
+        builder.addEdges(Stream.of(new Edge(9, 3, -5), new Edge(0, 0, -1)));
+        Graph second = builder.build();
+        // Обидва ребра вже були, тож лише зменшились їхні ваги
+        assertEquals(first.getEdges().size(), second.getEdges().size());
+        assertEdge(second.getEdges().get(0), 0, 0, -1);
+    }
+
+    @Test
+    void testRejectsVertexOutOfRange() {
+        GraphBuilder builder = new GraphBuilder(4);
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdge(0, 4, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.addEdges(new int[]{-1}, new int[]{0}, new int[]{0}));
+    }
+
+    private static void assertEdge(Edge edge, int u, int v, int weight) {
+        assertEquals(u, edge.getU());
+        assertEquals(v, edge.getV());
+        assertEquals(weight, edge.getWeight());
+    }
+}
@@ -0,0 +1,107 @@
+package org.example;
+
+import org.example.algorithm.LandmarkOracle;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LandmarkOracleTest {
+
+    @Test
+    void testSimpleGraph() {
+        Graph graph = new Graph(5);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(0, 2, 8);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(2, 3, -4);
+        graph.addEdge(3, 4, 1);
+
+        LandmarkOracle oracle = LandmarkOracle.build(graph, 2);
+
+        assertNotNull(oracle);
+        assertEquals(5, oracle.distance(0, 4));
+        assertEquals(-4, oracle.distance(2, 3));
+        assertEquals(0, oracle.distance(3, 3));
+        assertEquals(Integer.MAX_VALUE, oracle.distance(4, 0));
+    }
+
+    @Test
+    void testMatchesSequentialWithNegativeEdges() {
+        int n = 2000;
+        Graph graph = TestGraphs.potentialGraph(n, 5 * n, new Random(5));
+        SequentialBellmanFord reference = new SequentialBellmanFord();
+        Random rnd = new Random(6);
+        for (int k : new int[]{0, 1, 8}) {
+            LandmarkOracle oracle = LandmarkOracle.build(graph, k, 4);
+            assertNotNull(oracle);
+            assertEquals(k, oracle.getLandmarks().length);
+            for (int q = 0; q < 10; q++) {
+                int source = rnd.nextInt(n);
+                int[] expected = reference.findShortestPaths(graph, source);
+                for (int t = 0; t < 20; t++) {
+                    int target = rnd.nextInt(n);
+                    assertEquals(expected[target], oracle.distance(source, target),
+                            "k=" + k + ", запит " + source + " -> " + target);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testDisconnectedComponents() {
+        // Дві компоненти: орієнтири потрапляють в обидві, між ними шляху немає
+        Graph graph = new Graph(6);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, -1);
+        graph.addEdge(3, 4, 2);
+        graph.addEdge(4, 5, 2);
+
+        LandmarkOracle oracle = LandmarkOracle.build(graph, 3);
+
+        assertEquals(0, oracle.distance(0, 2));
+        assertEquals(4, oracle.distance(3, 5));
+        assertEquals(Integer.MAX_VALUE, oracle.distance(0, 5));
+        assertEquals(Integer.MAX_VALUE, oracle.distance(5, 3));
+    }
+
+    @Test
+    void testNegativeCycle() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, -3);
+        graph.addEdge(2, 1, 1);
+
+        assertNull(LandmarkOracle.build(graph, 2));
+    }
+
+    @Test
+    void testSerializationRoundTrip() throws Exception {
+        int n = 500;
+        Graph graph = TestGraphs.potentialGraph(n, 4 * n, new Random(9));
+        LandmarkOracle oracle = LandmarkOracle.build(graph, 4);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(oracle);
+        }
+        LandmarkOracle restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (LandmarkOracle) in.readObject();
+        }
+
+        Random rnd = new Random(10);
+        for (int q = 0; q < 100; q++) {
+            int source = rnd.nextInt(n);
+            int target = rnd.nextInt(n);
+            assertEquals(oracle.distance(source, target), restored.distance(source, target));
+        }
+    }
+}
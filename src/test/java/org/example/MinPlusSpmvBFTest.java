@@ -0,0 +1,118 @@
+package org.example;
+
+import org.example.algorithm.MinPlusSpmvBellmanFord;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.BlockedAdjacencyMatrix;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinPlusSpmvBFTest {
+
+    @Test
+    void testSimpleGraph() {
+        Graph graph = new Graph(5);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(0, 2, 8);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(2, 3, -4);
+        graph.addEdge(3, 4, 1);
+
+        int[] dist = new MinPlusSpmvBellmanFord(2).findShortestPaths(graph, 0);
+
+        assertArrayEquals(new int[]{0, 3, 8, 4, 5}, dist);
+    }
+
+    @Test
+    void testDisconnectedGraph() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 5);
+
+        int[] dist = new MinPlusSpmvBellmanFord().findShortestPaths(graph, 0);
+
+        assertArrayEquals(new int[]{0, 5, Integer.MAX_VALUE}, dist);
+    }
+
+    @Test
+    void testTilesCoverAllEdges() {
+        int n = 1000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(21);
+        for (int i = 0; i < 10_000; i++) {
+            graph.addEdge(rnd.nextInt(n), rnd.nextInt(n), rnd.nextInt(100));
+        }
+        BlockedAdjacencyMatrix matrix = BlockedAdjacencyMatrix.fromGraph(graph, 64);
+
+        assertEquals(16, matrix.getSegmentCount());
+        long edges = 0;
+        for (int tile = 0; tile < matrix.getTileCount(); tile++) {
+            assertTrue(matrix.tileEdgeCount(tile) > 0);
+            edges += matrix.tileEdgeCount(tile);
+        }
+        assertEquals(graph.getEdges().size(), edges);
+        assertEquals(matrix.getTileCount(), matrix.rowTileStart(matrix.getSegmentCount()));
+    }
+
+    @Test
+    void testMatchesSequentialWithNegativeEdges() {
+        // Ваги через потенціали: w = c + p[u] - p[v], c >= 0, тож від’ємних циклів немає
+        int n = 3000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(22);
+        int[] potential = new int[n];
+        for (int v = 0; v < n; v++) {
+            potential[v] = rnd.nextInt(1000);
+        }
+        for (int i = 0; i < 6 * n; i++) {
+            int u = rnd.nextInt(n);
+            int v = rnd.nextInt(n);
+            graph.addEdge(u, v, rnd.nextInt(50) + potential[u] - potential[v]);
+        }
+
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertNotNull(expected);
+        assertArrayEquals(expected, new MinPlusSpmvBellmanFord(4, 64).findShortestPaths(graph, 0));
+        assertArrayEquals(expected, new MinPlusSpmvBellmanFord(3).findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testSkipsTilesOfUnchangedSegments() {
+        // Ланцюжок: у кожному раунді змінюється лише один сегмент, тож майже всі плитки пропускаються
+        int n = 64 * 20;
+        Graph graph = new Graph(n);
+        for (int v = 0; v + 1 < n; v++) {
+            graph.addEdge(v, v + 1, 1);
+        }
+        MinPlusSpmvBellmanFord engine = new MinPlusSpmvBellmanFord(2, 64);
+
+        int[] dist = engine.findShortestPaths(graph, 0);
+
+        assertEquals(n - 1, dist[n - 1]);
+        assertTrue(engine.getLastTilesSkipped() > engine.getLastTilesMultiplied(),
+                engine.getLastTilesSkipped() + " skipped vs " + engine.getLastTilesMultiplied());
+        // Кожен раунд множить не більше двох плиток (діагональну й ту, що переходить у наступний сегмент)
+        assertTrue(engine.getLastTilesMultiplied() <= 2L * engine.getLastIterations());
+    }
+
+    @Test
+    void testNegativeCycle() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, -1);
+        graph.addEdge(2, 1, -1);
+        graph.addEdge(2, 3, 1);
+
+        assertNull(new MinPlusSpmvBellmanFord().findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testRejectsBadSegmentSize() {
+        Graph graph = new Graph(3);
+
+        assertThrows(IllegalArgumentException.class, () -> BlockedAdjacencyMatrix.fromGraph(graph, 100));
+        assertThrows(IllegalArgumentException.class, () -> BlockedAdjacencyMatrix.fromGraph(graph, 1 << 17));
+    }
+}
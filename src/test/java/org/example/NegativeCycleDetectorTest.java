@@ -0,0 +1,166 @@
+package org.example;
+
+import org.example.algorithm.NegativeCycleDetector;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NegativeCycleDetectorTest {
+
+    @Test
+    void testNoNegativeCycle() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(1, 2, -2);
+        graph.addEdge(2, 0, 1);
+        graph.addEdge(2, 3, -7);
+
+        NegativeCycleDetector detector = new NegativeCycleDetector();
+        assertTrue(detector.findAllCycles(graph).isEmpty());
+        assertNull(detector.findFirstCycle(graph));
+    }
+
+    @Test
+    void testCycleUnreachableFromZero() {
+        Graph graph = new Graph(6);
+        graph.addEdge(0, 1, 5);
+        // Цикл 3→4→5→3 недосяжний з вершини 0
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(5, 3, -4);
+
+        List<Integer> cycle = new NegativeCycleDetector().findFirstCycle(graph);
+
+        assertNotNull(cycle);
+        assertEquals(Set.of(3, 4, 5), new HashSet<>(cycle));
+        assertTrue(cycleWeight(graph, cycle) < 0, "Cycle must be negative");
+    }
+
+    @Test
+    void testAllDisjointCycles() {
+        Graph graph = new Graph(7);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(1, 0, -3);   // цикл 0↔1
+        graph.addEdge(1, 2, 4);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 2, -5);   // цикл 2→3→4→2
+        graph.addEdge(5, 6, 1);    // без циклу
+
+        List<List<Integer>> cycles = new NegativeCycleDetector(2).findAllCycles(graph);
+
+        assertEquals(2, cycles.size());
+        Set<Integer> seen = new HashSet<>();
+        for (List<Integer> cycle : cycles) {
+            assertTrue(cycleWeight(graph, cycle) < 0, "Cycle must be negative");
+            for (int v : cycle) {
+                assertTrue(seen.add(v), "Cycles must be vertex-disjoint");
+            }
+        }
+    }
+
+    @Test
+    void testLargeRandomGraphFindsHiddenCycle() {
+        int n = 3000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(7);
+        // Ваги >= 1, тож будь-який цикл із випадковим ребром невід’ємний: від’ємний цикл рівно один
+        for (int i = 0; i < 4 * n; i++) {
+            graph.addEdge(rnd.nextInt(n), rnd.nextInt(n), 1 + rnd.nextInt(100));
+        }
+        graph.addEdge(10, 20, -1);
+        graph.addEdge(20, 30, 0);
+        graph.addEdge(30, 10, 0);
+
+        List<List<Integer>> cycles = new NegativeCycleDetector(4).findAllCycles(graph);
+
+        assertEquals(1, cycles.size());
+        assertEquals(Set.of(10, 20, 30), new HashSet<>(cycles.get(0)));
+        assertTrue(cycleWeight(graph, cycles.get(0)) < 0, "Cycle must be negative");
+    }
+
+    @Test
+    void testRandomGraphMatchesPerVertexCheck() {
+        // Розріджений граф, щоб цикли були досяжні лише з частини вершин
+        int n = 400;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(8);
+        for (int i = 0; i < n; i++) {
+            graph.addEdge(rnd.nextInt(n), rnd.nextInt(n), 1 + rnd.nextInt(100));
+        }
+        graph.addEdge(10, 20, -1);
+        graph.addEdge(20, 30, 0);
+        graph.addEdge(30, 10, 0);
+        graph.addEdge(200, 201, 0);
+        graph.addEdge(201, 200, -1);
+
+        List<List<Integer>> cycles = new NegativeCycleDetector(4).findAllCycles(graph);
+
+        Set<Integer> onCycles = new HashSet<>();
+        for (List<Integer> cycle : cycles) {
+            assertTrue(cycleWeight(graph, cycle) < 0, "Cycle must be negative");
+            onCycles.addAll(cycle);
+        }
+        assertEquals(Set.of(10, 20, 30, 200, 201), onCycles);
+        // Перевірка по вершинах: Bellman-Ford із v бачить цикл, лише якщо v досягає знайденого циклу
+        SequentialBellmanFord sequential = new SequentialBellmanFord();
+        int reaching = 0;
+        for (int v = 0; v < n; v++) {
+            boolean reachesReported = false;
+            for (List<Integer> cycle : cycles) {
+                reachesReported |= reaches(graph, v, cycle.get(0));
+            }
+            assertEquals(reachesReported, sequential.findShortestPaths(graph, v) == null, "vertex " + v);
+            reaching += reachesReported ? 1 : 0;
+        }
+        assertTrue(reaching > 5 && reaching < n, "Both kinds of vertices must be present: " + reaching);
+    }
+
+    /** Чи досяжна target з source (пошук у ширину по списку ребер) */
+    private static boolean reaches(Graph graph, int source, int target) {
+        boolean[] seen = new boolean[graph.getVertexCount()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        seen[source] = true;
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            if (u == target) {
+                return true;
+            }
+            for (Edge e : graph.getEdges()) {
+                if (e.getU() == u && !seen[e.getV()]) {
+                    seen[e.getV()] = true;
+                    queue.add(e.getV());
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Вага циклу з найлегшими паралельними ребрами */
+    private static long cycleWeight(Graph graph, List<Integer> cycle) {
+        long total = 0;
+        for (int i = 0; i < cycle.size(); i++) {
+            int u = cycle.get(i);
+            int v = cycle.get((i + 1) % cycle.size());
+            int best = Integer.MAX_VALUE;
+            for (Edge e : graph.getEdges()) {
+                if (e.getU() == u && e.getV() == v) {
+                    best = Math.min(best, e.getWeight());
+                }
+            }
+            assertNotEquals(Integer.MAX_VALUE, best, "Missing edge " + u + "->" + v);
+            total += best;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,136 @@
+package org.example;
+
+import org.example.algorithm.ParallelBellmanFordLong;
+import org.example.algorithm.SaturatingBellmanFord;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.algorithm.SequentialBellmanFordLong;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OverflowSafeBFTest {
+
+    /** Ланцюжок 0 → 1 → 2 → 3 з вагами по 10^9: сума виходить за межі int */
+    private static Graph heavyChain() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 1_000_000_000);
+        graph.addEdge(1, 2, 1_000_000_000);
+        graph.addEdge(2, 3, 1_000_000_000);
+        return graph;
+    }
+
+    @Test
+    void testLongEnginesDoNotOverflow() {
+        long[] expected = {0, 1_000_000_000L, 2_000_000_000L, 3_000_000_000L};
+
+        assertArrayEquals(expected, new SequentialBellmanFordLong().findShortestPaths(heavyChain(), 0));
+        assertArrayEquals(expected, new ParallelBellmanFordLong(2).findShortestPaths(heavyChain(), 0));
+    }
+
+    @Test
+    void testSaturatingEngineClampsInsteadOfWrapping() {
+        int[] dist = new SaturatingBellmanFord().findShortestPaths(heavyChain(), 0);
+
+        assertNotNull(dist);
+        assertEquals(2_000_000_000, dist[2]);
+        assertEquals(SaturatingBellmanFord.MAX_FINITE, dist[3], "Має насититись, а не стати від’ємним");
+    }
+
+    @Test
+    void testSaturatedDistanceFeedingNegativeEdge() {
+        // Насичена вершина 2 з від’ємним ребром: у int відповідь не визначити
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 2_000_000_000);
+        graph.addEdge(1, 2, 2_000_000_000);
+        graph.addEdge(2, 3, -1_000_000_000);
+
+        assertArrayEquals(new long[]{0, 2_000_000_000L, 4_000_000_000L, 3_000_000_000L},
+                new SequentialBellmanFordLong().findShortestPaths(graph, 0));
+        assertThrows(ArithmeticException.class, () -> new SaturatingBellmanFord().findShortestPaths(graph, 0));
+
+        // Коротший обхід 0 -> 3 робить від’ємне ребро неважливим: насичення лишається у вершині 2
+        graph.addEdge(0, 3, 5);
+        assertArrayEquals(new int[]{0, 2_000_000_000, SaturatingBellmanFord.MAX_FINITE, 5},
+                new SaturatingBellmanFord().findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testAcyclicUnderflowIsNotANegativeCycle() {
+        // Циклу немає, але відстань до 2 (-4·10^9) не вміщається в int
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, -2_000_000_000);
+        graph.addEdge(1, 2, -2_000_000_000);
+        graph.addEdge(2, 3, 2_000_000_000);
+
+        assertArrayEquals(new long[]{0, -2_000_000_000L, -4_000_000_000L, -2_000_000_000L},
+                new SequentialBellmanFordLong().findShortestPaths(graph, 0));
+        assertThrows(ArithmeticException.class, () -> new SaturatingBellmanFord().findShortestPaths(graph, 0));
+
+        // Межа досяжна точно: MIN_FINITE ще повертається
+        Graph edge = new Graph(2);
+        edge.addEdge(0, 1, SaturatingBellmanFord.MIN_FINITE);
+        assertArrayEquals(new int[]{0, SaturatingBellmanFord.MIN_FINITE},
+                new SaturatingBellmanFord().findShortestPaths(edge, 0));
+    }
+
+    @Test
+    void testDisconnectedGraph() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 5);
+
+        assertArrayEquals(new long[]{0, 5, Long.MAX_VALUE}, new SequentialBellmanFordLong().findShortestPaths(graph, 0));
+        assertArrayEquals(new long[]{0, 5, Long.MAX_VALUE}, new ParallelBellmanFordLong(2).findShortestPaths(graph, 0));
+        assertArrayEquals(new int[]{0, 5, Integer.MAX_VALUE}, new SaturatingBellmanFord().findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testMatchIntEngineWithoutOverflow() {
+        int n = 2000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(8);
+        for (int i = 0; i < 10_000; i++) {
+            int u = rnd.nextInt(n);
+            int v = rnd.nextInt(n);
+            if (u != v) {
+                graph.addEdge(Math.min(u, v), Math.max(u, v), rnd.nextInt(100) - 20);
+            }
+        }
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertNotNull(expected);
+        long[] seqLong = new SequentialBellmanFordLong().findShortestPaths(graph, 0);
+        long[] parLong = new ParallelBellmanFordLong(3).findShortestPaths(graph, 0);
+
+        assertArrayEquals(expected, new SaturatingBellmanFord().findShortestPaths(graph, 0));
+        for (int v = 0; v < n; v++) {
+            long want = expected[v] == Integer.MAX_VALUE ? Long.MAX_VALUE : expected[v];
+            assertEquals(want, seqLong[v]);
+            assertEquals(want, parLong[v]);
+        }
+    }
+
+    @Test
+    void testNegativeCycle() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, -5);
+
+        assertNull(new SequentialBellmanFordLong().findShortestPaths(graph, 0));
+        assertNull(new ParallelBellmanFordLong(2).findShortestPaths(graph, 0));
+        assertNull(new SaturatingBellmanFord().findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testSaturatedNegativeCycleIsStillDetected() {
+        // Цикл такої ваги, що відстані швидко впираються в Integer.MIN_VALUE
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, -2_000_000_000);
+        graph.addEdge(1, 2, -2_000_000_000);
+        graph.addEdge(2, 1, 0);
+
+        assertNull(new SaturatingBellmanFord().findShortestPaths(graph, 0));
+    }
+}
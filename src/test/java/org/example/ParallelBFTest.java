@@ -1,9 +1,16 @@
 package org.example;
 
 import org.example.algorithm.ParallelBellmanFord;
+import org.example.algorithm.ParallelCalibration;
+import org.example.algorithm.SequentialBellmanFord;
 import org.example.model.Graph;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ParallelBFTest {
@@ -55,4 +62,195 @@ class ParallelBFTest {
         // Оскільки є від’ємний цикл, метод має повернути null
         assertNull(dist);
     }
+
+    @Test
+    void testNegativeCycleOnLongChain() {
+        // Довгий ланцюжок змушує пройти всі n - 1 ітерацій до фінальної перевірки
+        int n = 2000;
+        Graph graph = new Graph(n);
+        for (int v = 0; v + 1 < n; v++) {
+            graph.addEdge(v, v + 1, 1);
+        }
+        graph.addEdge(n - 1, n - 2, -2); // від’ємний цикл у самому кінці
+
+        assertNull(new ParallelBellmanFord().findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testMatchesSequentialOnRandomGraph() {
+        int n = 1000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            graph.addEdge(rnd.nextInt(n), rnd.nextInt(n), rnd.nextInt(100));
+        }
+
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        int[] actual = new ParallelBellmanFord().findShortestPaths(graph, 0);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testOwnerComputesMatchesSequential() {
+        int n = 5000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(3);
+        for (int i = 0; i < 25000; i++) {
+            graph.addEdge(rnd.nextInt(n), rnd.nextInt(n), rnd.nextInt(100));
+        }
+
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        int[] actual = new ParallelBellmanFord(ParallelBellmanFord.Mode.OWNER_COMPUTES, 4)
+                .findShortestPaths(graph, 0);
+
+        assertNotNull(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testOwnerComputesNegativeCycle() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, -5);
+
+        assertNull(new ParallelBellmanFord(ParallelBellmanFord.Mode.OWNER_COMPUTES, 2).findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testAsyncInPlaceMatchesSequentialInFewerIterations() {
+        // Ребра ланцюжка в порядку, зручному для релаксації на місці
+        int n = 3000;
+        Graph graph = new Graph(n);
+        for (int v = 0; v + 1 < n; v++) {
+            graph.addEdge(v, v + 1, v % 7 - 2);
+        }
+
+        ParallelBellmanFord jacobi = new ParallelBellmanFord(ParallelBellmanFord.Mode.OWNER_COMPUTES, 2);
+        ParallelBellmanFord async = new ParallelBellmanFord(ParallelBellmanFord.Mode.ASYNC_IN_PLACE, 2);
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+
+        assertArrayEquals(expected, jacobi.findShortestPaths(graph, 0));
+        assertArrayEquals(expected, async.findShortestPaths(graph, 0));
+        assertTrue(async.getLastIterationCount() < jacobi.getLastIterationCount());
+    }
+
+    @Test
+    void testAsyncInPlaceNegativeCycle() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, -5);
+
+        assertNull(new ParallelBellmanFord(ParallelBellmanFord.Mode.ASYNC_IN_PLACE, 2).findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testHopBoundedPaths() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 3, 10);  // пряме дороге ребро
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);   // дешевий шлях із 3 ребер
+
+        ParallelBellmanFord bf = new ParallelBellmanFord(ParallelBellmanFord.Mode.ASYNC_IN_PLACE, 2);
+
+        assertArrayEquals(new int[]{0, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE},
+                bf.findHopBoundedPaths(graph, 0, 0));
+        assertArrayEquals(new int[]{0, 1, Integer.MAX_VALUE, 10}, bf.findHopBoundedPaths(graph, 0, 1));
+        assertArrayEquals(new int[]{0, 1, 2, 10}, bf.findHopBoundedPaths(graph, 0, 2));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, bf.findHopBoundedPaths(graph, 0, 3));
+    }
+
+    @Test
+    void testHopBoundedPathsWithNegativeCycleAndRoundCap() {
+        int n = 10_000;
+        Graph graph = new Graph(n);
+        for (int v = 0; v + 1 < n; v++) {
+            graph.addEdge(v, v + 1, 1);
+        }
+        graph.addEdge(2, 1, -5); // від’ємний цикл 1↔2
+
+        ParallelBellmanFord bf = new ParallelBellmanFord(ParallelBellmanFord.Mode.OWNER_COMPUTES, 2);
+        int[] dist = bf.findHopBoundedPaths(graph, 0, 5);
+
+        assertNotNull(dist);
+        assertEquals(5, bf.getLastIterationCount());
+        assertEquals(-7, dist[1]);  // 0→1→2→1→2→1
+        assertEquals(-2, dist[2]);  // 0→1→2→1→2
+        assertEquals(-1, dist[3]);  // 0→1→2→1→2→3
+        assertEquals(4, dist[4]);   // по циклу вже не вистачає ребер
+        assertEquals(5, dist[5]);
+        assertEquals(Integer.MAX_VALUE, dist[6]);
+    }
+
+    @Test
+    void testAdaptiveMatchesSequentialInBothRoundKinds() {
+        int n = 5000;
+        Graph graph = TestGraphs.potentialGraph(n, 8 * n, new Random(9));
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+
+        // Дешеві бар’єри: великі раунди паралельні; дорогі – усі раунди послідовні
+        ParallelBellmanFord cheapBarriers = new ParallelBellmanFord(4,
+                new ParallelCalibration(1.0, 1.0, new long[]{0, 0, 10, 10, 10}));
+        ParallelBellmanFord costlyBarriers = new ParallelBellmanFord(4,
+                new ParallelCalibration(1.0, 1.0, new long[]{0, 0, Long.MAX_VALUE / 4}));
+
+        assertArrayEquals(expected, cheapBarriers.findShortestPaths(graph, 0));
+        assertTrue(cheapBarriers.getLastSequentialRoundCount() < cheapBarriers.getLastIterationCount());
+        assertArrayEquals(expected, costlyBarriers.findShortestPaths(graph, 0));
+        assertEquals(costlyBarriers.getLastIterationCount(), costlyBarriers.getLastSequentialRoundCount());
+    }
+
+    @Test
+    void testAdaptiveNegativeCycle() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, -5);
+
+        ParallelCalibration parallel = new ParallelCalibration(1.0, 1.0, new long[]{0, 0, 0});
+        assertNull(new ParallelBellmanFord(2, parallel).findShortestPaths(graph, 0));
+        assertNull(new ParallelBellmanFord(ParallelBellmanFord.Mode.ADAPTIVE, 2).findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testCalibrationChoosesThreadsByActiveEdges() {
+        // Бар’єр 50 мкс: до ~100K ребер вигідніше послідовно
+        ParallelCalibration calibration = new ParallelCalibration(1.0, 1.5,
+                new long[]{0, 0, 50_000, 60_000, 70_000});
+
+        assertEquals(1, calibration.chooseThreads(0, 4));
+        assertEquals(1, calibration.chooseThreads(2000, 4));
+        assertEquals(1, calibration.chooseThreads(1_000_000, 1));
+        assertEquals(4, calibration.chooseThreads(10_000_000, 4));
+        assertTrue(calibration.getBreakEvenEdges(4) > 2000);
+        // Для кількості потоків понад виміряну ціна бар’єра екстраполюється
+        assertEquals(140_000, calibration.getBarrierNanos(8));
+    }
+
+    @Test
+    void testCalibrationPersistsToFile() throws IOException {
+        Path dir = Files.createTempDirectory("bf-calibration");
+        Path file = dir.resolve("nested").resolve("calibration.properties");
+        try {
+            ParallelCalibration measured = ParallelCalibration.measure(2);
+            measured.save(file);
+            ParallelCalibration loaded = ParallelCalibration.load(file);
+
+            assertEquals(measured.getEdgeNanos(), loaded.getEdgeNanos());
+            assertEquals(measured.getAtomicEdgeNanos(), loaded.getAtomicEdgeNanos());
+            assertEquals(measured.getBarrierNanos(2), loaded.getBarrierNanos(2));
+            assertEquals(measured.getProcessors(), loaded.getProcessors());
+            assertTrue(loaded.getEdgeNanos() > 0);
+
+            Files.writeString(file, "format=1\nedgeNanos=oops\n");
+            assertThrows(IOException.class, () -> ParallelCalibration.load(file));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(file.getParent());
+            Files.deleteIfExists(dir);
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package org.example;
+
+import org.example.algorithm.LabelPropagationPartitioner;
+import org.example.algorithm.PartitionedBellmanFord;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionedBFTest {
+
+    @Test
+    void testPartitionerCutsFewerEdgesThanIndexChunking() {
+        Graph graph = shuffledGrid(60, 5);
+        int n = graph.getVertexCount();
+        int parts = 4;
+
+        int[] part = new LabelPropagationPartitioner(2, 10, 0.05).partition(graph, parts);
+        int[] chunks = new int[n];
+        int[] sizes = new int[parts];
+        for (int v = 0; v < n; v++) {
+            chunks[v] = (int) ((long) v * parts / n);
+            sizes[part[v]]++;
+        }
+        for (int size : sizes) {
+            assertTrue(size <= Math.ceil(n / (double) parts * 1.05), "partition too large: " + size);
+        }
+        assertTrue(LabelPropagationPartitioner.cutEdges(graph, part) * 4
+                < LabelPropagationPartitioner.cutEdges(graph, chunks));
+    }
+
+    @Test
+    void testMatchesSequentialOnRandomGraph() {
+        Random rnd = new Random(7);
+        int n = 3000;
+        Graph graph = new Graph(n);
+        for (int i = 0; i < 15000; i++) {
+            int u = rnd.nextInt(n);
+            int v = rnd.nextInt(n);
+            // Від’ємні ваги лише на ребрах «вперед», тож від’ємних циклів немає
+            graph.addEdge(u, v, u < v ? rnd.nextInt(100) - 10 : rnd.nextInt(100));
+        }
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertNotNull(expected);
+
+        PartitionedBellmanFord bf = new PartitionedBellmanFord(4);
+        assertArrayEquals(expected, bf.findShortestPaths(graph, 0));
+        // Друге джерело – розбиття береться з кешу
+        assertArrayEquals(new SequentialBellmanFord().findShortestPaths(graph, 11), bf.findShortestPaths(graph, 11));
+        assertTrue(bf.getCutFraction() > 0);
+    }
+
+    @Test
+    void testMatchesSequentialOnGrid() {
+        Graph graph = shuffledGrid(50, 9);
+        PartitionedBellmanFord bf = new PartitionedBellmanFord(3);
+        assertArrayEquals(new SequentialBellmanFord().findShortestPaths(graph, 0), bf.findShortestPaths(graph, 0));
+        assertTrue(bf.getLastRoundCount() < graph.getVertexCount());
+    }
+
+    @Test
+    void testNegativeCycleAcrossPartitions() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 0, -5);
+
+        assertNull(new PartitionedBellmanFord(4).findShortestPaths(graph, 0));
+        assertNull(new PartitionedBellmanFord(1).findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testUnreachableVerticesStayInfinite() {
+        Graph graph = new Graph(5);
+        graph.addEdge(0, 1, 4);
+        graph.addEdge(3, 4, -2);
+
+        int[] dist = new PartitionedBellmanFord(2).findShortestPaths(graph, 0);
+        assertArrayEquals(new int[]{0, 4, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE}, dist);
+    }
+
+    /** Решітка side × side з двонапрямленими ребрами і випадково переставленими номерами вершин */
+    private static Graph shuffledGrid(int side, long seed) {
+        int n = side * side;
+        Random rnd = new Random(seed);
+        int[] id = new int[n];
+        for (int i = 0; i < n; i++) {
+            id[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int tmp = id[i];
+            id[i] = id[j];
+            id[j] = tmp;
+        }
+        Graph graph = new Graph(n);
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c;
+                if (c + 1 < side) {
+                    graph.addEdge(id[v], id[v + 1], 1 + rnd.nextInt(20));
+                    graph.addEdge(id[v + 1], id[v], 1 + rnd.nextInt(20));
+                }
+                if (r + 1 < side) {
+                    graph.addEdge(id[v], id[v + side], 1 + rnd.nextInt(20));
+                    graph.addEdge(id[v + side], id[v], 1 + rnd.nextInt(20));
+                }
+            }
+        }
+        return graph;
+    }
+}
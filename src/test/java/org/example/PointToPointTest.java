@@ -0,0 +1,114 @@
+package org.example;
+
+import org.example.algorithm.PointToPointShortestPaths;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointToPointTest {
+
+    @Test
+    void testSimpleGraph() {
+        Graph graph = new Graph(5);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(0, 2, 8);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(2, 3, -4);
+        graph.addEdge(3, 4, 1);
+
+        PointToPointShortestPaths engine = new PointToPointShortestPaths();
+
+        assertEquals(5, engine.distance(graph, 0, 4));
+        assertEquals(4, engine.distance(graph, 0, 3));
+        assertEquals(0, engine.distance(graph, 2, 2));
+        assertArrayEquals(new int[]{0, 3, 8, 4, 5}, engine.findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testUnreachableTarget() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 5);
+
+        PointToPointShortestPaths engine = new PointToPointShortestPaths();
+
+        assertEquals(Integer.MAX_VALUE, engine.distance(graph, 0, 2));
+        assertEquals(Integer.MAX_VALUE, engine.distance(graph, 1, 0));
+    }
+
+    @Test
+    void testMatchesSequentialWithNonNegativeWeights() {
+        int n = 2000;
+        Graph graph = TestGraphs.potentialGraph(n, 5 * n, 1, new Random(42));
+        assertAllPairsMatch(graph, n, new Random(1));
+    }
+
+    @Test
+    void testMatchesSequentialWithNegativeEdges() {
+        int n = 2000;
+        Graph graph = TestGraphs.potentialGraph(n, 5 * n, new Random(7));
+        assertAllPairsMatch(graph, n, new Random(2));
+    }
+
+    @Test
+    void testSearchStopsEarly() {
+        // Ланцюжок 0 -> 1 -> ... -> n-1: запит 0 -> 1 не має обходити весь граф
+        int n = 10_000;
+        Graph graph = new Graph(n);
+        for (int v = 0; v + 1 < n; v++) {
+            graph.addEdge(v, v + 1, 1);
+        }
+        PointToPointShortestPaths engine = new PointToPointShortestPaths();
+
+        assertEquals(1, engine.distance(graph, 0, 1));
+        assertTrue(engine.getLastSettledCount() < 10);
+        assertEquals(n - 1, engine.distance(graph, 0, n - 1));
+    }
+
+    @Test
+    void testNegativeCycle() {
+        Graph graph = new Graph(5);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, -1);
+        graph.addEdge(2, 1, -1);
+        graph.addEdge(3, 4, 2);
+
+        PointToPointShortestPaths engine = new PointToPointShortestPaths();
+
+        assertNull(engine.distance(graph, 0, 2));
+        // Цикл недосяжний з 3, тож відповідь для 3 -> 4 коректна
+        assertEquals(2, engine.distance(graph, 3, 4));
+        assertNull(engine.findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testCacheResetsWhenGraphChanges() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 4);
+        graph.addEdge(1, 2, 4);
+        PointToPointShortestPaths engine = new PointToPointShortestPaths();
+        assertEquals(8, engine.distance(graph, 0, 2));
+
+        graph.addEdge(0, 2, -1);
+        assertEquals(-1, engine.distance(graph, 0, 2));
+    }
+
+    private static void assertAllPairsMatch(Graph graph, int n, Random rnd) {
+        PointToPointShortestPaths engine = new PointToPointShortestPaths();
+        SequentialBellmanFord reference = new SequentialBellmanFord();
+        for (int q = 0; q < 20; q++) {
+            int source = rnd.nextInt(n);
+            int[] expected = reference.findShortestPaths(graph, source);
+            assertNotNull(expected);
+            assertArrayEquals(expected, engine.findShortestPaths(graph, source));
+            for (int k = 0; k < 10; k++) {
+                int target = rnd.nextInt(n);
+                assertEquals(expected[target], engine.distance(graph, source, target),
+                        "запит " + source + " -> " + target);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.example;
+
+import org.example.algorithm.RandomizedBellmanFord;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomizedBFTest {
+
+    @Test
+    void testSimpleGraph() {
+        Graph graph = new Graph(5);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(0, 2, 8);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(2, 3, -4);
+        graph.addEdge(3, 4, 1);
+
+        int[] dist = new RandomizedBellmanFord(1).findShortestPaths(graph, 0);
+
+        assertArrayEquals(new int[]{0, 3, 8, 4, 5}, dist);
+    }
+
+    @Test
+    void testMatchesSequentialAndIsReproducible() {
+        int n = 3000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(9);
+        for (int i = 0; i < 5 * n; i++) {
+            int u = rnd.nextInt(n);
+            int v = rnd.nextInt(n);
+            // Ребра лише від меншого номера до більшого: від’ємні ваги без циклів
+            graph.addEdge(Math.min(u, v), Math.max(u, v), rnd.nextInt(60) - 20);
+        }
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertNotNull(expected);
+
+        RandomizedBellmanFord first = new RandomizedBellmanFord(123);
+        RandomizedBellmanFord second = new RandomizedBellmanFord(123);
+        assertArrayEquals(expected, first.findShortestPaths(graph, 0));
+        assertArrayEquals(expected, second.findShortestPaths(graph, 0));
+        assertEquals(first.getLastPassCount(), second.getLastPassCount());
+    }
+
+    @Test
+    void testFewerPassesOnLongPath() {
+        // Шлях, ребра якого записано у зворотному порядку – найгірший випадок для послідовної версії
+        int n = 1000;
+        Graph graph = new Graph(n);
+        for (int v = n - 2; v >= 0; v--) {
+            graph.addEdge(v, v + 1, 1);
+        }
+        SequentialBellmanFord seq = new SequentialBellmanFord();
+        RandomizedBellmanFord rbf = new RandomizedBellmanFord(7);
+
+        assertArrayEquals(seq.findShortestPaths(graph, 0), rbf.findShortestPaths(graph, 0));
+        assertTrue(rbf.getLastPassCount() < seq.getLastPassCount() / 2,
+                "randomized=" + rbf.getLastPassCount() + ", sequential=" + seq.getLastPassCount());
+    }
+
+    @Test
+    void testNegativeCycle() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, -5);
+
+        assertNull(new RandomizedBellmanFord(1).findShortestPaths(graph, 0));
+    }
+}
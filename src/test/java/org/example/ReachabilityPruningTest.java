@@ -0,0 +1,88 @@
+package org.example;
+
+import org.example.algorithm.ParallelBellmanFord;
+import org.example.algorithm.PrunedShortestPaths;
+import org.example.algorithm.ReachabilityPruning;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.model.RelabeledGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReachabilityPruningTest {
+
+    @Test
+    void testPrunedGraphContainsOnlyReachableVertices() {
+        Graph graph = new Graph(6);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(1, 2, 3);
+        graph.addEdge(3, 0, 1);   // 3 недосяжна з 0
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 5, 1);
+
+        RelabeledGraph pruned = ReachabilityPruning.prune(graph, 0, 2);
+        assertEquals(3, pruned.getGraph().getVertexCount());
+        assertEquals(2, pruned.getGraph().getEdges().size());
+        assertEquals(0, pruned.toNewId(0));
+        for (int v = 3; v < 6; v++) {
+            assertEquals(-1, pruned.toNewId(v));
+        }
+        for (Edge e : pruned.getGraph().getEdges()) {
+            assertTrue(e.getU() < 3 && e.getV() < 3);
+        }
+    }
+
+    @Test
+    void testPrunedResultsMatchFullRun() {
+        // Достатньо великий граф, щоб рівні BFS оброблялися кількома потоками
+        Graph graph = partlyReachableGraph(50_000, 200_000, 20_000, 3);
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertNotNull(expected);
+
+        assertArrayEquals(expected, new PrunedShortestPaths(new SequentialBellmanFord(), 4)
+                .findShortestPaths(graph, 0));
+        assertArrayEquals(expected, new PrunedShortestPaths(
+                new ParallelBellmanFord(ParallelBellmanFord.Mode.OWNER_COMPUTES, 4), 4)
+                .findShortestPaths(graph, 0));
+    }
+
+    @Test
+    void testUnreachableNegativeCycleIsIgnored() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(2, 3, -1);
+        graph.addEdge(3, 2, -1);
+
+        int[] dist = new PrunedShortestPaths(new SequentialBellmanFord()).findShortestPaths(graph, 0);
+        assertArrayEquals(new int[]{0, 5, Integer.MAX_VALUE, Integer.MAX_VALUE}, dist);
+    }
+
+    @Test
+    void testReachableNegativeCycleStaysNull() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, -3);
+        graph.addEdge(2, 1, 1);
+
+        assertNull(new PrunedShortestPaths(new SequentialBellmanFord()).findShortestPaths(graph, 0));
+    }
+
+    private static Graph partlyReachableGraph(int n, int m, int reachable, long seed) {
+        Random rnd = new Random(seed);
+        Graph graph = new Graph(n);
+        for (int i = 0; i < m / 2; i++) {
+            int u = rnd.nextInt(reachable);
+            int v = rnd.nextInt(reachable);
+            // Від’ємні ваги лише на ребрах «вперед», тож від’ємних циклів немає
+            graph.addEdge(u, v, u < v ? rnd.nextInt(100) - 10 : rnd.nextInt(100));
+        }
+        for (int i = m / 2; i < m; i++) {
+            graph.addEdge(reachable + rnd.nextInt(n - reachable), rnd.nextInt(n), rnd.nextInt(100) - 50);
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,134 @@
+package org.example;
+
+import org.example.algorithm.Semiring;
+import org.example.algorithm.SemiringBellmanFord;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.model.CsrGraph;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SemiringBFTest {
+
+    @Test
+    void testMinPlusMatchesSequential() {
+        // Більше за одну пачку вершин, тож паралельний драйвер справді ділить роботу
+        int n = 10_000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(31);
+        int[] potential = new int[n];
+        for (int v = 0; v < n; v++) {
+            potential[v] = rnd.nextInt(1000);
+        }
+        for (int i = 0; i < 5 * n; i++) {
+            int u = rnd.nextInt(n);
+            int v = rnd.nextInt(n);
+            graph.addEdge(u, v, rnd.nextInt(50) + potential[u] - potential[v]);
+        }
+
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertNotNull(expected);
+        assertArrayEquals(expected, SemiringBellmanFord.sequential(Semiring.MIN_PLUS).findPaths(graph, 0));
+        assertArrayEquals(expected, SemiringBellmanFord.parallel(Semiring.MIN_PLUS, 4).findPaths(graph, 0));
+    }
+
+    @Test
+    void testMaxMinBottleneck() {
+        // 0 -> 1 -> 3 має вузьке місце 5, 0 -> 2 -> 3 – 7; до 4 лише через 3 і ребро 2
+        Graph graph = new Graph(6);
+        graph.addEdge(0, 1, 10);
+        graph.addEdge(1, 3, 5);
+        graph.addEdge(0, 2, 7);
+        graph.addEdge(2, 3, 9);
+        graph.addEdge(3, 4, 2);
+
+        int[] width = SemiringBellmanFord.sequential(Semiring.MAX_MIN).findPaths(graph, 0);
+
+        assertArrayEquals(new int[]{Integer.MAX_VALUE, 10, 7, 7, 2, Integer.MIN_VALUE}, width);
+    }
+
+    @Test
+    void testMaxTimesReliability() {
+        // Ймовірності у тисячних: 0.9 * 0.9 = 0.81 краще за пряме 0.5
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 900);
+        graph.addEdge(1, 2, 900);
+        graph.addEdge(0, 2, 500);
+        graph.addEdge(2, 0, 1000);
+
+        double[] reliability = SemiringBellmanFord.sequential(Semiring.maxTimes(1000)).findPaths(graph, 0);
+
+        assertEquals(1.0, reliability[0]);
+        assertEquals(0.9, reliability[1], 1e-12);
+        assertEquals(0.81, reliability[2], 1e-12);
+        assertEquals(0.0, reliability[3]);
+    }
+
+    @Test
+    void testDriversAgreeOnAllSemirings() {
+        int n = 9000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(32);
+        for (int i = 0; i < 4 * n; i++) {
+            graph.addEdge(rnd.nextInt(n), rnd.nextInt(n), rnd.nextInt(1001));
+        }
+
+        assertArrayEquals(SemiringBellmanFord.sequential(Semiring.MAX_MIN).findPaths(graph, 0),
+                SemiringBellmanFord.parallel(Semiring.MAX_MIN, 3).findPaths(graph, 0));
+        assertArrayEquals(SemiringBellmanFord.sequential(Semiring.maxTimes(1000)).findPaths(graph, 0),
+                SemiringBellmanFord.parallel(Semiring.maxTimes(1000), 3).findPaths(graph, 0));
+    }
+
+    @Test
+    void testMaxMinMatchesBruteForce() {
+        // Наївна нерухома точка по списку ребер
+        int n = 60;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(33);
+        for (int i = 0; i < 200; i++) {
+            graph.addEdge(rnd.nextInt(n), rnd.nextInt(n), rnd.nextInt(100));
+        }
+        int[] expected = new int[n];
+        Arrays.fill(expected, Integer.MIN_VALUE);
+        expected[0] = Integer.MAX_VALUE;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Edge e : graph.getEdges()) {
+                int candidate = Math.min(expected[e.getU()], e.getWeight());
+                if (candidate > expected[e.getV()]) {
+                    expected[e.getV()] = candidate;
+                    changed = true;
+                }
+            }
+        }
+
+        assertArrayEquals(expected, SemiringBellmanFord.sequential(Semiring.MAX_MIN).findPaths(graph, 0));
+    }
+
+    @Test
+    void testNegativeCycle() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, -1);
+        graph.addEdge(2, 1, -1);
+        graph.addEdge(2, 3, 1);
+
+        assertNull(SemiringBellmanFord.sequential(Semiring.MIN_PLUS).findPaths(graph, 0));
+    }
+
+    @Test
+    void testRequiresReverseCsr() {
+        Graph graph = new Graph(2);
+        graph.addEdge(0, 1, 1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> SemiringBellmanFord.sequential(Semiring.MIN_PLUS).findPaths(CsrGraph.fromGraph(graph), 0));
+        assertThrows(IllegalArgumentException.class, () -> Semiring.maxTimes(0));
+    }
+}
@@ -0,0 +1,114 @@
+package org.example;
+
+import org.example.algorithm.ParallelBellmanFord;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.algorithm.StreamingBellmanFord;
+import org.example.model.EdgeListFormat;
+import org.example.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingBFTest {
+
+    @Test
+    void testSimpleGraph() throws IOException {
+        String text = "# n m\n5 5\n0 1 3\n0 2 8\n1 3 2\n2 3 -4  # від’ємне ребро\n3 4 1\n";
+
+        int[] dist = new StreamingBellmanFord().findShortestPaths(stream(text), 0);
+
+        assertArrayEquals(new int[]{0, 3, 8, 4, 5}, dist);
+    }
+
+    @Test
+    void testMatchesBatchEngines() throws IOException {
+        // Ваги через потенціали: w = c + p[u] - p[v], c >= 0, тож від’ємних циклів немає
+        int n = 5000;
+        Graph graph = new Graph(n);
+        Random rnd = new Random(13);
+        int[] potential = new int[n];
+        for (int v = 0; v < n; v++) {
+            potential[v] = rnd.nextInt(1000);
+        }
+        for (int i = 0; i < 8 * n; i++) {
+            int u = rnd.nextInt(n);
+            int v = rnd.nextInt(n);
+            graph.addEdge(u, v, rnd.nextInt(50) + potential[u] - potential[v]);
+        }
+        byte[] file = toBytes(graph);
+
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 0);
+        assertArrayEquals(expected,
+                new ParallelBellmanFord(ParallelBellmanFord.Mode.OWNER_COMPUTES).findShortestPaths(graph, 0));
+        // Малі блоки й коротка черга, щоб розбір справді впирався у зворотний тиск
+        StreamingBellmanFord streaming = new StreamingBellmanFord(3, 256, 2);
+        assertArrayEquals(expected, streaming.findShortestPaths(new ByteArrayInputStream(file), 0));
+
+        StreamingBellmanFord.Stats stats = streaming.getLastStats();
+        assertEquals(graph.getEdges().size(), stats.getEdges());
+        assertEquals(file.length, stats.getBytesRead());
+        assertTrue(stats.getPasses() >= 2);
+    }
+
+    @Test
+    void testReadRoundTrip() throws IOException {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, -7);
+        graph.addEdge(3, 2, 2_000_000_000);
+
+        Graph read = EdgeListFormat.read(new ByteArrayInputStream(toBytes(graph)));
+
+        assertEquals(4, read.getVertexCount());
+        assertEquals(2, read.getEdges().size());
+        assertEquals(-7, read.getEdges().get(0).getWeight());
+        assertEquals(2_000_000_000, read.getEdges().get(1).getWeight());
+    }
+
+    @Test
+    void testHeaderEdgeCountMismatch() throws IOException {
+        // Заголовок обіцяє ~2 млрд ребер: без перевірки read() одразу виділив би під них список
+        assertThrows(IOException.class, () -> EdgeListFormat.read(stream("3 2000000000\n0 1 1\n")));
+        assertThrows(IOException.class, () -> EdgeListFormat.read(stream("3 1\n0 1 1\n1 2 1\n")));
+        assertThrows(IOException.class,
+                () -> new StreamingBellmanFord(2, 16, 1).findShortestPaths(stream("3 3\n0 1 1\n1 2 1\n"), 0));
+
+        assertEquals(0, EdgeListFormat.read(stream("5 0 # без ребер\n")).getEdges().size());
+    }
+
+    @Test
+    void testNegativeCycle() throws IOException {
+        String text = "4 4\n0 1 1\n1 2 -1\n2 1 -1\n2 3 1\n";
+
+        assertNull(new StreamingBellmanFord(2, 2, 1).findShortestPaths(stream(text), 0));
+    }
+
+    @Test
+    void testMalformedInputStopsPipeline() {
+        StringBuilder text = new StringBuilder("3 1000\n");
+        for (int i = 0; i < 500; i++) {
+            text.append("0 1 1\n");
+        }
+        text.append("0 7 1\n"); // вершина поза діапазоном
+
+        StreamingBellmanFord engine = new StreamingBellmanFord(2, 16, 1);
+        assertThrows(IOException.class, () -> engine.findShortestPaths(stream(text.toString()), 0));
+        assertThrows(IOException.class, () -> engine.findShortestPaths(stream("3 1\n0 1"), 0));
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] toBytes(Graph graph) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EdgeListFormat.write(graph, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,37 @@
+package org.example;
+
+import org.example.model.Graph;
+
+import java.util.Random;
+
+/** Випадкові графи, спільні для кількох тестів */
+final class TestGraphs {
+
+    private TestGraphs() {
+    }
+
+    /** {@link #potentialGraph(int, int, int, Random)} з потенціалами в [0, 1000) */
+    static Graph potentialGraph(int n, int m, Random rnd) {
+        return potentialGraph(n, m, 1000, rnd);
+    }
+
+    /**
+     * Випадковий граф без від’ємних циклів: w(u, v) = c + p[u] - p[v], де c у [0, 50),
+     * а потенціали p – у [0, maxPotential). Уздовж циклу потенціали скорочуються, тож його вага
+     * дорівнює сумі c >= 0. При maxPotential = 1 усі ваги невід’ємні.
+     * Спершу з rnd беруться потенціали, потім ребра.
+     */
+    static Graph potentialGraph(int n, int m, int maxPotential, Random rnd) {
+        int[] potential = new int[n];
+        for (int v = 0; v < n; v++) {
+            potential[v] = rnd.nextInt(maxPotential);
+        }
+        Graph graph = new Graph(n);
+        for (int i = 0; i < m; i++) {
+            int u = rnd.nextInt(n);
+            int v = rnd.nextInt(n);
+            graph.addEdge(u, v, rnd.nextInt(50) + potential[u] - potential[v]);
+        }
+        return graph;
+    }
+}
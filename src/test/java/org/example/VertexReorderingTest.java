@@ -0,0 +1,76 @@
+package org.example;
+
+import org.example.algorithm.ReorderedShortestPaths;
+import org.example.algorithm.SequentialBellmanFord;
+import org.example.algorithm.VertexReordering;
+import org.example.model.Edge;
+import org.example.model.Graph;
+import org.example.model.RelabeledGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VertexReorderingTest {
+
+    @Test
+    void testReorderedEdgesAreSortedAndPermutationIsBijective() {
+        Graph graph = randomGraph(500, 3000, 1);
+
+        for (VertexReordering.Strategy strategy : VertexReordering.Strategy.values()) {
+            RelabeledGraph reordered = VertexReordering.reorder(graph, strategy, 0);
+            List<Edge> edges = reordered.getGraph().getEdges();
+            assertEquals(graph.getEdges().size(), edges.size());
+            for (int i = 1; i < edges.size(); i++) {
+                Edge a = edges.get(i - 1);
+                Edge b = edges.get(i);
+                assertTrue(a.getU() < b.getU() || (a.getU() == b.getU() && a.getV() <= b.getV()),
+                        strategy + ": edges must be sorted by (u, v)");
+            }
+            for (int v = 0; v < graph.getVertexCount(); v++) {
+                assertEquals(v, reordered.toOriginalId(reordered.toNewId(v)));
+            }
+        }
+    }
+
+    @Test
+    void testResultsMapBackToOriginalIds() {
+        Graph graph = randomGraph(2000, 10000, 2);
+        int[] expected = new SequentialBellmanFord().findShortestPaths(graph, 7);
+        assertNotNull(expected);
+
+        for (VertexReordering.Strategy strategy : VertexReordering.Strategy.values()) {
+            ReorderedShortestPaths bf = new ReorderedShortestPaths(new SequentialBellmanFord(), strategy);
+            assertArrayEquals(expected, bf.findShortestPaths(graph, 7), strategy.toString());
+            // Повторний запит бере перенумерацію з кешу
+            assertArrayEquals(expected, bf.findShortestPaths(graph, 7), strategy.toString());
+            assertEquals(0, bf.getLastPreprocessingNanos());
+        }
+    }
+
+    @Test
+    void testNegativeCycleStaysNull() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, -5);
+
+        ReorderedShortestPaths bf = new ReorderedShortestPaths(
+                new SequentialBellmanFord(), VertexReordering.Strategy.REVERSE_CUTHILL_MCKEE);
+        assertNull(bf.findShortestPaths(graph, 0));
+    }
+
+    private static Graph randomGraph(int n, int m, long seed) {
+        Graph graph = new Graph(n);
+        Random rnd = new Random(seed);
+        for (int i = 0; i < m; i++) {
+            int u = rnd.nextInt(n);
+            int v = rnd.nextInt(n);
+            // Від’ємні ваги лише на ребрах «вперед», тож від’ємних циклів немає
+            graph.addEdge(u, v, u < v ? rnd.nextInt(100) - 10 : rnd.nextInt(100));
+        }
+        return graph;
+    }
+}